@@ -39,9 +39,9 @@ public class AnswerGenerationChain {
     }
 
     /**
-     * 답변 후처리
+     * 답변 후처리 (스트리밍 경로도 완료된 전체 답변에 동일하게 적용)
      */
-    private String postProcess(String answer) {
+    public String postProcess(String answer) {
         // 1. 앞뒤 공백 제거
         String cleaned = answer.trim();
 
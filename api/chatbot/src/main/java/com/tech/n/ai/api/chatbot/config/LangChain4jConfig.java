@@ -1,9 +1,11 @@
 package com.tech.n.ai.api.chatbot.config;
 
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.openai.OpenAiChatModel;
 import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -54,6 +56,22 @@ public class LangChain4jConfig {
             .build();
     }
     
+    /**
+     * Streaming Chat Model Bean (SSE 스트리밍 응답용, chatModel과 동일 설정)
+     */
+    @Bean
+    public StreamingChatModel streamingChatModel() {
+        return OpenAiStreamingChatModel.builder()
+            .apiKey(openAiApiKey)
+            .modelName(chatModelName)
+            .temperature(0.7)
+            .maxTokens(2000)
+            .timeout(Duration.ofSeconds(60))
+            .logRequests(true)
+            .logResponses(true)
+            .build();
+    }
+    
     /**
      * Embedding Model Bean (OpenAI text-embedding-3-small - LLM Provider와 동일, 통합성 최적화)
      * 비용: $0.02 per 1M tokens, 기본 차원: 1536
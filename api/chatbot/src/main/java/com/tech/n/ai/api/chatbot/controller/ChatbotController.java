@@ -18,9 +18,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -39,6 +41,13 @@ public class ChatbotController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter chatStream(
+            @Valid @RequestBody ChatRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return chatbotFacade.chatStream(request, userPrincipal.userId(), userPrincipal.role());
+    }
+
     @GetMapping("/sessions")
     public ResponseEntity<ApiResponse<SessionListResponse>> getSessions(
             @Valid SessionListRequest request,
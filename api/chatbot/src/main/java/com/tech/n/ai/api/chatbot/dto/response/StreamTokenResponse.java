@@ -0,0 +1,8 @@
+package com.tech.n.ai.api.chatbot.dto.response;
+
+/**
+ * 스트리밍 토큰 이벤트 DTO (SSE "token" 이벤트 data)
+ */
+public record StreamTokenResponse(
+    String content
+) {}
@@ -8,13 +8,18 @@ import com.tech.n.ai.common.conversation.dto.SessionResponse;
 import com.tech.n.ai.common.conversation.service.ConversationMessageService;
 import com.tech.n.ai.common.conversation.service.ConversationSessionService;
 import com.tech.n.ai.common.core.dto.PageData;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
@@ -25,10 +30,30 @@ public class ChatbotFacade {
     private final ConversationSessionService conversationSessionService;
     private final ConversationMessageService conversationMessageService;
 
+    private final ExecutorService streamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${chatbot.stream.timeout-ms:120000}")
+    private long streamTimeoutMs;
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+
     public ChatResponse chat(ChatRequest request, Long userId, String userRole) {
         return chatbotService.generateResponse(request, userId, userRole);
     }
 
+    /**
+     * 스트리밍 채팅: 검색/의도 분류 등 선행 작업을 가상 스레드에서 실행하고 즉시 emitter 반환
+     * (서블릿 스레드는 LLM 응답 완료까지 점유되지 않음)
+     */
+    public SseEmitter chatStream(ChatRequest request, Long userId, String userRole) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        streamExecutor.execute(() -> chatbotService.generateStreamingResponse(request, userId, userRole, emitter));
+        return emitter;
+    }
+
     public SessionListResponse listSessions(Long userId, int page, int size, Pageable pageable) {
         Page<SessionResponse> sessionPage = conversationSessionService.listSessions(userId.toString(), pageable);
 
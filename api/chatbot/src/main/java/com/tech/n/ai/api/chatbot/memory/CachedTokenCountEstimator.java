@@ -0,0 +1,115 @@
+package com.tech.n.ai.api.chatbot.memory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tech.n.ai.api.chatbot.service.TokenService;
+import com.tech.n.ai.common.conversation.memory.MongoDbChatMemoryStore;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.TokenCountEstimator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * TokenService 기반 토큰 수 추정기 (TokenWindowChatMemory용)
+ *
+ * TokenWindowChatMemory는 메시지를 추가할 때마다 윈도우 전체의 토큰 수를 다시 계산하므로,
+ * 텍스트별 토큰 수를 캐시하여 같은 메시지를 반복해서 토큰화하지 않습니다.
+ * 캐시 키는 텍스트의 SHA-256 다이제스트로, 긴 메시지 본문을 키로 보관하지 않습니다.
+ * 저장된 token_count(이력 로드, 턴 저장 시 계산값)는 remember()로 미리 적재합니다.
+ *
+ * <p>메시지별 오버헤드는 이력 로드 예산과 같은 값(MongoDbChatMemoryStore.MESSAGE_OVERHEAD_TOKENS)을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CachedTokenCountEstimator implements TokenCountEstimator {
+
+    private final TokenService tokenService;
+
+    @Value("${chatbot.chat-memory.token-cache.max-entries:50000}")
+    private long maxEntries;
+
+    @Value("${chatbot.chat-memory.cache.idle-minutes:30}")
+    private long idleMinutes;
+
+    private Cache<String, Integer> tokenCounts;
+
+    @PostConstruct
+    public void init() {
+        this.tokenCounts = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .build();
+        log.info("Chat memory token count cache initialized: maxEntries={}, idleMinutes={}", maxEntries, idleMinutes);
+    }
+
+    /**
+     * 이미 알고 있는 토큰 수 적재 (재토큰화 방지)
+     */
+    public void remember(String text, Integer tokenCount) {
+        if (text == null || text.isEmpty() || tokenCount == null) {
+            return;
+        }
+        tokenCounts.put(digest(text), tokenCount);
+    }
+
+    @Override
+    public int estimateTokenCountInText(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return tokenCounts.get(digest(text), key -> tokenService.estimateTokens(text));
+    }
+
+    @Override
+    public int estimateTokenCountInMessage(ChatMessage message) {
+        return estimateTokenCountInText(textOf(message)) + MongoDbChatMemoryStore.MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    @Override
+    public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+        int total = 0;
+        for (ChatMessage message : messages) {
+            total += estimateTokenCountInMessage(message);
+        }
+        return total;
+    }
+
+    private static String digest(String text) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 메시지의 텍스트 추출 (텍스트가 없거나 멀티모달이면 null)
+     */
+    static String textOf(ChatMessage message) {
+        if (message instanceof UserMessage user) {
+            return user.hasSingleText() ? user.singleText() : null;
+        } else if (message instanceof AiMessage ai) {
+            return ai.text();
+        } else if (message instanceof SystemMessage system) {
+            return system.text();
+        } else if (message instanceof ToolExecutionResultMessage toolResult) {
+            return toolResult.text();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.tech.n.ai.api.chatbot.memory;
+
+import com.tech.n.ai.common.kafka.event.ConversationMessageCreatedEvent;
+import com.tech.n.ai.common.kafka.event.ConversationSessionDeletedEvent;
+import com.tech.n.ai.common.kafka.event.ConversationSessionsExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대화 이력 캐시 무효화 리스너
+ *
+ * 인스턴스마다 고유한 consumer group으로 구독하여 모든 인스턴스가 같은 이벤트를 받습니다 (브로드캐스트).
+ * 캐시 무효화는 최선 노력이므로 처리 실패 시 전체 캐시를 비우고 offset을 커밋합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chatbot.chat-memory.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ChatMemoryCacheInvalidationListener {
+
+    private final ChatMemoryHistoryCache chatMemoryHistoryCache;
+
+    @KafkaListener(
+        topics = {"tech-n-ai.conversation.message.created", "tech-n-ai.conversation.session.deleted"},
+        groupId = "#{'${spring.application.name:api-chatbot}-chat-memory-' + T(java.util.UUID).randomUUID()}",
+        containerFactory = "kafkaListenerContainerFactory",
+        properties = {"auto.offset.reset=latest"}
+    )
+    public void onEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        try {
+            records.forEach(record -> apply(record.value()));
+        } catch (Exception e) {
+            log.error("Failed to apply chat memory cache invalidation: records={}", records.size(), e);
+            chatMemoryHistoryCache.invalidateAll("listener-error");
+        } finally {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private void apply(Object value) {
+        if (value instanceof ConversationMessageCreatedEvent event) {
+            chatMemoryHistoryCache.onMessageCreated(
+                event.payload().sessionId(), event.payload().role(), event.payload().content());
+        } else if (value instanceof ConversationSessionDeletedEvent event) {
+            chatMemoryHistoryCache.invalidate(event.payload().sessionId(), "session-deleted");
+        } else if (value instanceof ConversationSessionsExpiredEvent event) {
+            event.payload().sessions().forEach(session ->
+                chatMemoryHistoryCache.invalidate(session.sessionId(), "session-expired"));
+        }
+        // 그 외 이벤트는 캐시와 무관
+    }
+}
@@ -0,0 +1,270 @@
+package com.tech.n.ai.api.chatbot.memory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tech.n.ai.common.conversation.dto.MessageCreateRequest;
+import com.tech.n.ai.common.conversation.memory.TokenCountedChatMessage;
+import com.tech.n.ai.common.conversation.service.ConversationMessageService;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션별 대화 이력 캐시 (ChatMemory 로딩용)
+ *
+ * 활성 세션의 최근 메시지 윈도우를 프로세스 내에 유지하여, 매 턴마다 MongoDB에서 이력을 다시 읽지 않도록 합니다.
+ * - 미스: ConversationMessageService.getMessagesForMemory로 토큰 예산(chatbot.chat-memory.max-tokens) 내에서 로드 후 적재
+ * - 로드/추가한 메시지의 token_count는 CachedTokenCountEstimator에 적재하여 재토큰화하지 않음
+ * - 턴 저장 후: 새 메시지를 윈도우 끝에 추가 (재로드 없음)
+ * - 크기(세션 수)와 유휴 시간으로 제거
+ *
+ * 인스턴스 간 일관성은 ConversationMessageCreatedEvent / 세션 삭제 이벤트로 맞춥니다.
+ * 이 인스턴스가 추가한 메시지의 이벤트는 건너뛰고, 다른 인스턴스가 저장한 메시지의 이벤트가 오면 해당 세션을 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMemoryHistoryCache {
+
+    private static final String METRIC_CACHE = "chatbot.chat-memory.cache";
+    private static final String METRIC_HIT_RATIO = "chatbot.chat-memory.cache.hit-ratio";
+    private static final String METRIC_READS_AVOIDED = "chatbot.chat-memory.cache.mongo-reads-avoided";
+    private static final String METRIC_INVALIDATIONS = "chatbot.chat-memory.cache.invalidations";
+    private static final String METRIC_SIZE = "chatbot.chat-memory.cache.size";
+
+    /**
+     * 에코 대기 메시지가 이 수를 넘으면 이벤트가 유실된 것으로 보고 세션을 무효화
+     */
+    private static final int MAX_PENDING_ECHOES = 100;
+
+    private final ConversationMessageService messageService;
+    private final MeterRegistry meterRegistry;
+    private final CachedTokenCountEstimator tokenCountEstimator;
+
+    @Value("${chatbot.chat-memory.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${chatbot.chat-memory.cache.max-sessions:10000}")
+    private long maxSessions;
+
+    @Value("${chatbot.chat-memory.cache.idle-minutes:30}")
+    private long idleMinutes;
+
+    @Value("${chatbot.chat-memory.cache.max-messages:50}")
+    private int maxMessages;
+
+    @Value("${chatbot.chat-memory.max-tokens:2000}")
+    private int maxTokens;
+
+    private Cache<String, History> histories;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter readsAvoidedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.histories = Caffeine.newBuilder()
+            .maximumSize(maxSessions)
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .build();
+
+        this.hitCounter = Counter.builder(METRIC_CACHE)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_CACHE)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.readsAvoidedCounter = Counter.builder(METRIC_READS_AVOIDED)
+            .description("캐시 적중으로 생략된 MongoDB 이력 조회 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_HIT_RATIO, this, ChatMemoryHistoryCache::hitRatio)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_SIZE, this, cache -> cache.histories.estimatedSize())
+            .register(meterRegistry);
+
+        log.info("Chat memory history cache initialized: enabled={}, maxSessions={}, idleMinutes={}, maxMessages={}",
+            cacheEnabled, maxSessions, idleMinutes, maxMessages);
+    }
+
+    /**
+     * 세션의 최근 대화 이력 조회 (오름차순)
+     */
+    public List<ChatMessage> getHistory(String sessionId) {
+        if (!cacheEnabled) {
+            return load(sessionId);
+        }
+
+        History cached = histories.getIfPresent(sessionId);
+        if (cached != null) {
+            hitCounter.increment();
+            readsAvoidedCounter.increment();
+            return cached.snapshot();
+        }
+
+        missCounter.increment();
+        History loaded = histories.get(sessionId, id -> new History(load(id), maxMessages));
+        return loaded.snapshot();
+    }
+
+    /**
+     * 토큰 예산 내 최근 이력 로드 (저장된 token_count를 토큰 수 캐시에 적재)
+     */
+    private List<ChatMessage> load(String sessionId) {
+        List<TokenCountedChatMessage> loaded = messageService.getMessagesForMemory(
+            sessionId, maxTokens, tokenCountEstimator::estimateTokenCountInText);
+
+        List<ChatMessage> messages = new ArrayList<>(loaded.size());
+        for (TokenCountedChatMessage counted : loaded) {
+            tokenCountEstimator.remember(CachedTokenCountEstimator.textOf(counted.message()), counted.tokenCount());
+            messages.add(counted.message());
+        }
+        return messages;
+    }
+
+    /**
+     * 저장한 메시지를 캐시된 윈도우 끝에 추가 (캐시에 없는 세션은 다음 조회 시 로드)
+     */
+    public void append(String sessionId, List<MessageCreateRequest> messages) {
+        messages.forEach(message -> tokenCountEstimator.remember(message.content(), message.tokenCount()));
+        if (!cacheEnabled) {
+            return;
+        }
+
+        History cached = histories.getIfPresent(sessionId);
+        if (cached != null && !cached.append(messages, maxMessages)) {
+            invalidate(sessionId, "echo-overflow");
+        }
+    }
+
+    /**
+     * 메시지 생성 이벤트 반영
+     * 이 인스턴스가 추가한 메시지면 무시하고, 그 외(다른 인스턴스 저장, 로드 이후 반영된 메시지)는 세션 무효화
+     */
+    public void onMessageCreated(String sessionId, String role, String content) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        History cached = histories.getIfPresent(sessionId);
+        if (cached != null && !cached.consumeEcho(role, content)) {
+            invalidate(sessionId, "remote-message");
+        }
+    }
+
+    /**
+     * 세션 캐시 무효화
+     */
+    public void invalidate(String sessionId, String reason) {
+        if (!cacheEnabled || histories.getIfPresent(sessionId) == null) {
+            return;
+        }
+
+        histories.invalidate(sessionId);
+        meterRegistry.counter(METRIC_INVALIDATIONS, "reason", reason).increment();
+        log.debug("Chat memory history invalidated: sessionId={}, reason={}", sessionId, reason);
+    }
+
+    /**
+     * 전체 무효화 (무효화 이벤트 처리 실패 시)
+     */
+    public void invalidateAll(String reason) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        histories.invalidateAll();
+        meterRegistry.counter(METRIC_INVALIDATIONS, "reason", reason).increment();
+        log.warn("Chat memory history cache cleared: reason={}", reason);
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0.0 : hitCounter.count() / total;
+    }
+
+    private static String echoKey(String role, String content) {
+        return role + ":" + content.length() + ":" + content.hashCode();
+    }
+
+    /**
+     * 세션별 최근 메시지 윈도우와 이벤트 에코 대기 목록
+     */
+    private static final class History {
+
+        private final Deque<ChatMessage> messages;
+        private final Map<String, Integer> pendingEchoes = new HashMap<>();
+        private int pendingCount;
+
+        private History(List<ChatMessage> loaded, int maxMessages) {
+            this.messages = new ArrayDeque<>(loaded);
+            trim(maxMessages);
+        }
+
+        private synchronized List<ChatMessage> snapshot() {
+            return List.copyOf(messages);
+        }
+
+        /**
+         * @return 에코 대기 목록이 한도 이내이면 true
+         */
+        private synchronized boolean append(List<MessageCreateRequest> requests, int maxMessages) {
+            for (MessageCreateRequest request : requests) {
+                messages.addLast(toChatMessage(request.role(), request.content()));
+                pendingEchoes.merge(echoKey(request.role(), request.content()), 1, Integer::sum);
+                pendingCount++;
+            }
+            trim(maxMessages);
+            return pendingCount <= MAX_PENDING_ECHOES;
+        }
+
+        /**
+         * @return 이 인스턴스가 추가한 메시지의 이벤트이면 true
+         */
+        private synchronized boolean consumeEcho(String role, String content) {
+            String key = echoKey(role, content);
+            Integer count = pendingEchoes.get(key);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                pendingEchoes.remove(key);
+            } else {
+                pendingEchoes.put(key, count - 1);
+            }
+            pendingCount--;
+            return true;
+        }
+
+        private void trim(int maxMessages) {
+            while (messages.size() > maxMessages) {
+                messages.removeFirst();
+            }
+        }
+
+        private static ChatMessage toChatMessage(String role, String content) {
+            return switch (role) {
+                case "SYSTEM" -> new SystemMessage(content);
+                case "USER" -> new UserMessage(content);
+                case "ASSISTANT" -> new AiMessage(content);
+                default -> throw new IllegalArgumentException("Unknown message role: " + role);
+            };
+        }
+    }
+}
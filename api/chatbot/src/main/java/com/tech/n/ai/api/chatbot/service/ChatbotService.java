@@ -2,6 +2,7 @@ package com.tech.n.ai.api.chatbot.service;
 
 import com.tech.n.ai.api.chatbot.dto.request.ChatRequest;
 import com.tech.n.ai.api.chatbot.dto.response.ChatResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 챗봇 서비스 인터페이스
@@ -16,4 +17,18 @@ public interface ChatbotService {
      * @return 챗봇 응답
      */
     ChatResponse generateResponse(ChatRequest request, Long userId, String userRole);
+
+    /**
+     * 챗봇 응답 스트리밍 생성 (SSE)
+     *
+     * 이벤트 순서: session → sources(RAG/Web 검색 시) → token(반복) → done
+     * 오류 발생 시 error 이벤트 후 스트림을 종료합니다.
+     * 메시지 저장과 토큰 사용량 기록은 스트림 완료 시점에 수행됩니다.
+     *
+     * @param request 챗봇 요청
+     * @param userId JWT에서 추출한 사용자 ID
+     * @param userRole 사용자 역할
+     * @param emitter SSE emitter
+     */
+    void generateStreamingResponse(ChatRequest request, Long userId, String userRole, SseEmitter emitter);
 }
@@ -7,26 +7,42 @@ import com.tech.n.ai.api.chatbot.converter.MessageFormatConverter;
 import com.tech.n.ai.api.chatbot.dto.request.ChatRequest;
 import com.tech.n.ai.api.chatbot.dto.response.ChatResponse;
 import com.tech.n.ai.api.chatbot.dto.response.SourceResponse;
+import com.tech.n.ai.api.chatbot.dto.response.StreamTokenResponse;
+import com.tech.n.ai.api.chatbot.memory.ChatMemoryHistoryCache;
 import com.tech.n.ai.api.chatbot.memory.ConversationChatMemoryProvider;
+import com.tech.n.ai.common.conversation.dto.MessageCreateRequest;
 import com.tech.n.ai.common.conversation.service.ConversationMessageService;
 import com.tech.n.ai.common.conversation.service.ConversationSessionService;
+import com.tech.n.ai.api.chatbot.service.dto.AnswerCacheLookup;
+import com.tech.n.ai.api.chatbot.service.dto.CachedAnswer;
 import com.tech.n.ai.api.chatbot.service.dto.Intent;
 import com.tech.n.ai.api.chatbot.service.dto.SearchOptions;
 import com.tech.n.ai.api.chatbot.service.dto.SearchQuery;
 import com.tech.n.ai.api.chatbot.service.dto.SearchResult;
 import com.tech.n.ai.api.chatbot.service.dto.WebSearchDocument;
+import com.tech.n.ai.common.core.constants.ErrorCodeConstants;
+import com.tech.n.ai.common.core.dto.ApiResponse;
+import com.tech.n.ai.common.core.dto.MessageCode;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,6 +53,7 @@ public class ChatbotServiceImpl implements ChatbotService {
     private final ConversationSessionService sessionService;
     private final ConversationMessageService messageService;
     private final ConversationChatMemoryProvider memoryProvider;
+    private final ChatMemoryHistoryCache chatMemoryHistoryCache;
     private final LLMService llmService;
     private final TokenService tokenService;
     private final IntentClassificationService intentService;
@@ -50,6 +67,16 @@ public class ChatbotServiceImpl implements ChatbotService {
     private final AgentDelegationService agentDelegationService;
     private final MessageFormatConverter messageConverter;
     private final SessionTitleGenerationService titleGenerationService;
+    private final MeterRegistry meterRegistry;
+    private final SemanticAnswerCacheService answerCacheService;
+
+    private static final String EVENT_SESSION = "session";
+    private static final String EVENT_SOURCES = "sources";
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
+    private static final String METRIC_STREAM_TTFT = "chatbot.stream.ttft";
+    private static final String METRIC_STREAM_DURATION = "chatbot.stream.duration";
     
     @Value("${chatbot.rag.max-search-results:5}")
     private int maxSearchResults;
@@ -161,6 +188,26 @@ public class ChatbotServiceImpl implements ChatbotService {
         SearchQuery searchQuery = inputChain.interpret(request.message());
         SearchOptions searchOptions = buildSearchOptions(searchQuery);
 
+        AnswerCacheLookup cacheLookup = lookupAnswerCache(searchQuery, searchOptions);
+        if (cacheLookup.isHit()) {
+            return new RAGResult(cacheLookup.answer().response(), cacheLookup.answer().sources());
+        }
+
+        List<SearchResult> refinedResults = retrieveRAGResults(request, userId, searchQuery, searchOptions);
+
+        String response = answerChain.generate(request.message(), refinedResults);
+        List<SourceResponse> sources = toSources(refinedResults);
+
+        storeAnswerCache(cacheLookup, new CachedAnswer(
+            response, sources, estimateRAGTokens(request.message(), refinedResults, response)));
+        return new RAGResult(response, sources);
+    }
+
+    /**
+     * RAG 검색 + 정제 (답변 생성 전 단계, 동기/스트리밍 경로 공통)
+     */
+    private List<SearchResult> retrieveRAGResults(ChatRequest request, Long userId,
+                                                  SearchQuery searchQuery, SearchOptions searchOptions) {
         List<SearchResult> searchResults =
             vectorSearchService.search(searchQuery.query(), userId, searchOptions);
         log.info("RAG search completed: {} results for query: {}", searchResults.size(), searchQuery.query());
@@ -171,9 +218,43 @@ public class ChatbotServiceImpl implements ChatbotService {
             request.message(), searchResults, recencyDetected, scoreFusionApplied);
         log.info("RAG refinement completed: {} -> {} results (recencyDetected={}, scoreFusionApplied={})",
             searchResults.size(), refinedResults.size(), recencyDetected, scoreFusionApplied);
+        return refinedResults;
+    }
 
-        String response = answerChain.generate(request.message(), refinedResults);
+    /**
+     * 시맨틱 답변 캐시 조회 (캐시 장애 시 미스로 처리)
+     */
+    private AnswerCacheLookup lookupAnswerCache(SearchQuery searchQuery, SearchOptions searchOptions) {
+        try {
+            return answerCacheService.lookup(searchQuery.query(), searchOptions);
+        } catch (Exception e) {
+            log.warn("Semantic answer cache lookup failed: query={}", searchQuery.query(), e);
+            return AnswerCacheLookup.disabled();
+        }
+    }
 
+    private void storeAnswerCache(AnswerCacheLookup cacheLookup, CachedAnswer answer) {
+        try {
+            answerCacheService.store(cacheLookup, answer);
+        } catch (Exception e) {
+            log.warn("Semantic answer cache store failed", e);
+        }
+    }
+
+    /**
+     * RAG 답변 생성 LLM 토큰 추정 (질문 + 검색 컨텍스트 + 답변)
+     */
+    private int estimateRAGTokens(String message, List<SearchResult> refinedResults, String response) {
+        int tokens = tokenService.estimateTokens(message) + tokenService.estimateTokens(response);
+        for (SearchResult result : refinedResults) {
+            if (result.text() != null) {
+                tokens += tokenService.estimateTokens(result.text());
+            }
+        }
+        return tokens;
+    }
+
+    private List<SourceResponse> toSources(List<SearchResult> refinedResults) {
         List<SourceResponse> sources = refinedResults.stream()
             .map(r -> {
                 String title = null;
@@ -196,7 +277,7 @@ public class ChatbotServiceImpl implements ChatbotService {
         sources.forEach(s -> log.info("RAG source: title={}, url={}, score={}, type={}",
             s.title(), s.url(), s.score(), s.collectionType()));
 
-        return new RAGResult(response, sources);
+        return sources;
     }
     
     private SearchOptions buildSearchOptions(SearchQuery searchQuery) {
@@ -219,7 +300,7 @@ public class ChatbotServiceImpl implements ChatbotService {
      * 히스토리를 ChatMemory에 로드 (한 번만 호출)
      */
     private void loadHistoryToMemory(String sessionId, ChatMemory chatMemory) {
-        List<ChatMessage> history = messageService.getMessagesForMemory(sessionId, null);
+        List<ChatMessage> history = chatMemoryHistoryCache.getHistory(sessionId);
         history.forEach(chatMemory::add);
     }
 
@@ -241,11 +322,12 @@ public class ChatbotServiceImpl implements ChatbotService {
             chatMemory.add(AiMessage.from(assistantMessage));
         }
 
-        // DB에 저장
-        messageService.saveMessage(sessionId, "USER", userMessage,
-            tokenService.estimateTokens(userMessage));
-        messageService.saveMessage(sessionId, "ASSISTANT", assistantMessage,
-            tokenService.estimateTokens(assistantMessage));
+        // DB에 저장 (한 턴을 sequence 예약 1회 + batch INSERT로 저장)
+        List<MessageCreateRequest> turn = List.of(
+            new MessageCreateRequest("USER", userMessage, tokenService.estimateTokens(userMessage)),
+            new MessageCreateRequest("ASSISTANT", assistantMessage, tokenService.estimateTokens(assistantMessage)));
+        messageService.saveMessages(sessionId, turn);
+        chatMemoryHistoryCache.append(sessionId, turn);
     }
     
     private void trackTokenUsage(String sessionId, Long userId, String input, String output) {
@@ -268,14 +350,222 @@ public class ChatbotServiceImpl implements ChatbotService {
         String prompt = promptService.buildWebSearchPrompt(request.message(), webResults);
         String response = llmService.generate(prompt);
 
-        List<SourceResponse> sources = webResults.stream()
+        return new WebSearchResult(response, toWebSources(webResults));
+    }
+
+    private List<SourceResponse> toWebSources(List<WebSearchDocument> webResults) {
+        return webResults.stream()
             .map(doc -> SourceResponse.builder()
                 .title(doc.title())
                 .url(doc.url())
                 .build())
             .collect(Collectors.toList());
+    }
+
+    // ========== 스트리밍 (SSE) ==========
+
+    @Override
+    public void generateStreamingResponse(ChatRequest request, Long userId, String userRole, SseEmitter emitter) {
+        long startNanos = System.nanoTime();
+        Intent intent = null;
+        try {
+            boolean isNewSession = request.conversationId() == null || request.conversationId().isBlank();
+            String sessionId = getOrCreateSession(request, userId);
+            ChatMemory chatMemory = memoryProvider.get(sessionId);
+
+            if (!isNewSession) {
+                loadHistoryToMemory(sessionId, chatMemory);
+            }
+            sendEvent(emitter, EVENT_SESSION, ChatResponse.builder().conversationId(sessionId).build());
+
+            intent = intentService.classifyIntent(request.message());
+            log.info("Intent classified (stream): {} for message: {}", intent, request.message());
+
+            StreamingTurn turn = new StreamingTurn(
+                emitter, request, sessionId, chatMemory, isNewSession, userId, intent, startNanos);
+
+            switch (intent) {
+                case AGENT_COMMAND -> {
+                    // Agent 위임은 스트리밍을 지원하지 않으므로 단일 청크로 전송
+                    String response = handleAgentCommand(request, userId, userRole);
+                    turn.onPartialResponse(response);
+                    turn.complete(response, null, null);
+                }
+                case WEB_SEARCH_REQUIRED -> {
+                    List<WebSearchDocument> webResults = webSearchService.search(request.message());
+                    turn.sources = toWebSources(webResults);
+                    sendEvent(emitter, EVENT_SOURCES, turn.sources);
+                    String prompt = webResults.isEmpty()
+                        ? request.message()
+                        : promptService.buildWebSearchPrompt(request.message(), webResults);
+                    llmService.generateStream(prompt, turn);
+                }
+                case RAG_REQUIRED -> {
+                    SearchQuery searchQuery = inputChain.interpret(request.message());
+                    SearchOptions searchOptions = buildSearchOptions(searchQuery);
+                    AnswerCacheLookup cacheLookup = lookupAnswerCache(searchQuery, searchOptions);
+                    if (cacheLookup.isHit()) {
+                        // 캐시 히트: 저장된 답변을 단일 청크로 전송
+                        turn.sources = cacheLookup.answer().sources();
+                        sendEvent(emitter, EVENT_SOURCES, turn.sources);
+                        turn.onPartialResponse(cacheLookup.answer().response());
+                        turn.complete(cacheLookup.answer().response(), null, null);
+                        return;
+                    }
+
+                    List<SearchResult> refinedResults =
+                        retrieveRAGResults(request, userId, searchQuery, searchOptions);
+                    turn.sources = toSources(refinedResults);
+                    turn.cacheLookup = cacheLookup;
+                    sendEvent(emitter, EVENT_SOURCES, turn.sources);
+                    llmService.generateStream(promptService.buildPrompt(request.message(), refinedResults), turn);
+                }
+                default -> {
+                    chatMemory.add(UserMessage.from(request.message()));
+                    Object providerFormat = messageConverter.convertToProviderFormat(chatMemory.messages(), null);
+                    turn.addToMemoryOnComplete = true;
+                    llmService.generateStream(providerFormat.toString(), turn);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to start streaming response", e);
+            recordStreamDuration(intent, "error", startNanos);
+            sendError(emitter);
+        }
+    }
+
+    /**
+     * 스트리밍 한 턴의 상태 및 LLM 콜백 처리
+     *
+     * 첫 토큰 수신 시 TTFT를, 완료/오류 시 전체 스트림 시간을 기록합니다.
+     * 클라이언트 연결이 끊겨도 완료 시 메시지 저장은 동기 경로와 동일하게 수행합니다.
+     */
+    private class StreamingTurn implements StreamingChatResponseHandler {
+
+        private final SseEmitter emitter;
+        private final ChatRequest request;
+        private final String sessionId;
+        private final ChatMemory chatMemory;
+        private final boolean isNewSession;
+        private final Long userId;
+        private final Intent intent;
+        private final long startNanos;
+        private final AtomicBoolean firstToken = new AtomicBoolean(true);
+        private final AtomicBoolean clientConnected = new AtomicBoolean(true);
+        private List<SourceResponse> sources = Collections.emptyList();
+        private boolean addToMemoryOnComplete;
+        private AnswerCacheLookup cacheLookup;
+
+        private StreamingTurn(SseEmitter emitter, ChatRequest request, String sessionId, ChatMemory chatMemory,
+                              boolean isNewSession, Long userId, Intent intent, long startNanos) {
+            this.emitter = emitter;
+            this.request = request;
+            this.sessionId = sessionId;
+            this.chatMemory = chatMemory;
+            this.isNewSession = isNewSession;
+            this.userId = userId;
+            this.intent = intent;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onPartialResponse(String partialResponse) {
+            if (firstToken.compareAndSet(true, false)) {
+                Timer.builder(METRIC_STREAM_TTFT)
+                    .tag("intent", intent.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            if (clientConnected.get() && !sendEvent(emitter, EVENT_TOKEN, new StreamTokenResponse(partialResponse))) {
+                clientConnected.set(false);
+                log.info("SSE client disconnected, continuing to persist response: sessionId={}", sessionId);
+            }
+        }
+
+        @Override
+        public void onCompleteResponse(dev.langchain4j.model.chat.response.ChatResponse completeResponse) {
+            String response = completeResponse.aiMessage().text() != null
+                ? completeResponse.aiMessage().text().trim() : "";
+            if (intent == Intent.RAG_REQUIRED) {
+                // 동기 경로와 같은 답변을 저장/캐시하도록 동일한 후처리 적용
+                response = answerChain.postProcess(response);
+            }
+            dev.langchain4j.model.output.TokenUsage usage = completeResponse.tokenUsage();
+            complete(response,
+                usage != null ? usage.inputTokenCount() : null,
+                usage != null ? usage.outputTokenCount() : null);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            log.error("LLM streaming failed: sessionId={}", sessionId, error);
+            recordStreamDuration(intent, "error", startNanos);
+            sendError(emitter);
+        }
+
+        private void complete(String response, Integer inputTokens, Integer outputTokens) {
+            try {
+                if (addToMemoryOnComplete) {
+                    chatMemory.add(AiMessage.from(response));
+                }
+                saveCurrentMessages(sessionId, chatMemory, request.message(), response);
+                sessionService.updateLastMessageAt(sessionId);
+                if (inputTokens != null && outputTokens != null) {
+                    tokenService.trackUsage(sessionId, userId.toString(), inputTokens, outputTokens);
+                } else {
+                    trackTokenUsage(sessionId, userId, request.message(), response);
+                }
+                if (cacheLookup != null) {
+                    int llmTokens = inputTokens != null && outputTokens != null
+                        ? inputTokens + outputTokens
+                        : tokenService.estimateTokens(request.message()) + tokenService.estimateTokens(response);
+                    storeAnswerCache(cacheLookup, new CachedAnswer(response, sources, llmTokens));
+                }
+                if (isNewSession) {
+                    titleGenerationService.generateAndSaveTitleAsync(
+                        sessionId, userId, request.message(), response);
+                }
+
+                sendEvent(emitter, EVENT_DONE, ChatResponse.builder()
+                    .response(response)
+                    .conversationId(sessionId)
+                    .title(null)
+                    .sources(sources)
+                    .build());
+                recordStreamDuration(intent, "success", startNanos);
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("Failed to complete streaming response: sessionId={}", sessionId, e);
+                recordStreamDuration(intent, "error", startNanos);
+                sendError(emitter);
+            }
+        }
+    }
+
+    private boolean sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send SSE event: name={}, reason={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private void sendError(SseEmitter emitter) {
+        sendEvent(emitter, EVENT_ERROR, ApiResponse.error(ErrorCodeConstants.INTERNAL_SERVER_ERROR,
+            new MessageCode(ErrorCodeConstants.MESSAGE_CODE_INTERNAL_SERVER_ERROR, "응답 생성 중 오류가 발생했습니다.")));
+        emitter.complete();
+    }
 
-        return new WebSearchResult(response, sources);
+    private void recordStreamDuration(Intent intent, String outcome, long startNanos) {
+        Timer.builder(METRIC_STREAM_DURATION)
+            .tag("intent", intent != null ? intent.name() : "UNKNOWN")
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 
     private record RAGResult(String response, List<SourceResponse> sources) {}
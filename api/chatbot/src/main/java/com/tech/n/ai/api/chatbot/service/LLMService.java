@@ -1,5 +1,7 @@
 package com.tech.n.ai.api.chatbot.service;
 
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+
 /**
  * LLM 서비스 인터페이스
  */
@@ -12,4 +14,15 @@ public interface LLMService {
      * @return LLM 응답
      */
     String generate(String prompt);
+
+    /**
+     * LLM 응답 스트리밍 생성
+     *
+     * 토큰 단위 부분 응답, 완료, 오류는 handler 콜백으로 전달됩니다.
+     * 콜백은 LLM 클라이언트 스레드에서 호출되며, 이 메서드는 즉시 반환됩니다.
+     *
+     * @param prompt 프롬프트
+     * @param handler 스트리밍 응답 핸들러
+     */
+    void generateStream(String prompt, StreamingChatResponseHandler handler);
 }
@@ -1,6 +1,8 @@
 package com.tech.n.ai.api.chatbot.service;
 
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 public class LLMServiceImpl implements LLMService {
     
     private final ChatModel chatModel;
+    private final StreamingChatModel streamingChatModel;
     
     @Override
     public String generate(String prompt) {
@@ -24,4 +27,14 @@ public class LLMServiceImpl implements LLMService {
             throw new RuntimeException("LLM 응답 생성 실패", e);
         }
     }
+
+    @Override
+    public void generateStream(String prompt, StreamingChatResponseHandler handler) {
+        try {
+            streamingChatModel.chat(prompt, handler);
+        } catch (Exception e) {
+            log.error("Failed to start LLM streaming response", e);
+            handler.onError(new RuntimeException("LLM 스트리밍 응답 생성 실패", e));
+        }
+    }
 }
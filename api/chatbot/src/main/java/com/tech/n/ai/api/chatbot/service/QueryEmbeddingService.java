@@ -0,0 +1,23 @@
+package com.tech.n.ai.api.chatbot.service;
+
+/**
+ * 쿼리 임베딩 서비스 인터페이스
+ */
+public interface QueryEmbeddingService {
+
+    /**
+     * 쿼리 임베딩 조회 (캐시 우선, 미스 시 EmbeddingModel 호출)
+     *
+     * @param query 검색 쿼리
+     * @return 임베딩 벡터
+     */
+    float[] embed(String query);
+
+    /**
+     * 캐시 키 생성을 위한 쿼리 정규화
+     *
+     * @param query 검색 쿼리
+     * @return 정규화된 쿼리
+     */
+    String normalize(String query);
+}
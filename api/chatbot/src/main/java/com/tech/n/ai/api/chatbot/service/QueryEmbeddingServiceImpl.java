@@ -0,0 +1,202 @@
+package com.tech.n.ai.api.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 쿼리 임베딩 서비스 구현체
+ *
+ * 2단계 캐시로 동일/유사 표현 쿼리의 임베딩 API 호출을 제거합니다.
+ * - L1: 프로세스 내 Caffeine (W-TinyLFU, 크기 제한)
+ * - L2: Redis (redisTemplateForObjects, 인스턴스 간 공유)
+ *
+ * 벡터는 float[]로 보관하고, Redis에는 little-endian float 바이트를 Base64 문자열로 저장합니다.
+ * (List&lt;Float&gt; JSON 대비 약 1/2 크기)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueryEmbeddingServiceImpl implements QueryEmbeddingService {
+
+    private static final String CACHE_KEY_PREFIX = "chatbot:embedding:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String METRIC_CACHE = "chatbot.embedding.cache";
+    private static final String METRIC_LATENCY = "chatbot.embedding.latency";
+
+    private final EmbeddingModel embeddingModel;
+
+    @Qualifier("redisTemplateForObjects")
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.cache.embedding.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${chatbot.cache.embedding.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${chatbot.cache.embedding.redis-ttl-hours:24}")
+    private int redisTtlHours;
+
+    @Value("${langchain4j.open-ai.embedding-model.model-name:text-embedding-3-small}")
+    private String embeddingModelName;
+
+    private Cache<String, float[]> localCache;
+    private Counter localHitCounter;
+    private Counter redisHitCounter;
+    private Counter missCounter;
+    private Timer cacheLatencyTimer;
+    private Timer modelLatencyTimer;
+
+    @PostConstruct
+    public void init() {
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .build();
+
+        this.localHitCounter = Counter.builder(METRIC_CACHE)
+            .tag("tier", "local").tag("result", "hit")
+            .register(meterRegistry);
+        this.redisHitCounter = Counter.builder(METRIC_CACHE)
+            .tag("tier", "redis").tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_CACHE)
+            .tag("tier", "all").tag("result", "miss")
+            .register(meterRegistry);
+        this.cacheLatencyTimer = Timer.builder(METRIC_LATENCY)
+            .tag("source", "cache")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.modelLatencyTimer = Timer.builder(METRIC_LATENCY)
+            .tag("source", "model")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+
+        log.info("Query embedding cache initialized: enabled={}, localMaxSize={}, redisTtlHours={}",
+            cacheEnabled, localMaxSize, redisTtlHours);
+    }
+
+    @Override
+    public float[] embed(String query) {
+        if (!cacheEnabled) {
+            return embedWithModel(query);
+        }
+
+        long start = System.nanoTime();
+        String key = buildKey(normalize(query));
+
+        // 1. L1 (프로세스 내)
+        float[] vector = localCache.getIfPresent(key);
+        if (vector != null) {
+            localHitCounter.increment();
+            cacheLatencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return vector;
+        }
+
+        // 2. L2 (Redis)
+        vector = getFromRedis(key);
+        if (vector != null) {
+            redisHitCounter.increment();
+            localCache.put(key, vector);
+            cacheLatencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return vector;
+        }
+
+        // 3. 미스: EmbeddingModel 호출 후 양쪽 캐시에 적재
+        missCounter.increment();
+        vector = embedWithModel(query);
+        localCache.put(key, vector);
+        putToRedis(key, vector);
+        return vector;
+    }
+
+    /**
+     * 쿼리 정규화: 유니코드 NFKC → 소문자 → 공백 축약 → trim
+     */
+    @Override
+    public String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private float[] embedWithModel(String query) {
+        return modelLatencyTimer.record(() -> embeddingModel.embed(query).content().vector());
+    }
+
+    /**
+     * 캐시 키: prefix + 모델명 + SHA-256(정규화 쿼리)
+     * 모델명을 포함하여 임베딩 모델 변경 시 이전 벡터가 재사용되지 않도록 합니다.
+     */
+    private String buildKey(String normalizedQuery) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(normalizedQuery.getBytes(StandardCharsets.UTF_8));
+            return CACHE_KEY_PREFIX + embeddingModelName + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private float[] getFromRedis(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            if (value instanceof String encoded) {
+                return decode(encoded);
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to get embedding cache from Redis: key={}", key, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(String key, float[] vector) {
+        try {
+            redisTemplate.opsForValue().set(key, encode(vector), Duration.ofHours(redisTtlHours));
+        } catch (Exception e) {
+            log.warn("Failed to put embedding cache to Redis: key={}", key, e);
+        }
+    }
+
+    static String encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    static float[] decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] vector = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+}
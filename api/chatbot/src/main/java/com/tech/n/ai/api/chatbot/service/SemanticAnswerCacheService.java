@@ -0,0 +1,28 @@
+package com.tech.n.ai.api.chatbot.service;
+
+import com.tech.n.ai.api.chatbot.service.dto.AnswerCacheLookup;
+import com.tech.n.ai.api.chatbot.service.dto.CachedAnswer;
+import com.tech.n.ai.api.chatbot.service.dto.SearchOptions;
+
+/**
+ * RAG 답변 시맨틱 캐시 서비스 인터페이스
+ */
+public interface SemanticAnswerCacheService {
+
+    /**
+     * 쿼리 임베딩 최근접 이웃 조회 (동일 provider/updateType 범위 내, 유사도 임계값 이상)
+     *
+     * @param query 검색 쿼리
+     * @param searchOptions 검색 옵션 (provider/updateType 필터가 캐시 범위를 결정)
+     * @return 조회 결과 (미스인 경우에도 저장에 필요한 컨텍스트 포함)
+     */
+    AnswerCacheLookup lookup(String query, SearchOptions searchOptions);
+
+    /**
+     * 답변 저장 (미스였던 조회 결과 기준)
+     *
+     * @param lookup 조회 결과
+     * @param answer 생성된 답변
+     */
+    void store(AnswerCacheLookup lookup, CachedAnswer answer);
+}
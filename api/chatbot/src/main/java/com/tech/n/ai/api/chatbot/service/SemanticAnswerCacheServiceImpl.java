@@ -0,0 +1,260 @@
+package com.tech.n.ai.api.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tech.n.ai.api.chatbot.service.dto.AnswerCacheLookup;
+import com.tech.n.ai.api.chatbot.service.dto.CachedAnswer;
+import com.tech.n.ai.api.chatbot.service.dto.SearchOptions;
+import com.tech.n.ai.common.core.constants.CacheKeyConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RAG 답변 시맨틱 캐시 구현체
+ *
+ * 쿼리 임베딩의 코사인 유사도가 임계값 이상인 기존 답변을 재사용하여
+ * 의미상 동일한 질문에 대한 검색/정제/LLM 생성을 생략합니다.
+ *
+ * - 범위(scope): provider 필터 + updateType 필터 + 최신성 여부. 범위가 다르면 매칭하지 않습니다.
+ * - 저장소: 프로세스 내 Caffeine (범위별 버킷, 버킷당 엔트리 수 제한, TTL)
+ * - 무효화: emerging-tech API가 게시 시 INCR하는 provider별 세대 카운터(Redis)와
+ *   저장 시점의 세대 값을 비교하여, 달라진 엔트리는 조회 시 제거합니다. (인스턴스 간 공유)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SemanticAnswerCacheServiceImpl implements SemanticAnswerCacheService {
+
+    private static final String METRIC_REQUESTS = "chatbot.answer-cache.requests";
+    private static final String METRIC_HIT_RATIO = "chatbot.answer-cache.hit-ratio";
+    private static final String METRIC_TOKENS_SAVED = "chatbot.answer-cache.tokens-saved";
+
+    private final QueryEmbeddingService queryEmbeddingService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.cache.answer.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${chatbot.cache.answer.similarity-threshold:0.95}")
+    private double similarityThreshold;
+
+    @Value("${chatbot.cache.answer.max-scopes:200}")
+    private long maxScopes;
+
+    @Value("${chatbot.cache.answer.max-entries-per-scope:50}")
+    private int maxEntriesPerScope;
+
+    @Value("${chatbot.cache.answer.ttl-hours:1}")
+    private int ttlHours;
+
+    private Cache<String, ScopeBucket> buckets;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter tokensSavedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxScopes)
+            .expireAfterAccess(Duration.ofHours(ttlHours))
+            .build();
+
+        this.hitCounter = Counter.builder(METRIC_REQUESTS)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_REQUESTS)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.tokensSavedCounter = Counter.builder(METRIC_TOKENS_SAVED)
+            .description("캐시 히트로 생략된 LLM 토큰 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_HIT_RATIO, this, SemanticAnswerCacheServiceImpl::hitRatio)
+            .register(meterRegistry);
+
+        log.info("Semantic answer cache initialized: enabled={}, similarityThreshold={}, maxScopes={}, maxEntriesPerScope={}",
+            cacheEnabled, similarityThreshold, maxScopes, maxEntriesPerScope);
+    }
+
+    @Override
+    public AnswerCacheLookup lookup(String query, SearchOptions searchOptions) {
+        if (!cacheEnabled) {
+            return AnswerCacheLookup.disabled();
+        }
+
+        Map<String, Long> generations = currentGenerations(searchOptions.providerFilters());
+        if (generations == null) {
+            // 세대 값을 확인할 수 없으면 무효화를 보장할 수 없으므로 캐시를 사용하지 않음
+            return AnswerCacheLookup.disabled();
+        }
+
+        float[] queryVector = normalize(queryEmbeddingService.embed(query));
+        String scope = buildScope(searchOptions);
+
+        ScopeBucket bucket = buckets.getIfPresent(scope);
+        Entry nearest = bucket != null
+            ? bucket.findNearest(queryVector, generations, similarityThreshold, Duration.ofHours(ttlHours))
+            : null;
+
+        if (nearest == null) {
+            missCounter.increment();
+            return new AnswerCacheLookup(queryVector, scope, generations, null);
+        }
+
+        hitCounter.increment();
+        tokensSavedCounter.increment(nearest.answer().llmTokens());
+        log.info("Semantic answer cache hit: scope={}, tokensSaved={}", scope, nearest.answer().llmTokens());
+        return new AnswerCacheLookup(queryVector, scope, generations, nearest.answer());
+    }
+
+    @Override
+    public void store(AnswerCacheLookup lookup, CachedAnswer answer) {
+        if (!cacheEnabled || !lookup.isCacheable() || lookup.isHit()) {
+            return;
+        }
+        if (answer.response() == null || answer.response().isBlank()) {
+            return;
+        }
+
+        buckets.get(lookup.scope(), key -> new ScopeBucket(maxEntriesPerScope))
+            .add(new Entry(lookup.queryVector(), answer, lookup.generations(), Instant.now()));
+    }
+
+    /**
+     * provider별 세대 값 조회 (provider 필터가 없으면 전체 세대)
+     *
+     * @return 세대 키별 값, Redis 조회 실패 시 null
+     */
+    private Map<String, Long> currentGenerations(List<String> providerFilters) {
+        List<String> keys = providerFilters == null || providerFilters.isEmpty()
+            ? List.of(CacheKeyConstants.EMERGING_TECH_GENERATION_PREFIX + CacheKeyConstants.EMERGING_TECH_GENERATION_ALL)
+            : providerFilters.stream()
+                .sorted()
+                .map(provider -> CacheKeyConstants.EMERGING_TECH_GENERATION_PREFIX + provider)
+                .toList();
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            Map<String, Long> generations = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                generations.put(keys.get(i), value != null ? Long.parseLong(value) : 0L);
+            }
+            return generations;
+        } catch (Exception e) {
+            log.warn("Failed to read emerging tech generations: keys={}", keys, e);
+            return null;
+        }
+    }
+
+    private String buildScope(SearchOptions searchOptions) {
+        return "p=" + joinSorted(searchOptions.providerFilters())
+            + "|u=" + joinSorted(searchOptions.updateTypeFilters())
+            + "|r=" + Boolean.TRUE.equals(searchOptions.recencyDetected());
+    }
+
+    private String joinSorted(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "*";
+        }
+        return String.join(",", values.stream().sorted().toList());
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0.0 : hitCounter.count() / total;
+    }
+
+    /**
+     * L2 정규화 (이후 유사도 계산은 내적만으로 수행)
+     */
+    static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+        if (norm == 0.0) {
+            return vector;
+        }
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            return -1.0;
+        }
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private record Entry(float[] vector, CachedAnswer answer, Map<String, Long> generations, Instant createdAt) {}
+
+    /**
+     * 범위별 엔트리 버킷 (용량 초과 시 가장 오래된 엔트리부터 제거)
+     */
+    private static final class ScopeBucket {
+
+        private final int capacity;
+        private final Deque<Entry> entries = new ArrayDeque<>();
+
+        private ScopeBucket(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void add(Entry entry) {
+            while (entries.size() >= capacity) {
+                entries.pollFirst();
+            }
+            entries.addLast(entry);
+        }
+
+        /**
+         * 유사도 임계값 이상 최근접 엔트리 조회. 세대가 바뀌었거나 TTL이 지난 엔트리는 제거합니다.
+         */
+        synchronized Entry findNearest(float[] queryVector, Map<String, Long> generations,
+                                       double threshold, Duration ttl) {
+            Instant expiredBefore = Instant.now().minus(ttl);
+            Entry best = null;
+            double bestScore = threshold;
+
+            Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (!entry.generations().equals(generations) || entry.createdAt().isBefore(expiredBefore)) {
+                    iterator.remove();
+                    continue;
+                }
+                double score = dot(queryVector, entry.vector());
+                if (score >= bestScore) {
+                    best = entry;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -4,11 +4,11 @@ import com.tech.n.ai.api.chatbot.service.dto.SearchOptions;
 import com.tech.n.ai.api.chatbot.service.dto.SearchResult;
 import com.tech.n.ai.domain.mongodb.util.VectorSearchOptions;
 import com.tech.n.ai.domain.mongodb.util.VectorSearchUtil;
-import dev.langchain4j.data.embedding.Embedding;
-import dev.langchain4j.model.embedding.EmbeddingModel;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -20,6 +20,13 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +34,8 @@ import java.util.stream.Collectors;
  *
  * MongoDB Atlas Vector Search를 사용하여 벡터 검색을 수행합니다.
  * Score Fusion 활성화 시 하이브리드 검색(벡터 + 최신성 직접 쿼리 + RRF 결합)을 수행합니다.
+ * 병렬 모드에서는 벡터 소스와 최신성 하위 쿼리를 가상 스레드에서 동시에 실행하고,
+ * 소스별 데드라인을 넘긴 최신성 쿼리는 제외한 부분 결과로 결합합니다.
  *
  * 공식 문서: https://www.mongodb.com/docs/atlas/atlas-vector-search/vector-search-stage/
  */
@@ -35,14 +44,29 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class VectorSearchServiceImpl implements VectorSearchService {
 
-    private final EmbeddingModel embeddingModel;
+    private final QueryEmbeddingService queryEmbeddingService;
     private final MongoTemplate mongoTemplate;
 
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${chatbot.rag.parallel-search.enabled:true}")
+    private boolean parallelSearchEnabled;
+
+    @Value("${chatbot.rag.parallel-search.source-timeout-ms:3000}")
+    private long sourceTimeoutMs;
+
+    @Value("${chatbot.rag.grouped-recency-query.enabled:true}")
+    private boolean groupedRecencyQueryEnabled;
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
     @Override
     public List<SearchResult> search(String query, Long userId, SearchOptions options) {
-        // 1. 쿼리 임베딩 생성 (OpenAI text-embedding-3-small은 document/query 구분 없음)
-        Embedding embedding = embeddingModel.embed(query).content();
-        List<Float> queryVector = embedding.vectorAsList();
+        // 1. 쿼리 임베딩 조회 (L1/L2 캐시 우선, OpenAI text-embedding-3-small은 document/query 구분 없음)
+        List<Float> queryVector = toVectorList(queryEmbeddingService.embed(query));
 
         // 2. Score Fusion 활성화 여부에 따라 분기
         List<SearchResult> results;
@@ -64,6 +88,9 @@ public class VectorSearchServiceImpl implements VectorSearchService {
      */
     private List<SearchResult> searchEmergingTechsHybrid(
             List<Float> queryVector, SearchOptions options) {
+        if (parallelSearchEnabled) {
+            return searchEmergingTechsHybridParallel(queryVector, options);
+        }
         try {
             // 소스 A: Score Fusion 벡터 검색
             List<SearchResult> vectorResults = searchWithScoreFusion(queryVector, options);
@@ -95,6 +122,72 @@ public class VectorSearchServiceImpl implements VectorSearchService {
         }
     }
 
+    /**
+     * 하이브리드 검색 병렬 실행: 벡터 소스와 최신성 하위 쿼리를 동시에 실행
+     *
+     * 모든 소스는 동일한 데드라인(source-timeout-ms)을 공유하므로 전체 지연은
+     * 가장 느린 단일 쿼리 수준으로 제한됩니다.
+     * - 벡터 소스 실패/타임아웃: 기존과 동일하게 표준 벡터 검색으로 fallback
+     * - 최신성 하위 쿼리 실패/타임아웃: 해당 쿼리만 제외하고 부분 결과로 RRF 결합
+     */
+    private List<SearchResult> searchEmergingTechsHybridParallel(
+            List<Float> queryVector, SearchOptions options) {
+        boolean isRecency = Boolean.TRUE.equals(options.recencyDetected());
+        int recencyLimit = isRecency ? 5 : 3;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sourceTimeoutMs);
+
+        // 소스 A/B 동시 제출
+        Future<List<SearchResult>> vectorFuture =
+            searchExecutor.submit(() -> searchWithScoreFusion(queryVector, options));
+        List<Future<List<SearchResult>>> recencyFutures = recencySources(options, recencyLimit).stream()
+            .map(source -> searchExecutor.submit(source::get))
+            .toList();
+
+        List<SearchResult> vectorResults;
+        try {
+            vectorResults = awaitUntil(vectorFuture, deadline);
+            log.info("Score Fusion vector search completed: {} results", vectorResults.size());
+        } catch (Exception e) {
+            recencyFutures.forEach(f -> f.cancel(true));
+            log.error("Hybrid search failed, falling back to standard search: {}", e.getMessage(), e);
+            return searchEmergingTechs(queryVector, options);
+        }
+
+        // 하위 쿼리 순서대로 수집 (RRF 순위가 직렬 실행과 동일하도록)
+        List<SearchResult> recencyResults = new ArrayList<>();
+        int failedSources = 0;
+        for (Future<List<SearchResult>> future : recencyFutures) {
+            try {
+                recencyResults.addAll(awaitUntil(future, deadline));
+            } catch (Exception e) {
+                failedSources++;
+                log.warn("Recency sub-query skipped: {}", e.getMessage());
+            }
+        }
+        log.info("Recency query completed: {} results ({} of {} sub-queries skipped)",
+            recencyResults.size(), failedSources, recencyFutures.size());
+
+        int maxResults = options.maxResults() != null ? options.maxResults() : 5;
+        List<SearchResult> combined = applyRRF(vectorResults, recencyResults, isRecency, maxResults);
+        log.info("RRF combination completed: {} results (recencyDetected={}, parallel=true)",
+            combined.size(), isRecency);
+        return combined;
+    }
+
+    /**
+     * 공유 데드라인까지 결과 대기 (타임아웃 시 작업 취소)
+     */
+    private List<SearchResult> awaitUntil(Future<List<SearchResult>> future, long deadlineNanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+        try {
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TimeoutException("Search source exceeded deadline of " + sourceTimeoutMs + "ms");
+        }
+    }
+
     /**
      * Score Fusion 벡터 검색 (파이프라인 내 recency + vector 결합)
      */
@@ -141,11 +234,48 @@ public class VectorSearchServiceImpl implements VectorSearchService {
      * - provider(N>1) × updateType(0/1): provider별 개별 쿼리
      * - provider(0/1) × updateType(M>1): updateType별 개별 쿼리
      * - provider(0/1) × updateType(0/1): 단일 쿼리
+     *
+     * grouped-recency-query 활성화 시 개별 쿼리가 2개 이상인 경우
+     * $group + $topN 단일 aggregation으로 대체하여 round-trip을 1회로 줄인다.
      */
     private static final int MAX_CROSS_PRODUCT_COMBINATIONS = 20;
     private static final int MIN_RESULTS_PER_COMBINATION = 2;
 
     private List<SearchResult> queryRecentDocuments(SearchOptions options, int limit) {
+        List<SearchResult> allResults = new ArrayList<>();
+        for (Supplier<List<SearchResult>> source : recencySources(options, limit)) {
+            allResults.addAll(source.get());
+        }
+        return allResults;
+    }
+
+    /**
+     * 최신성 소스 목록 생성
+     *
+     * 그룹 쿼리 활성화 + 하위 쿼리 2개 이상: 단일 aggregation 소스 1개
+     * 그 외: 하위 쿼리별 find 소스
+     */
+    private List<Supplier<List<SearchResult>>> recencySources(SearchOptions options, int limit) {
+        List<RecencyQuery> plan = planRecencyQueries(options, limit);
+        if (groupedRecencyQueryEnabled && plan.size() > 1) {
+            return List.of(() -> queryRecentDocumentsGrouped(options, plan));
+        }
+        return plan.stream()
+            .<Supplier<List<SearchResult>>>map(q ->
+                () -> queryRecentDocumentsSingle(options, q.provider(), q.updateType(), q.limit()))
+            .toList();
+    }
+
+    /**
+     * 최신성 하위 쿼리 단위 (provider/updateType이 null이면 options의 $in 필터 적용)
+     */
+    private record RecencyQuery(String provider, String updateType, int limit) {
+    }
+
+    /**
+     * 전략 매트릭스에 따라 실행할 최신성 하위 쿼리 목록을 생성
+     */
+    private List<RecencyQuery> planRecencyQueries(SearchOptions options, int limit) {
         List<String> providers = options.providerFilters();
         List<String> updateTypes = options.updateTypeFilters();
         boolean multiProvider = providers != null && providers.size() > 1;
@@ -157,20 +287,19 @@ public class VectorSearchServiceImpl implements VectorSearchService {
             if (totalCombinations > MAX_CROSS_PRODUCT_COMBINATIONS) {
                 log.warn("Cross-product combinations ({}) exceed max ({}), using $in fallback",
                     totalCombinations, MAX_CROSS_PRODUCT_COMBINATIONS);
-                return queryRecentDocumentsSingle(options, null, null, limit);
+                return List.of(new RecencyQuery(null, null, limit));
             }
             int perCombinationLimit = Math.max(MIN_RESULTS_PER_COMBINATION,
                 limit / totalCombinations);
-            List<SearchResult> allResults = new ArrayList<>();
+            List<RecencyQuery> queries = new ArrayList<>();
             for (String provider : providers) {
                 for (String updateType : updateTypes) {
-                    allResults.addAll(queryRecentDocumentsSingle(
-                        options, provider, updateType, perCombinationLimit));
+                    queries.add(new RecencyQuery(provider, updateType, perCombinationLimit));
                 }
             }
-            log.info("Cross-product queries: {}×{} combinations, {} total results",
-                providers.size(), updateTypes.size(), allResults.size());
-            return allResults;
+            log.info("Cross-product queries: {}×{} combinations",
+                providers.size(), updateTypes.size());
+            return queries;
         }
 
         // 다중 provider only: provider별 개별 쿼리
@@ -179,12 +308,9 @@ public class VectorSearchServiceImpl implements VectorSearchService {
                 ? updateTypes.get(0) : null;
             int perProviderLimit = Math.max(MIN_RESULTS_PER_COMBINATION,
                 limit / providers.size());
-            List<SearchResult> allResults = new ArrayList<>();
-            for (String provider : providers) {
-                allResults.addAll(queryRecentDocumentsSingle(
-                    options, provider, singleType, perProviderLimit));
-            }
-            return allResults;
+            return providers.stream()
+                .map(provider -> new RecencyQuery(provider, singleType, perProviderLimit))
+                .toList();
         }
 
         // 다중 updateType only: updateType별 개별 쿼리 (기존 로직)
@@ -193,12 +319,9 @@ public class VectorSearchServiceImpl implements VectorSearchService {
                 ? providers.get(0) : null;
             int perTypeLimit = Math.max(MIN_RESULTS_PER_COMBINATION,
                 limit / updateTypes.size());
-            List<SearchResult> allResults = new ArrayList<>();
-            for (String updateType : updateTypes) {
-                allResults.addAll(queryRecentDocumentsSingle(
-                    options, singleProvider, updateType, perTypeLimit));
-            }
-            return allResults;
+            return updateTypes.stream()
+                .map(updateType -> new RecencyQuery(singleProvider, updateType, perTypeLimit))
+                .toList();
         }
 
         // 단일 또는 필터 없음: 단일 쿼리
@@ -206,7 +329,7 @@ public class VectorSearchServiceImpl implements VectorSearchService {
             ? providers.get(0) : null;
         String singleType = (updateTypes != null && updateTypes.size() == 1)
             ? updateTypes.get(0) : null;
-        return queryRecentDocumentsSingle(options, singleProvider, singleType, limit);
+        return List.of(new RecencyQuery(singleProvider, singleType, limit));
     }
 
     /**
@@ -265,6 +388,73 @@ public class VectorSearchServiceImpl implements VectorSearchService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 그룹별 최신 문서 단일 aggregation 쿼리 ($group + $topN)
+     *
+     * 결과는 하위 쿼리 계획(plan) 순서로 재정렬하여 개별 쿼리 방식과 동일한 RRF 순위를 유지한다.
+     *
+     * @param options 검색 옵션
+     * @param plan 하위 쿼리 계획 (그룹별 limit은 모두 동일)
+     */
+    private List<SearchResult> queryRecentDocumentsGrouped(SearchOptions options, List<RecencyQuery> plan) {
+        List<String> groupFields = new ArrayList<>();
+        if (options.providerFilters() != null && options.providerFilters().size() > 1) {
+            groupFields.add("provider");
+        }
+        if (options.updateTypeFilters() != null && options.updateTypeFilters().size() > 1) {
+            groupFields.add("update_type");
+        }
+
+        List<Document> pipeline = VectorSearchUtil.createRecentDocumentsPerGroupPipeline(
+            buildRecencyMatchFilter(options), groupFields, plan.get(0).limit());
+
+        List<Document> docs = mongoTemplate
+            .getCollection(VectorSearchUtil.COLLECTION_EMERGING_TECHS)
+            .aggregate(pipeline)
+            .into(new ArrayList<>());
+
+        Map<String, List<Document>> docsByGroup = docs.stream()
+            .collect(Collectors.groupingBy(
+                doc -> groupFields.stream().map(doc::getString).collect(Collectors.joining("|")),
+                LinkedHashMap::new,
+                Collectors.toList()));
+
+        List<SearchResult> results = new ArrayList<>();
+        for (RecencyQuery q : plan) {
+            String key = groupFields.stream()
+                .map(field -> "provider".equals(field) ? q.provider() : q.updateType())
+                .collect(Collectors.joining("|"));
+            docsByGroup.getOrDefault(key, List.of()).stream()
+                .map(doc -> convertToSearchResult(doc, "EMERGING_TECH"))
+                .forEach(results::add);
+        }
+        log.info("Grouped recency query: {} groups by {}, {} total results",
+            plan.size(), groupFields, results.size());
+        return results;
+    }
+
+    /**
+     * 그룹 쿼리용 $match 조건 생성 (queryRecentDocumentsSingle의 $in 필터와 동일)
+     */
+    private Document buildRecencyMatchFilter(SearchOptions options) {
+        Document match = new Document("status", "PUBLISHED");
+        appendEqOrIn(match, "provider", options.providerFilters());
+        appendEqOrIn(match, "update_type", options.updateTypeFilters());
+        appendEqOrIn(match, "source_type", options.sourceTypeFilters());
+        if (options.dateFrom() != null) {
+            match.append("published_at",
+                new Document("$gte", java.sql.Timestamp.valueOf(options.dateFrom())));
+        }
+        return match;
+    }
+
+    private void appendEqOrIn(Document match, String field, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        match.append(field, values.size() == 1 ? values.get(0) : new Document("$in", values));
+    }
+
     /**
      * Reciprocal Rank Fusion (RRF) 알고리즘
      *
@@ -441,4 +631,15 @@ public class VectorSearchServiceImpl implements VectorSearchService {
             .metadata(doc)
             .build();
     }
+
+    /**
+     * float[] 벡터를 VectorSearchUtil 파이프라인 입력 형식(List&lt;Float&gt;)으로 변환
+     */
+    private List<Float> toVectorList(float[] vector) {
+        List<Float> list = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            list.add(value);
+        }
+        return list;
+    }
 }
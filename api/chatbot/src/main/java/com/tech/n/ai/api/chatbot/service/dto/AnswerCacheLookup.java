@@ -0,0 +1,29 @@
+package com.tech.n.ai.api.chatbot.service.dto;
+
+import java.util.Map;
+
+/**
+ * 시맨틱 답변 캐시 조회 결과
+ *
+ * 미스인 경우에도 조회 시점의 쿼리 벡터와 provider 세대 값을 보관하여,
+ * 답변 생성 후 저장 시 그 사이에 게시된 문서로 인해 오래된 답변이 최신 세대로 저장되지 않도록 합니다.
+ */
+public record AnswerCacheLookup(
+    float[] queryVector,              // 쿼리 임베딩 (null이면 캐시 미사용)
+    String scope,                     // provider/updateType/최신성 범위 키
+    Map<String, Long> generations,    // 조회 시점의 세대 키별 값
+    CachedAnswer answer               // 히트 시 캐시된 답변, 미스 시 null
+) {
+
+    public static AnswerCacheLookup disabled() {
+        return new AnswerCacheLookup(null, null, Map.of(), null);
+    }
+
+    public boolean isHit() {
+        return answer != null;
+    }
+
+    public boolean isCacheable() {
+        return queryVector != null;
+    }
+}
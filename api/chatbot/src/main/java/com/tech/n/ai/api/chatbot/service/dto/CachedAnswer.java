@@ -0,0 +1,14 @@
+package com.tech.n.ai.api.chatbot.service.dto;
+
+import com.tech.n.ai.api.chatbot.dto.response.SourceResponse;
+
+import java.util.List;
+
+/**
+ * 시맨틱 답변 캐시 엔트리 값
+ */
+public record CachedAnswer(
+    String response,                // 생성된 답변
+    List<SourceResponse> sources,   // 답변 근거 소스
+    int llmTokens                   // 답변 생성에 사용된 LLM 토큰 수 (히트 시 절감량으로 집계)
+) {}
@@ -26,6 +26,7 @@ import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -159,6 +160,43 @@ class ChatbotControllerTest {
         }
     }
 
+    // ========== POST /api/v1/chatbot/stream 테스트 ==========
+
+    @Nested
+    @DisplayName("POST /api/v1/chatbot/stream")
+    class ChatStream {
+
+        @Test
+        @DisplayName("스트리밍 채팅 - 비동기 SSE 응답 시작")
+        void chatStream_성공() throws Exception {
+            // Given
+            ChatRequest request = new ChatRequest("안녕하세요", null);
+            when(chatbotFacade.chatStream(any(ChatRequest.class), eq(TEST_USER_ID), eq("USER")))
+                .thenReturn(new SseEmitter());
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "/stream")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted());
+        }
+
+        @Test
+        @DisplayName("빈 메시지 - 400 Bad Request")
+        void chatStream_빈_메시지() throws Exception {
+            // Given
+            ChatRequest request = new ChatRequest("", null);
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "/stream")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+            verify(chatbotFacade, never()).chatStream(any(), any(), any());
+        }
+    }
+
     // ========== GET /api/v1/chatbot/sessions 테스트 ==========
 
     @Nested
@@ -20,6 +20,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -29,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +83,29 @@ class ChatbotFacadeTest {
         }
     }
 
+    // ========== chatStream 테스트 ==========
+
+    @Nested
+    @DisplayName("chatStream")
+    class ChatStream {
+
+        @Test
+        @DisplayName("emitter 즉시 반환 후 비동기로 ChatbotService에 위임")
+        void chatStream_정상() {
+            // Given
+            ReflectionTestUtils.setField(facade, "streamTimeoutMs", 30_000L);
+            ChatRequest request = new ChatRequest("안녕하세요", null);
+
+            // When
+            SseEmitter emitter = facade.chatStream(request, TEST_USER_ID, "USER");
+
+            // Then
+            assertThat(emitter.getTimeout()).isEqualTo(30_000L);
+            verify(chatbotService, timeout(1_000))
+                .generateStreamingResponse(request, TEST_USER_ID, "USER", emitter);
+        }
+    }
+
     // ========== listSessions 테스트 ==========
 
     @Nested
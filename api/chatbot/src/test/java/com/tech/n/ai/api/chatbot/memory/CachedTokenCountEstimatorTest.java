@@ -0,0 +1,132 @@
+package com.tech.n.ai.api.chatbot.memory;
+
+import com.tech.n.ai.api.chatbot.service.TokenService;
+import com.tech.n.ai.common.conversation.memory.MongoDbChatMemoryStore;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachedTokenCountEstimator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedTokenCountEstimator 단위 테스트")
+class CachedTokenCountEstimatorTest {
+
+    @Mock
+    private TokenService tokenService;
+
+    private CachedTokenCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new CachedTokenCountEstimator(tokenService);
+        ReflectionTestUtils.setField(estimator, "maxEntries", 100L);
+        ReflectionTestUtils.setField(estimator, "idleMinutes", 30L);
+        estimator.init();
+    }
+
+    @Nested
+    @DisplayName("estimateTokenCountInText")
+    class EstimateTokenCountInText {
+
+        @Test
+        @DisplayName("같은 텍스트는 한 번만 토큰화")
+        void estimate_캐시() {
+            // Given
+            when(tokenService.estimateTokens("안녕하세요")).thenReturn(10);
+
+            // When
+            int first = estimator.estimateTokenCountInText("안녕하세요");
+            int second = estimator.estimateTokenCountInText("안녕하세요");
+
+            // Then
+            assertThat(first).isEqualTo(10);
+            assertThat(second).isEqualTo(10);
+            verify(tokenService, times(1)).estimateTokens("안녕하세요");
+        }
+
+        @Test
+        @DisplayName("저장된 토큰 수를 적재하면 토큰화하지 않음")
+        void estimate_저장된_토큰_수() {
+            // Given
+            estimator.remember("저장된 메시지", 7);
+
+            // When
+            int result = estimator.estimateTokenCountInText("저장된 메시지");
+
+            // Then
+            assertThat(result).isEqualTo(7);
+            verifyNoInteractions(tokenService);
+        }
+
+        @Test
+        @DisplayName("빈 텍스트는 0")
+        void estimate_빈_텍스트() {
+            assertThat(estimator.estimateTokenCountInText("")).isZero();
+            assertThat(estimator.estimateTokenCountInText(null)).isZero();
+            verifyNoInteractions(tokenService);
+        }
+    }
+
+    @Nested
+    @DisplayName("estimateTokenCountInMessage")
+    class EstimateTokenCountInMessage {
+
+        @Test
+        @DisplayName("저장된 토큰 수에 이력 로드와 같은 메시지별 오버헤드를 더함")
+        void estimate_메시지_오버헤드() {
+            // Given
+            estimator.remember("저장된 메시지", 7);
+
+            // When
+            int result = estimator.estimateTokenCountInMessage(UserMessage.from("저장된 메시지"));
+
+            // Then
+            assertThat(result).isEqualTo(7 + MongoDbChatMemoryStore.MESSAGE_OVERHEAD_TOKENS);
+            verifyNoInteractions(tokenService);
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenWindowChatMemory 연동")
+    class TokenWindow {
+
+        @Test
+        @DisplayName("토큰 예산을 넘으면 오래된 메시지부터 제거하고 메시지는 재토큰화하지 않음")
+        void tokenWindow_예산_초과_제거() {
+            // Given
+            estimator.remember("첫 질문", 40);
+            estimator.remember("첫 답변", 40);
+            estimator.remember("두 번째 질문", 40);
+            TokenWindowChatMemory memory = TokenWindowChatMemory.builder()
+                .id("100")
+                .maxTokens(100, estimator)
+                .build();
+
+            // When
+            memory.add(UserMessage.from("첫 질문"));
+            memory.add(AiMessage.from("첫 답변"));
+            memory.add(UserMessage.from("두 번째 질문"));
+            List<ChatMessage> messages = memory.messages();
+
+            // Then
+            assertThat(messages).containsExactly(AiMessage.from("첫 답변"), UserMessage.from("두 번째 질문"));
+            verifyNoInteractions(tokenService);
+        }
+    }
+}
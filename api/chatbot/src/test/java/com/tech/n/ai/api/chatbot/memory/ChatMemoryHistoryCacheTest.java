@@ -0,0 +1,215 @@
+package com.tech.n.ai.api.chatbot.memory;
+
+import com.tech.n.ai.common.conversation.dto.MessageCreateRequest;
+import com.tech.n.ai.common.conversation.memory.TokenCountedChatMessage;
+import com.tech.n.ai.common.conversation.service.ConversationMessageService;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChatMemoryHistoryCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMemoryHistoryCache 단위 테스트")
+class ChatMemoryHistoryCacheTest {
+
+    @Mock
+    private ConversationMessageService messageService;
+
+    @Mock
+    private CachedTokenCountEstimator tokenCountEstimator;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChatMemoryHistoryCache cache;
+
+    private static final String SESSION_ID = "100";
+
+    private static final List<MessageCreateRequest> TURN = List.of(
+        new MessageCreateRequest("USER", "다음 질문", 5),
+        new MessageCreateRequest("ASSISTANT", "다음 답변", 5));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ChatMemoryHistoryCache(messageService, meterRegistry, tokenCountEstimator);
+        ReflectionTestUtils.setField(cache, "cacheEnabled", true);
+        ReflectionTestUtils.setField(cache, "maxSessions", 100L);
+        ReflectionTestUtils.setField(cache, "idleMinutes", 30L);
+        ReflectionTestUtils.setField(cache, "maxMessages", 3);
+        ReflectionTestUtils.setField(cache, "maxTokens", 2000);
+        cache.init();
+    }
+
+    private void givenStoredHistory() {
+        when(messageService.getMessagesForMemory(eq(SESSION_ID), eq(2000), any()))
+            .thenReturn(List.of(
+                new TokenCountedChatMessage(UserMessage.from("질문"), 3),
+                new TokenCountedChatMessage(AiMessage.from("답변"), 4)));
+    }
+
+    private void verifyLoaded(int count) {
+        verify(messageService, times(count)).getMessagesForMemory(eq(SESSION_ID), eq(2000), any());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("chatbot.chat-memory.cache").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("getHistory / append")
+    class GetHistory {
+
+        @Test
+        @DisplayName("두 번째 조회부터 MongoDB를 읽지 않음")
+        void getHistory_hit() {
+            // Given
+            givenStoredHistory();
+
+            // When
+            cache.getHistory(SESSION_ID);
+            List<ChatMessage> result = cache.getHistory(SESSION_ID);
+
+            // Then
+            assertThat(result).hasSize(2);
+            verifyLoaded(1);
+            assertThat(requests("hit")).isEqualTo(1);
+            assertThat(requests("miss")).isEqualTo(1);
+            assertThat(meterRegistry.get("chatbot.chat-memory.cache.mongo-reads-avoided").counter().count())
+                .isEqualTo(1);
+            assertThat(meterRegistry.get("chatbot.chat-memory.cache.hit-ratio").gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("저장한 턴을 윈도우 끝에 추가하고 최대 메시지 수를 유지")
+        void append_윈도우_유지() {
+            // Given
+            givenStoredHistory();
+            cache.getHistory(SESSION_ID);
+
+            // When
+            cache.append(SESSION_ID, TURN);
+            List<ChatMessage> result = cache.getHistory(SESSION_ID);
+
+            // Then
+            assertThat(result).containsExactly(
+                AiMessage.from("답변"), UserMessage.from("다음 질문"), AiMessage.from("다음 답변"));
+            verifyLoaded(1);
+        }
+
+        @Test
+        @DisplayName("로드/추가한 메시지의 저장된 토큰 수를 토큰 수 캐시에 적재")
+        void 토큰_수_적재() {
+            // Given
+            givenStoredHistory();
+
+            // When
+            cache.getHistory(SESSION_ID);
+            cache.append(SESSION_ID, TURN);
+
+            // Then
+            verify(tokenCountEstimator).remember("질문", 3);
+            verify(tokenCountEstimator).remember("답변", 4);
+            verify(tokenCountEstimator).remember("다음 질문", 5);
+            verify(tokenCountEstimator).remember("다음 답변", 5);
+        }
+
+        @Test
+        @DisplayName("캐시에 없는 세션은 append를 무시하고 다음 조회 시 로드")
+        void append_미적재_세션() {
+            // Given
+            givenStoredHistory();
+
+            // When
+            cache.append(SESSION_ID, TURN);
+            cache.getHistory(SESSION_ID);
+
+            // Then
+            verifyLoaded(1);
+        }
+
+        @Test
+        @DisplayName("비활성화 시 매번 MongoDB 조회")
+        void getHistory_disabled() {
+            // Given
+            ReflectionTestUtils.setField(cache, "cacheEnabled", false);
+            givenStoredHistory();
+
+            // When
+            cache.getHistory(SESSION_ID);
+            cache.getHistory(SESSION_ID);
+
+            // Then
+            verifyLoaded(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 기반 무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("이 인스턴스가 추가한 메시지의 이벤트는 무효화하지 않음")
+        void onMessageCreated_자기_에코() {
+            // Given
+            givenStoredHistory();
+            cache.getHistory(SESSION_ID);
+            cache.append(SESSION_ID, TURN);
+
+            // When
+            cache.onMessageCreated(SESSION_ID, "USER", "다음 질문");
+            cache.onMessageCreated(SESSION_ID, "ASSISTANT", "다음 답변");
+            cache.getHistory(SESSION_ID);
+
+            // Then
+            verifyLoaded(1);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 저장한 메시지 이벤트는 세션을 무효화")
+        void onMessageCreated_원격_메시지() {
+            // Given
+            givenStoredHistory();
+            cache.getHistory(SESSION_ID);
+
+            // When
+            cache.onMessageCreated(SESSION_ID, "USER", "다른 인스턴스 질문");
+            cache.getHistory(SESSION_ID);
+
+            // Then
+            verifyLoaded(2);
+            assertThat(meterRegistry.get("chatbot.chat-memory.cache.invalidations")
+                .tag("reason", "remote-message").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("세션 삭제 시 무효화")
+        void invalidate_세션_삭제() {
+            // Given
+            givenStoredHistory();
+            cache.getHistory(SESSION_ID);
+
+            // When
+            cache.invalidate(SESSION_ID, "session-deleted");
+            cache.getHistory(SESSION_ID);
+
+            // Then
+            verifyLoaded(2);
+        }
+    }
+}
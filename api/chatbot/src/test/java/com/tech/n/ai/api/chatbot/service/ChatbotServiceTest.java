@@ -6,15 +6,25 @@ import com.tech.n.ai.api.chatbot.chain.ResultRefinementChain;
 import com.tech.n.ai.api.chatbot.converter.MessageFormatConverter;
 import com.tech.n.ai.api.chatbot.dto.request.ChatRequest;
 import com.tech.n.ai.api.chatbot.dto.response.ChatResponse;
+import com.tech.n.ai.api.chatbot.memory.ChatMemoryHistoryCache;
 import com.tech.n.ai.api.chatbot.memory.ConversationChatMemoryProvider;
+import com.tech.n.ai.common.conversation.dto.MessageCreateRequest;
 import com.tech.n.ai.common.conversation.service.ConversationMessageService;
 import com.tech.n.ai.common.conversation.service.ConversationSessionService;
+import com.tech.n.ai.api.chatbot.dto.response.SourceResponse;
+import com.tech.n.ai.api.chatbot.service.dto.AnswerCacheLookup;
+import com.tech.n.ai.api.chatbot.service.dto.CachedAnswer;
 import com.tech.n.ai.api.chatbot.service.dto.Intent;
 import com.tech.n.ai.api.chatbot.service.dto.SearchContext;
 import com.tech.n.ai.api.chatbot.service.dto.SearchQuery;
 import com.tech.n.ai.api.chatbot.service.dto.SearchResult;
 import com.tech.n.ai.api.chatbot.service.dto.WebSearchDocument;
+import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,8 +32,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.List;
@@ -48,6 +60,9 @@ class ChatbotServiceTest {
     @Mock
     private ConversationChatMemoryProvider memoryProvider;
 
+    @Mock
+    private ChatMemoryHistoryCache chatMemoryHistoryCache;
+
     @Mock
     private LLMService llmService;
 
@@ -87,6 +102,12 @@ class ChatbotServiceTest {
     @Mock
     private ChatMemory chatMemory;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private SemanticAnswerCacheService answerCacheService;
+
     @InjectMocks
     private ChatbotServiceImpl chatbotService;
 
@@ -132,7 +153,7 @@ class ChatbotServiceTest {
             // Given
             ChatRequest request = new ChatRequest("이전 대화 이어서", TEST_SESSION_ID);
             setupCommonMocks(Intent.LLM_DIRECT);
-            when(messageService.getMessagesForMemory(eq(TEST_SESSION_ID), any())).thenReturn(Collections.emptyList());
+            when(chatMemoryHistoryCache.getHistory(TEST_SESSION_ID)).thenReturn(Collections.emptyList());
             when(messageConverter.convertToProviderFormat(anyList(), any())).thenReturn("formatted");
             when(llmService.generate(anyString())).thenReturn("네, 이어서 진행합니다.");
 
@@ -143,6 +164,8 @@ class ChatbotServiceTest {
             assertThat(result.conversationId()).isEqualTo(TEST_SESSION_ID);
             verify(sessionService).getSession(TEST_SESSION_ID, TEST_USER_ID.toString());
             verify(sessionService, never()).createSession(anyString(), any());
+            verify(messageService, never()).getMessagesForMemory(anyString(), any());
+            verify(chatMemoryHistoryCache).append(eq(TEST_SESSION_ID), anyList());
         }
     }
 
@@ -167,6 +190,8 @@ class ChatbotServiceTest {
                 .context(context)
                 .build();
             when(inputChain.interpret(anyString())).thenReturn(searchQuery);
+            AnswerCacheLookup cacheLookup = new AnswerCacheLookup(new float[]{1f}, "scope", Collections.emptyMap(), null);
+            when(answerCacheService.lookup(eq("대회 정보"), any())).thenReturn(cacheLookup);
 
             List<SearchResult> searchResults = List.of(
                 SearchResult.builder()
@@ -190,6 +215,61 @@ class ChatbotServiceTest {
             verify(vectorSearchService).search(anyString(), anyLong(), any());
             verify(refinementChain).refine(anyString(), anyList(), anyBoolean(), anyBoolean());
             verify(answerChain).generate(anyString(), anyList());
+            verify(answerCacheService).store(eq(cacheLookup), argThat(answer ->
+                answer.response().equals("대회 정보에 대한 답변입니다.") && answer.sources().size() == 1));
+        }
+
+        @Test
+        @DisplayName("시맨틱 캐시 히트 - 검색/정제/LLM 생성 생략")
+        void generateResponse_ragRequired_캐시히트() {
+            // Given
+            ChatRequest request = new ChatRequest("최신 OpenAI 모델 출시?", null);
+            setupCommonMocks(Intent.RAG_REQUIRED);
+            when(sessionService.createSession(TEST_USER_ID.toString(), null)).thenReturn(TEST_SESSION_ID);
+
+            SearchContext context = new SearchContext();
+            context.addCollection("emerging_techs");
+            when(inputChain.interpret(anyString()))
+                .thenReturn(SearchQuery.builder().query("OpenAI 모델 출시").context(context).build());
+            CachedAnswer cached = new CachedAnswer("GPT-5가 출시되었습니다.",
+                List.of(SourceResponse.builder().documentId("doc1").build()), 1500);
+            when(answerCacheService.lookup(anyString(), any()))
+                .thenReturn(new AnswerCacheLookup(new float[]{1f}, "scope", Collections.emptyMap(), cached));
+
+            // When
+            ChatResponse result = chatbotService.generateResponse(request, TEST_USER_ID, "USER");
+
+            // Then
+            assertThat(result.response()).isEqualTo("GPT-5가 출시되었습니다.");
+            assertThat(result.sources()).hasSize(1);
+            verifyNoInteractions(vectorSearchService, refinementChain, answerChain);
+            verify(answerCacheService, never()).store(any(), any());
+        }
+
+        @Test
+        @DisplayName("시맨틱 캐시 조회 실패 시 일반 RAG 파이프라인으로 처리")
+        void generateResponse_ragRequired_캐시장애() {
+            // Given
+            ChatRequest request = new ChatRequest("대회 정보 알려줘", null);
+            setupCommonMocks(Intent.RAG_REQUIRED);
+            when(sessionService.createSession(TEST_USER_ID.toString(), null)).thenReturn(TEST_SESSION_ID);
+
+            SearchContext context = new SearchContext();
+            context.addCollection("emerging_techs");
+            when(inputChain.interpret(anyString()))
+                .thenReturn(SearchQuery.builder().query("대회 정보").context(context).build());
+            when(answerCacheService.lookup(anyString(), any())).thenThrow(new RuntimeException("Redis 연결 실패"));
+            when(vectorSearchService.search(anyString(), anyLong(), any())).thenReturn(Collections.emptyList());
+            when(refinementChain.refine(anyString(), anyList(), anyBoolean(), anyBoolean()))
+                .thenReturn(Collections.emptyList());
+            when(answerChain.generate(anyString(), anyList())).thenReturn("관련 정보를 찾지 못했습니다.");
+
+            // When
+            ChatResponse result = chatbotService.generateResponse(request, TEST_USER_ID, "USER");
+
+            // Then
+            assertThat(result.response()).isEqualTo("관련 정보를 찾지 못했습니다.");
+            verify(answerChain).generate(anyString(), anyList());
         }
     }
 
@@ -303,8 +383,10 @@ class ChatbotServiceTest {
             chatbotService.generateResponse(request, TEST_USER_ID, "USER");
 
             // Then
-            verify(messageService).saveMessage(eq(TEST_SESSION_ID), eq("USER"), eq("테스트 메시지"), anyInt());
-            verify(messageService).saveMessage(eq(TEST_SESSION_ID), eq("ASSISTANT"), eq("테스트 응답"), anyInt());
+            verify(messageService).saveMessages(eq(TEST_SESSION_ID), argThat(messages ->
+                messages.size() == 2
+                    && messages.get(0).role().equals("USER") && messages.get(0).content().equals("테스트 메시지")
+                    && messages.get(1).role().equals("ASSISTANT") && messages.get(1).content().equals("테스트 응답")));
         }
 
         @Test
@@ -371,7 +453,7 @@ class ChatbotServiceTest {
             // Given
             ChatRequest request = new ChatRequest("이전 대화 이어서", TEST_SESSION_ID);
             setupCommonMocks(Intent.LLM_DIRECT);
-            when(messageService.getMessagesForMemory(eq(TEST_SESSION_ID), any())).thenReturn(Collections.emptyList());
+            when(chatMemoryHistoryCache.getHistory(TEST_SESSION_ID)).thenReturn(Collections.emptyList());
             when(messageConverter.convertToProviderFormat(anyList(), any())).thenReturn("formatted");
             when(llmService.generate(anyString())).thenReturn("네, 이어서 진행합니다.");
 
@@ -401,6 +483,87 @@ class ChatbotServiceTest {
         }
     }
 
+    // ========== 스트리밍 (SSE) 테스트 ==========
+
+    @Nested
+    @DisplayName("generateStreamingResponse")
+    class StreamingResponse {
+
+        @Test
+        @DisplayName("RAG 스트리밍 - sources 선전송, 완료 시 후처리한 답변 저장 및 실제 토큰 사용량 기록")
+        void stream_ragRequired() throws Exception {
+            // Given
+            ChatRequest request = new ChatRequest("최신 OpenAI 모델?", null);
+            setupCommonMocks(Intent.RAG_REQUIRED);
+            when(sessionService.createSession(TEST_USER_ID.toString(), null)).thenReturn(TEST_SESSION_ID);
+            SearchContext context = new SearchContext();
+            context.addCollection("emerging_techs");
+            when(inputChain.interpret(anyString()))
+                .thenReturn(SearchQuery.builder().query("OpenAI 모델").context(context).build());
+            when(answerCacheService.lookup(anyString(), any())).thenReturn(AnswerCacheLookup.disabled());
+            List<SearchResult> results = List.of(SearchResult.builder()
+                .documentId("doc1").text("GPT 출시").score(0.9).collectionType("EMERGING_TECH").build());
+            when(vectorSearchService.search(anyString(), anyLong(), any())).thenReturn(results);
+            when(refinementChain.refine(anyString(), anyList(), anyBoolean(), anyBoolean())).thenReturn(results);
+            when(promptService.buildPrompt(anyString(), anyList())).thenReturn("prompt");
+            doAnswer(invocation -> {
+                StreamingChatResponseHandler handler = invocation.getArgument(1);
+                handler.onPartialResponse("GPT-5가 ");
+                handler.onPartialResponse("출시되었습니다.");
+                handler.onCompleteResponse(dev.langchain4j.model.chat.response.ChatResponse.builder()
+                    .aiMessage(AiMessage.from("답변: GPT-5가 출시되었습니다."))
+                    .tokenUsage(new TokenUsage(120, 8))
+                    .build());
+                return null;
+            }).when(llmService).generateStream(eq("prompt"), any());
+            when(answerChain.postProcess("답변: GPT-5가 출시되었습니다.")).thenReturn("GPT-5가 출시되었습니다.");
+            SseEmitter emitter = mock(SseEmitter.class);
+
+            // When
+            chatbotService.generateStreamingResponse(request, TEST_USER_ID, "USER", emitter);
+
+            // Then: session + sources + token 2개 + done
+            verify(emitter, times(5)).send(any(SseEmitter.SseEventBuilder.class));
+            verify(emitter).complete();
+            verify(messageService).saveMessages(eq(TEST_SESSION_ID),
+                argThat(messages -> messages.contains(new MessageCreateRequest("ASSISTANT", "GPT-5가 출시되었습니다.", 10))));
+            verify(tokenService).trackUsage(TEST_SESSION_ID, TEST_USER_ID.toString(), 120, 8);
+            verify(answerChain, never()).generate(anyString(), anyList());
+            assertThat(meterRegistry.get("chatbot.stream.ttft").tag("intent", "RAG_REQUIRED").timer().count())
+                .isEqualTo(1);
+            assertThat(meterRegistry.get("chatbot.stream.duration").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("LLM 스트리밍 오류 - error 이벤트 후 종료, 메시지 미저장")
+        void stream_llmError() throws Exception {
+            // Given
+            ChatRequest request = new ChatRequest("안녕", null);
+            when(memoryProvider.get(anyString())).thenReturn(chatMemory);
+            when(chatMemory.messages()).thenReturn(Collections.emptyList());
+            when(intentService.classifyIntent(anyString())).thenReturn(Intent.LLM_DIRECT);
+            when(sessionService.createSession(TEST_USER_ID.toString(), null)).thenReturn(TEST_SESSION_ID);
+            when(messageConverter.convertToProviderFormat(anyList(), any())).thenReturn("formatted");
+            doAnswer(invocation -> {
+                StreamingChatResponseHandler handler = invocation.getArgument(1);
+                handler.onError(new RuntimeException("API 에러"));
+                return null;
+            }).when(llmService).generateStream(anyString(), any());
+            SseEmitter emitter = mock(SseEmitter.class);
+
+            // When
+            chatbotService.generateStreamingResponse(request, TEST_USER_ID, "USER", emitter);
+
+            // Then: session + error
+            verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+            verify(emitter).complete();
+            verify(messageService, never()).saveMessages(anyString(), anyList());
+            assertThat(meterRegistry.get("chatbot.stream.duration").tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+        }
+    }
+
     // ========== 헬퍼 메서드 ==========
 
     private void setupCommonMocks(Intent intent) {
@@ -4,22 +4,31 @@ import com.tech.n.ai.common.conversation.dto.SessionResponse;
 import com.tech.n.ai.common.conversation.exception.ConversationSessionNotFoundException;
 import com.tech.n.ai.common.conversation.exception.InvalidSessionIdException;
 import com.tech.n.ai.common.conversation.service.ConversationSessionServiceImpl;
+import com.tech.n.ai.common.conversation.service.SessionActivityTracker;
 import com.tech.n.ai.common.exception.exception.UnauthorizedException;
+import com.tech.n.ai.common.kafka.event.ConversationSessionsExpiredEvent;
 import com.tech.n.ai.common.kafka.publisher.EventPublisher;
 import com.tech.n.ai.domain.aurora.entity.conversation.ConversationSessionEntity;
 import com.tech.n.ai.domain.aurora.repository.reader.conversation.ConversationSessionReaderRepository;
+import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionOwner;
 import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionWriterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -29,6 +38,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -48,6 +58,15 @@ class ConversationSessionServiceTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private SessionActivityTracker sessionActivityTracker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ConversationSessionServiceImpl sessionService;
 
@@ -151,6 +170,23 @@ class ConversationSessionServiceTest {
                 .isInstanceOf(ConversationSessionNotFoundException.class);
         }
 
+        @Test
+        @DisplayName("반영 대기 중인 lastMessageAt이 더 최근이면 응답에 반영")
+        void getSession_대기중_활동_반영() {
+            // Given
+            ConversationSessionEntity session = createSessionEntity(TEST_SESSION_ID, TEST_USER_ID);
+            LocalDateTime pendingAt = session.getLastMessageAt().plusMinutes(1);
+            when(readerRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionActivityTracker.pendingLastMessageAt(TEST_SESSION_ID.toString()))
+                .thenReturn(Optional.of(pendingAt));
+
+            // When
+            SessionResponse result = sessionService.getSession(TEST_SESSION_ID.toString(), TEST_USER_ID);
+
+            // Then
+            assertThat(result.lastMessageAt()).isEqualTo(pendingAt);
+        }
+
         @Test
         @DisplayName("유효하지 않은 세션 ID 형식 시 InvalidSessionIdException")
         void getSession_잘못된_ID_형식() {
@@ -171,7 +207,43 @@ class ConversationSessionServiceTest {
     class UpdateLastMessageAt {
 
         @Test
-        @DisplayName("정상 업데이트")
+        @DisplayName("write-behind 사용 시 활성 세션은 추적기에만 기록 (즉시 저장/이벤트 없음)")
+        void updateLastMessageAt_writeBehind() {
+            // Given
+            ReflectionTestUtils.setField(sessionService, "writeBehindEnabled", true);
+            ConversationSessionEntity session = createSessionEntity(TEST_SESSION_ID, TEST_USER_ID);
+            when(readerRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+
+            // When
+            sessionService.updateLastMessageAt(TEST_SESSION_ID.toString());
+
+            // Then
+            verify(sessionActivityTracker).touch(eq(TEST_SESSION_ID.toString()), eq(TEST_USER_ID), any(LocalDateTime.class));
+            verify(writerRepository, never()).save(any());
+            verify(eventPublisher, never()).publish(anyString(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("write-behind 사용 시에도 비활성 세션 재활성화는 즉시 저장")
+        void updateLastMessageAt_writeBehind_재활성화() {
+            // Given
+            ReflectionTestUtils.setField(sessionService, "writeBehindEnabled", true);
+            ConversationSessionEntity session = createSessionEntity(TEST_SESSION_ID, TEST_USER_ID);
+            session.setIsActive(false);
+            when(readerRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(writerRepository.save(any(ConversationSessionEntity.class))).thenReturn(session);
+
+            // When
+            sessionService.updateLastMessageAt(TEST_SESSION_ID.toString());
+
+            // Then
+            verify(writerRepository).save(argThat(s -> s.getIsActive()));
+            verify(eventPublisher).publish(anyString(), any(), anyString());
+            verify(sessionActivityTracker, never()).touch(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("write-behind 미사용 시 즉시 저장")
         void updateLastMessageAt_성공() {
             // Given
             ConversationSessionEntity session = createSessionEntity(TEST_SESSION_ID, TEST_USER_ID);
@@ -403,26 +475,55 @@ class ConversationSessionServiceTest {
     @DisplayName("deactivateInactiveSessions")
     class DeactivateInactiveSessions {
 
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(sessionService, "lifecycleChunkSize", 2);
+        }
+
         @Test
-        @DisplayName("비활성 세션 비활성화 - 개수 반환")
+        @DisplayName("키셋 chunk 단위로 일괄 비활성화 - 개수 반환")
         void deactivateInactiveSessions_성공() {
             // Given
             Duration threshold = Duration.ofMinutes(30);
-            List<ConversationSessionEntity> inactiveSessions = List.of(
-                createSessionEntity(1L, TEST_USER_ID),
-                createSessionEntity(2L, TEST_USER_ID)
-            );
-            when(readerRepository.findByIsActiveTrueAndIsDeletedFalseAndLastMessageAtBefore(any(LocalDateTime.class)))
-                .thenReturn(inactiveSessions);
-            when(writerRepository.save(any(ConversationSessionEntity.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(writerRepository.findInactiveSessionChunk(any(LocalDateTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of(owner(1L), owner(2L)));
+            when(writerRepository.findInactiveSessionChunk(any(LocalDateTime.class), eq(2L), eq(2)))
+                .thenReturn(List.of(owner(3L)));
+            when(writerRepository.deactivateAll(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
 
             // When
             int result = sessionService.deactivateInactiveSessions(threshold);
 
             // Then
-            assertThat(result).isEqualTo(2);
-            verify(writerRepository, times(2)).save(any());
+            assertThat(result).isEqualTo(3);
+            verify(writerRepository).deactivateAll(eq(List.of(1L, 2L)), any(), any());
+            verify(writerRepository).deactivateAll(eq(List.of(3L)), any(), any());
+            verify(writerRepository, never()).save(any());
+            assertThat(meterRegistry.get("conversation.session.lifecycle.processed")
+                .tag("operation", "deactivate").counter().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("반영 대기 중인 최근 활동이 있는 세션은 제외")
+        void deactivateInactiveSessions_대기중_활동_제외() {
+            // Given
+            Duration threshold = Duration.ofMinutes(30);
+            when(writerRepository.findInactiveSessionChunk(any(LocalDateTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of(owner(1L), owner(2L)));
+            when(writerRepository.findInactiveSessionChunk(any(LocalDateTime.class), eq(2L), eq(2)))
+                .thenReturn(List.of());
+            when(sessionActivityTracker.pendingLastMessageAt(anyString())).thenAnswer(invocation ->
+                "1".equals(invocation.getArgument(0)) ? Optional.of(LocalDateTime.now()) : Optional.empty());
+            when(writerRepository.deactivateAll(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            // When
+            int result = sessionService.deactivateInactiveSessions(threshold);
+
+            // Then
+            assertThat(result).isEqualTo(1);
+            verify(writerRepository).deactivateAll(eq(List.of(2L)), any(), any());
         }
 
         @Test
@@ -430,7 +531,7 @@ class ConversationSessionServiceTest {
         void deactivateInactiveSessions_없음() {
             // Given
             Duration threshold = Duration.ofMinutes(30);
-            when(readerRepository.findByIsActiveTrueAndIsDeletedFalseAndLastMessageAtBefore(any(LocalDateTime.class)))
+            when(writerRepository.findInactiveSessionChunk(any(LocalDateTime.class), eq(0L), eq(2)))
                 .thenReturn(List.of());
 
             // When
@@ -438,11 +539,77 @@ class ConversationSessionServiceTest {
 
             // Then
             assertThat(result).isZero();
+            verify(writerRepository, never()).deactivateAll(anyList(), any(), any());
+        }
+    }
+
+    // ========== expireInactiveSessions 테스트 ==========
+
+    @Nested
+    @DisplayName("expireInactiveSessions")
+    class ExpireInactiveSessions {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(sessionService, "lifecycleChunkSize", 2);
+        }
+
+        @Test
+        @DisplayName("chunk당 일괄 만료 후 이벤트 1건 발행")
+        void expireInactiveSessions_성공() {
+            // Given
+            when(writerRepository.findExpiredSessionChunk(any(LocalDateTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of(owner(1L), owner(2L)));
+            when(writerRepository.findExpiredSessionChunk(any(LocalDateTime.class), eq(2L), eq(2)))
+                .thenReturn(List.of());
+            when(writerRepository.expireAll(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+            // When
+            int result = sessionService.expireInactiveSessions(90);
+
+            // Then
+            assertThat(result).isEqualTo(2);
+            verify(eventPublisher).publish(
+                eq("tech-n-ai.conversation.session.deleted"),
+                argThat(event -> event instanceof ConversationSessionsExpiredEvent expired
+                    && expired.payload().sessions().size() == 2),
+                eq("1"));
+            verify(writerRepository, never()).findIdsDeletedAt(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("조회 이후 재활성화된 세션은 이벤트에서 제외")
+        void expireInactiveSessions_일부만_만료() {
+            // Given
+            when(writerRepository.findExpiredSessionChunk(any(LocalDateTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of(owner(1L), owner(2L)));
+            when(writerRepository.findExpiredSessionChunk(any(LocalDateTime.class), eq(2L), eq(2)))
+                .thenReturn(List.of());
+            when(writerRepository.expireAll(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+            when(writerRepository.findIdsDeletedAt(anyList(), any(LocalDateTime.class))).thenReturn(List.of(2L));
+
+            // When
+            int result = sessionService.expireInactiveSessions(90);
+
+            // Then
+            assertThat(result).isEqualTo(1);
+            verify(eventPublisher).publish(
+                anyString(),
+                argThat(event -> event instanceof ConversationSessionsExpiredEvent expired
+                    && expired.payload().sessions().size() == 1
+                    && expired.payload().sessions().getFirst().sessionId().equals("2")),
+                eq("2"));
         }
     }
 
     // ========== 헬퍼 메서드 ==========
 
+    private ConversationSessionOwner owner(Long sessionId) {
+        return new ConversationSessionOwner(sessionId, TEST_USER_ID);
+    }
+
     private ConversationSessionEntity createSessionEntity(Long id, String userId) {
         ConversationSessionEntity entity = new ConversationSessionEntity();
         entity.setId(id);
@@ -1,6 +1,8 @@
 package com.tech.n.ai.api.chatbot.service;
 
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -23,6 +30,9 @@ class LLMServiceImplTest {
     @Mock
     private ChatModel chatModel;
 
+    @Mock
+    private StreamingChatModel streamingChatModel;
+
     @InjectMocks
     private LLMServiceImpl llmService;
 
@@ -55,4 +65,37 @@ class LLMServiceImplTest {
                 .hasMessageContaining("LLM 응답 생성 실패");
         }
     }
+
+    @Nested
+    @DisplayName("generateStream")
+    class GenerateStream {
+
+        @Test
+        @DisplayName("StreamingChatModel에 핸들러 위임")
+        void generateStream_정상() {
+            // Given
+            StreamingChatResponseHandler handler = mock(StreamingChatResponseHandler.class);
+
+            // When
+            llmService.generateStream("안녕하세요", handler);
+
+            // Then
+            verify(streamingChatModel).chat("안녕하세요", handler);
+        }
+
+        @Test
+        @DisplayName("스트리밍 시작 실패 시 핸들러 onError 호출")
+        void generateStream_예외() {
+            // Given
+            StreamingChatResponseHandler handler = mock(StreamingChatResponseHandler.class);
+            doThrow(new RuntimeException("API 에러"))
+                .when(streamingChatModel).chat(eq("테스트"), any(StreamingChatResponseHandler.class));
+
+            // When
+            llmService.generateStream("테스트", handler);
+
+            // Then
+            verify(handler).onError(any(RuntimeException.class));
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package com.tech.n.ai.api.chatbot.service;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueryEmbeddingServiceImpl 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryEmbeddingServiceImpl 단위 테스트")
+class QueryEmbeddingServiceImplTest {
+
+    @Mock
+    private EmbeddingModel embeddingModel;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private QueryEmbeddingServiceImpl queryEmbeddingService;
+
+    private static final float[] VECTOR = {0.1f, -0.2f, 0.3f};
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryEmbeddingService = new QueryEmbeddingServiceImpl(embeddingModel, redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(queryEmbeddingService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(queryEmbeddingService, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(queryEmbeddingService, "redisTtlHours", 24);
+        ReflectionTestUtils.setField(queryEmbeddingService, "embeddingModelName", "text-embedding-3-small");
+        queryEmbeddingService.init();
+    }
+
+    private void givenModelReturns(float[] vector) {
+        @SuppressWarnings("unchecked")
+        Response<Embedding> response = mock(Response.class);
+        when(response.content()).thenReturn(Embedding.from(vector));
+        when(embeddingModel.embed(anyString())).thenReturn(response);
+    }
+
+    private double counter(String tier, String result) {
+        return meterRegistry.get("chatbot.embedding.cache")
+            .tag("tier", tier).tag("result", result)
+            .counter().count();
+    }
+
+    // ========== normalize 테스트 ==========
+
+    @Nested
+    @DisplayName("normalize")
+    class Normalize {
+
+        @Test
+        @DisplayName("대소문자, 공백, 전각 문자 정규화")
+        void normalize_정규화() {
+            assertThat(queryEmbeddingService.normalize("  Latest   OpenAI\tModel "))
+                .isEqualTo("latest openai model");
+            assertThat(queryEmbeddingService.normalize("ＧＰＴ"))
+                .isEqualTo("gpt");
+        }
+
+        @Test
+        @DisplayName("null 입력 시 빈 문자열")
+        void normalize_null() {
+            assertThat(queryEmbeddingService.normalize(null)).isEmpty();
+        }
+    }
+
+    // ========== embed 테스트 ==========
+
+    @Nested
+    @DisplayName("embed")
+    class Embed {
+
+        @Test
+        @DisplayName("전체 미스 - 모델 호출 후 Redis 저장")
+        void embed_미스() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn(null);
+            givenModelReturns(VECTOR);
+
+            // When
+            float[] result = queryEmbeddingService.embed("Latest OpenAI model");
+
+            // Then
+            assertThat(result).containsExactly(VECTOR);
+            verify(valueOperations).set(anyString(), any(String.class), eq(Duration.ofHours(24)));
+            assertThat(counter("all", "miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("정규화 결과가 같은 쿼리는 L1 캐시 히트")
+        void embed_로컬히트() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn(null);
+            givenModelReturns(VECTOR);
+            queryEmbeddingService.embed("Latest OpenAI model");
+
+            // When
+            float[] result = queryEmbeddingService.embed("  latest   openai MODEL ");
+
+            // Then
+            assertThat(result).containsExactly(VECTOR);
+            verify(embeddingModel, times(1)).embed(anyString());
+            assertThat(counter("local", "hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("L2(Redis) 히트 - 모델 호출 없음")
+        void embed_Redis히트() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString()))
+                .thenReturn(QueryEmbeddingServiceImpl.encode(VECTOR));
+
+            // When
+            float[] result = queryEmbeddingService.embed("query");
+
+            // Then
+            assertThat(result).containsExactly(VECTOR);
+            verifyNoInteractions(embeddingModel);
+            assertThat(counter("redis", "hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Redis 예외 시 모델로 폴백")
+        void embed_Redis예외() {
+            // Given
+            when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis 연결 실패"));
+            givenModelReturns(VECTOR);
+
+            // When
+            float[] result = queryEmbeddingService.embed("query");
+
+            // Then
+            assertThat(result).containsExactly(VECTOR);
+        }
+
+        @Test
+        @DisplayName("캐시 비활성화 시 모델 직접 호출")
+        void embed_캐시비활성화() {
+            // Given
+            ReflectionTestUtils.setField(queryEmbeddingService, "cacheEnabled", false);
+            givenModelReturns(VECTOR);
+
+            // When
+            float[] result = queryEmbeddingService.embed("query");
+
+            // Then
+            assertThat(result).containsExactly(VECTOR);
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+
+    @Test
+    @DisplayName("encode/decode 왕복 시 벡터 보존")
+    void encodeDecode_왕복() {
+        String encoded = QueryEmbeddingServiceImpl.encode(VECTOR);
+
+        assertThat(QueryEmbeddingServiceImpl.decode(encoded)).containsExactly(VECTOR);
+    }
+}
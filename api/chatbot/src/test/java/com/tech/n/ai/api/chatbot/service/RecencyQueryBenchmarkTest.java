@@ -0,0 +1,146 @@
+package com.tech.n.ai.api.chatbot.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Indexes;
+import com.tech.n.ai.api.chatbot.service.dto.SearchOptions;
+import com.tech.n.ai.api.chatbot.service.dto.SearchResult;
+import com.tech.n.ai.domain.mongodb.util.VectorSearchUtil;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최신성 쿼리 벤치마크: 조합별 개별 find 루프 vs $group + $topN 단일 aggregation
+ *
+ * 실제 MongoDB(5.2+)가 필요하므로 MONGODB_BENCHMARK_URI 환경 변수가 있을 때만 실행됩니다.
+ * 별도 벤치마크 DB에 합성 데이터를 적재한 뒤 종료 시 삭제합니다.
+ *
+ * 실행 예:
+ * MONGODB_BENCHMARK_URI=mongodb://localhost:27017 ./gradlew :api-chatbot:test --tests '*RecencyQueryBenchmarkTest'
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "MONGODB_BENCHMARK_URI", matches = ".+")
+@DisplayName("최신성 쿼리 벤치마크 (per-combination vs grouped)")
+class RecencyQueryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecencyQueryBenchmarkTest.class);
+
+    private static final String DATABASE = "tech_n_ai_benchmark";
+    private static final List<String> PROVIDERS = List.of("OPENAI", "ANTHROPIC", "GOOGLE", "META", "XAI");
+    private static final List<String> UPDATE_TYPES = List.of("MODEL_RELEASE", "API_UPDATE", "SDK_RELEASE", "BLOG_POST");
+    private static final int DOCS_PER_COMBINATION = 500;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURE_ITERATIONS = 100;
+
+    private MongoClient mongoClient;
+    private VectorSearchServiceImpl vectorSearchService;
+
+    @BeforeAll
+    void setUp() {
+        mongoClient = MongoClients.create(System.getenv("MONGODB_BENCHMARK_URI"));
+        MongoTemplate mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        vectorSearchService = new VectorSearchServiceImpl(null, mongoTemplate);
+
+        MongoCollection<Document> collection = mongoTemplate.getCollection(VectorSearchUtil.COLLECTION_EMERGING_TECHS);
+        collection.drop();
+        collection.createIndex(Indexes.compoundIndex(
+            Indexes.ascending("status"),
+            Indexes.ascending("provider"),
+            Indexes.ascending("update_type"),
+            Indexes.descending("published_at")));
+
+        Instant now = Instant.now();
+        List<Document> docs = new ArrayList<>();
+        for (String provider : PROVIDERS) {
+            for (String updateType : UPDATE_TYPES) {
+                for (int i = 0; i < DOCS_PER_COMBINATION; i++) {
+                    docs.add(new Document()
+                        .append("status", "PUBLISHED")
+                        .append("provider", provider)
+                        .append("update_type", updateType)
+                        .append("source_type", "RSS")
+                        .append("embedding_text", provider + " " + updateType + " " + i)
+                        .append("published_at", Date.from(now.minus(i, ChronoUnit.HOURS))));
+                }
+            }
+        }
+        collection.insertMany(docs);
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (mongoClient != null) {
+            mongoClient.getDatabase(DATABASE).drop();
+            mongoClient.close();
+        }
+    }
+
+    @ParameterizedTest(name = "{0} provider × {1} updateType")
+    @CsvSource({"1, 1", "2, 2", "5, 4"})
+    @DisplayName("조합 수 1 / 4 / 20")
+    void benchmark(int providerCount, int updateTypeCount) {
+        SearchOptions options = SearchOptions.builder()
+            .providerFilters(PROVIDERS.subList(0, providerCount))
+            .updateTypeFilters(UPDATE_TYPES.subList(0, updateTypeCount))
+            .build();
+        int limit = 5;
+        List<?> plan = ReflectionTestUtils.invokeMethod(vectorSearchService, "planRecencyQueries", options, limit);
+
+        ReflectionTestUtils.setField(vectorSearchService, "groupedRecencyQueryEnabled", false);
+        Supplier<List<SearchResult>> perCombination = () ->
+            ReflectionTestUtils.invokeMethod(vectorSearchService, "queryRecentDocuments", options, limit);
+        Supplier<List<SearchResult>> grouped = () ->
+            ReflectionTestUtils.invokeMethod(vectorSearchService, "queryRecentDocumentsGrouped", options, plan);
+
+        assertThat(grouped.get()).extracting(SearchResult::documentId)
+            .containsExactlyElementsOf(perCombination.get().stream().map(SearchResult::documentId).toList());
+
+        long[] loopNanos = measure(perCombination);
+        long[] groupedNanos = measure(grouped);
+
+        log.info("Recency query benchmark: combinations={}, per-combination p50={}ms p95={}ms, grouped p50={}ms p95={}ms",
+            providerCount * updateTypeCount,
+            formatMillis(loopNanos, 0.5), formatMillis(loopNanos, 0.95),
+            formatMillis(groupedNanos, 0.5), formatMillis(groupedNanos, 0.95));
+    }
+
+    private long[] measure(Supplier<List<SearchResult>> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.get();
+        }
+        long[] samples = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private String formatMillis(long[] sortedSamples, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return String.format("%.2f", sortedSamples[Math.max(0, index)] / 1_000_000.0);
+    }
+}
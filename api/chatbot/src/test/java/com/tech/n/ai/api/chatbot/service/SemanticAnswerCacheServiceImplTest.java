@@ -0,0 +1,225 @@
+package com.tech.n.ai.api.chatbot.service;
+
+import com.tech.n.ai.api.chatbot.dto.response.SourceResponse;
+import com.tech.n.ai.api.chatbot.service.dto.AnswerCacheLookup;
+import com.tech.n.ai.api.chatbot.service.dto.CachedAnswer;
+import com.tech.n.ai.api.chatbot.service.dto.SearchOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * SemanticAnswerCacheServiceImpl 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SemanticAnswerCacheServiceImpl 단위 테스트")
+class SemanticAnswerCacheServiceImplTest {
+
+    @Mock
+    private QueryEmbeddingService queryEmbeddingService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SemanticAnswerCacheServiceImpl answerCacheService;
+
+    private static final SearchOptions OPENAI_OPTIONS = SearchOptions.builder()
+        .providerFilters(List.of("OPENAI"))
+        .updateTypeFilters(List.of("MODEL_RELEASE"))
+        .recencyDetected(true)
+        .build();
+
+    private static final CachedAnswer ANSWER = new CachedAnswer(
+        "GPT-5가 출시되었습니다.", List.of(SourceResponse.builder().documentId("doc1").build()), 1500);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        answerCacheService = new SemanticAnswerCacheServiceImpl(queryEmbeddingService, redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(answerCacheService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(answerCacheService, "similarityThreshold", 0.95);
+        ReflectionTestUtils.setField(answerCacheService, "maxScopes", 10L);
+        ReflectionTestUtils.setField(answerCacheService, "maxEntriesPerScope", 2);
+        ReflectionTestUtils.setField(answerCacheService, "ttlHours", 1);
+        answerCacheService.init();
+    }
+
+    private void givenGenerations(String... values) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(values));
+    }
+
+    private void givenEmbedding(String query, float... vector) {
+        when(queryEmbeddingService.embed(query)).thenReturn(vector);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("chatbot.answer-cache.requests").tag("result", result).counter().count();
+    }
+
+    // ========== lookup / store 테스트 ==========
+
+    @Nested
+    @DisplayName("lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("유사도 임계값 이상 - 히트, 절감 토큰 집계")
+        void lookup_히트() {
+            // Given
+            givenGenerations("3");
+            givenEmbedding("latest openai model", 1f, 0f, 0f);
+            givenEmbedding("newest openai model", 0.99f, 0.1f, 0f);
+            answerCacheService.store(answerCacheService.lookup("latest openai model", OPENAI_OPTIONS), ANSWER);
+
+            // When
+            AnswerCacheLookup result = answerCacheService.lookup("newest openai model", OPENAI_OPTIONS);
+
+            // Then
+            assertThat(result.isHit()).isTrue();
+            assertThat(result.answer()).isEqualTo(ANSWER);
+            assertThat(requests("hit")).isEqualTo(1.0);
+            assertThat(requests("miss")).isEqualTo(1.0);
+            assertThat(meterRegistry.get("chatbot.answer-cache.tokens-saved").counter().count()).isEqualTo(1500.0);
+            assertThat(meterRegistry.get("chatbot.answer-cache.hit-ratio").gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("유사도 임계값 미만 - 미스")
+        void lookup_유사도미달() {
+            // Given
+            givenGenerations("3");
+            givenEmbedding("latest openai model", 1f, 0f, 0f);
+            givenEmbedding("openai pricing", 0f, 1f, 0f);
+            answerCacheService.store(answerCacheService.lookup("latest openai model", OPENAI_OPTIONS), ANSWER);
+
+            // When
+            AnswerCacheLookup result = answerCacheService.lookup("openai pricing", OPENAI_OPTIONS);
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+            assertThat(result.isCacheable()).isTrue();
+        }
+
+        @Test
+        @DisplayName("provider 범위가 다르면 매칭하지 않음")
+        void lookup_범위불일치() {
+            // Given
+            givenGenerations("3");
+            givenEmbedding("latest model", 1f, 0f, 0f);
+            answerCacheService.store(answerCacheService.lookup("latest model", OPENAI_OPTIONS), ANSWER);
+            SearchOptions anthropicOptions = SearchOptions.builder()
+                .providerFilters(List.of("ANTHROPIC"))
+                .updateTypeFilters(List.of("MODEL_RELEASE"))
+                .recencyDetected(true)
+                .build();
+
+            // When
+            AnswerCacheLookup result = answerCacheService.lookup("latest model", anthropicOptions);
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+        }
+
+        @Test
+        @DisplayName("provider 세대 증가(신규 게시) 시 무효화")
+        void lookup_세대변경() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(anyList()))
+                .thenReturn(List.of("3"))
+                .thenReturn(List.of("4"));
+            givenEmbedding("latest openai model", 1f, 0f, 0f);
+            answerCacheService.store(answerCacheService.lookup("latest openai model", OPENAI_OPTIONS), ANSWER);
+
+            // When
+            AnswerCacheLookup result = answerCacheService.lookup("latest openai model", OPENAI_OPTIONS);
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+        }
+
+        @Test
+        @DisplayName("세대 조회 실패 시 캐시 미사용")
+        void lookup_Redis예외() {
+            // Given
+            when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+            // When
+            AnswerCacheLookup result = answerCacheService.lookup("latest openai model", OPENAI_OPTIONS);
+
+            // Then
+            assertThat(result.isCacheable()).isFalse();
+            verifyNoInteractions(queryEmbeddingService);
+        }
+
+        @Test
+        @DisplayName("캐시 비활성화 시 임베딩/Redis 호출 없음")
+        void lookup_비활성화() {
+            // Given
+            ReflectionTestUtils.setField(answerCacheService, "cacheEnabled", false);
+
+            // When
+            AnswerCacheLookup result = answerCacheService.lookup("latest openai model", OPENAI_OPTIONS);
+
+            // Then
+            assertThat(result.isCacheable()).isFalse();
+            verifyNoInteractions(queryEmbeddingService, redisTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("store")
+    class Store {
+
+        @Test
+        @DisplayName("범위별 최대 엔트리 수 초과 시 가장 오래된 엔트리 제거")
+        void store_용량초과() {
+            // Given
+            givenGenerations("1");
+            givenEmbedding("q1", 1f, 0f, 0f);
+            givenEmbedding("q2", 0f, 1f, 0f);
+            givenEmbedding("q3", 0f, 0f, 1f);
+            answerCacheService.store(answerCacheService.lookup("q1", OPENAI_OPTIONS), ANSWER);
+            answerCacheService.store(answerCacheService.lookup("q2", OPENAI_OPTIONS), ANSWER);
+            answerCacheService.store(answerCacheService.lookup("q3", OPENAI_OPTIONS), ANSWER);
+
+            // When & Then
+            assertThat(answerCacheService.lookup("q1", OPENAI_OPTIONS).isHit()).isFalse();
+            assertThat(answerCacheService.lookup("q3", OPENAI_OPTIONS).isHit()).isTrue();
+        }
+
+        @Test
+        @DisplayName("빈 답변은 저장하지 않음")
+        void store_빈답변() {
+            // Given
+            givenGenerations("1");
+            givenEmbedding("q1", 1f, 0f, 0f);
+            answerCacheService.store(answerCacheService.lookup("q1", OPENAI_OPTIONS),
+                new CachedAnswer(" ", List.of(), 10));
+
+            // When & Then
+            assertThat(answerCacheService.lookup("q1", OPENAI_OPTIONS).isHit()).isFalse();
+        }
+    }
+}
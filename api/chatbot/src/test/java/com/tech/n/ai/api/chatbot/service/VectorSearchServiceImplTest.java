@@ -5,9 +5,6 @@ import com.tech.n.ai.api.chatbot.service.dto.SearchResult;
 import com.tech.n.ai.domain.mongodb.util.VectorSearchUtil;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoCollection;
-import dev.langchain4j.data.embedding.Embedding;
-import dev.langchain4j.model.embedding.EmbeddingModel;
-import dev.langchain4j.model.output.Response;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,7 +38,7 @@ import static org.mockito.Mockito.*;
 class VectorSearchServiceImplTest {
 
     @Mock
-    private EmbeddingModel embeddingModel;
+    private QueryEmbeddingService queryEmbeddingService;
 
     @Mock
     private MongoTemplate mongoTemplate;
@@ -58,7 +55,7 @@ class VectorSearchServiceImplTest {
     @Captor
     private ArgumentCaptor<List<Document>> pipelineCaptor;
 
-    private static final List<Float> DUMMY_VECTOR = List.of(0.1f, 0.2f, 0.3f);
+    private static final float[] DUMMY_VECTOR = {0.1f, 0.2f, 0.3f};
 
     // 테스트용 고정 ObjectId (24자리 hex)
     private static final String OID_DOC1 = "aaaaaaaaaaaaaaaaaaaaaaaa";
@@ -73,12 +70,8 @@ class VectorSearchServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        // EmbeddingModel Mock 설정
-        Embedding embedding = Embedding.from(DUMMY_VECTOR);
-        @SuppressWarnings("unchecked")
-        Response<Embedding> response = mock(Response.class);
-        lenient().when(response.content()).thenReturn(embedding);
-        lenient().when(embeddingModel.embed(anyString())).thenReturn(response);
+        // QueryEmbeddingService Mock 설정
+        lenient().when(queryEmbeddingService.embed(anyString())).thenReturn(DUMMY_VECTOR);
     }
 
     // ========== search() 분기 테스트 ==========
@@ -753,6 +746,199 @@ class VectorSearchServiceImplTest {
         }
     }
 
+    // ========== 병렬 실행 모드 ==========
+
+    @Nested
+    @DisplayName("search - 병렬 하이브리드 검색")
+    class ParallelHybridSearch {
+
+        @BeforeEach
+        void enableParallel() {
+            ReflectionTestUtils.setField(vectorSearchService, "parallelSearchEnabled", true);
+            ReflectionTestUtils.setField(vectorSearchService, "sourceTimeoutMs", 500L);
+        }
+
+        @Test
+        @DisplayName("벡터 + 최신성 결과를 RRF로 결합")
+        void parallel_combinesResultsWithRRF() {
+            // Given
+            SearchOptions options = SearchOptions.builder()
+                .enableScoreFusion(true)
+                .maxResults(5)
+                .recencyDetected(true)
+                .build();
+            setupAggregateResults(List.of(
+                createMongoDocumentWithCombinedScore(OID_DOC_COMMON, 0.90, "공통")
+            ));
+            setupFindResults(List.of(
+                createMongoDocument(OID_DOC_COMMON, null, "공통"),
+                createMongoDocument(OID_DOC_ONLY_RECENCY, null, "최신만")
+            ));
+
+            // When
+            List<SearchResult> results = vectorSearchService.search("최신 AI", 1L, options);
+
+            // Then
+            assertThat(results).extracting(SearchResult::documentId)
+                .containsExactly(OID_DOC_COMMON, OID_DOC_ONLY_RECENCY);
+        }
+
+        @Test
+        @DisplayName("데드라인 초과 최신성 하위 쿼리는 제외하고 부분 결과 반환")
+        void parallel_slowRecencySubQuery_partialResults() {
+            // Given: provider 2개 → 하위 쿼리 2개, 하나는 데드라인 초과
+            SearchOptions options = SearchOptions.builder()
+                .enableScoreFusion(true)
+                .maxResults(5)
+                .recencyDetected(true)
+                .providerFilters(List.of("OPENAI", "ANTHROPIC"))
+                .build();
+            setupAggregateResults(List.of(
+                createMongoDocumentWithCombinedScore(OID_DOC1, 0.92, "벡터결과")
+            ));
+            when(mongoTemplate.find(any(), eq(Document.class), eq(VectorSearchUtil.COLLECTION_EMERGING_TECHS)))
+                .thenAnswer(invocation -> {
+                    String query = invocation.getArgument(0).toString();
+                    if (query.contains("ANTHROPIC")) {
+                        Thread.sleep(2_000);
+                    }
+                    return List.of(createMongoDocument(OID_DOC_LATEST, null, "OpenAI 최신"));
+                });
+
+            // When
+            long start = System.currentTimeMillis();
+            List<SearchResult> results = vectorSearchService.search("최신 AI", 1L, options);
+            long elapsed = System.currentTimeMillis() - start;
+
+            // Then
+            assertThat(results).extracting(SearchResult::documentId)
+                .containsExactlyInAnyOrder(OID_DOC1, OID_DOC_LATEST);
+            assertThat(elapsed).isLessThan(2_000);
+        }
+
+        @Test
+        @DisplayName("벡터 소스 실패 시 기존 벡터 검색으로 fallback")
+        void parallel_vectorFailure_fallsBackToStandard() {
+            // Given
+            SearchOptions options = SearchOptions.builder()
+                .enableScoreFusion(true)
+                .maxResults(5)
+                .recencyDetected(false)
+                .build();
+            when(mongoTemplate.getCollection(VectorSearchUtil.COLLECTION_EMERGING_TECHS))
+                .thenReturn(mongoCollection);
+            when(mongoCollection.aggregate(anyList()))
+                .thenThrow(new RuntimeException("Score Fusion pipeline error"))
+                .thenReturn(aggregateIterable);
+            when(aggregateIterable.into(any()))
+                .thenReturn(new ArrayList<>(List.of(
+                    createMongoDocument(OID_FALLBACK, 0.85, "fallback 결과")
+                )));
+            lenient().when(mongoTemplate.find(any(), eq(Document.class), eq(VectorSearchUtil.COLLECTION_EMERGING_TECHS)))
+                .thenReturn(List.of());
+
+            // When
+            List<SearchResult> results = vectorSearchService.search("테스트", 1L, options);
+
+            // Then
+            assertThat(results).extracting(SearchResult::documentId).containsExactly(OID_FALLBACK);
+        }
+    }
+
+    // ========== 그룹 최신성 쿼리 ($group + $topN) ==========
+
+    @Nested
+    @DisplayName("queryRecentDocuments - 그룹 aggregation 모드")
+    class GroupedRecencyQuery {
+
+        @BeforeEach
+        void enableGrouped() {
+            ReflectionTestUtils.setField(vectorSearchService, "groupedRecencyQueryEnabled", true);
+        }
+
+        @Test
+        @DisplayName("다중 provider + 다중 updateType → find 대신 단일 aggregation")
+        void crossProduct_usesSingleAggregation() {
+            // Given: 2 providers × 2 types
+            SearchOptions options = SearchOptions.builder()
+                .enableScoreFusion(true)
+                .maxResults(5)
+                .recencyDetected(true)
+                .providerFilters(List.of("OPENAI", "ANTHROPIC"))
+                .updateTypeFilters(List.of("SDK_RELEASE", "MODEL_RELEASE"))
+                .build();
+
+            when(mongoTemplate.getCollection(VectorSearchUtil.COLLECTION_EMERGING_TECHS))
+                .thenReturn(mongoCollection);
+            when(mongoCollection.aggregate(anyList())).thenReturn(aggregateIterable);
+            when(aggregateIterable.into(any()))
+                .thenReturn(new ArrayList<>(List.of(
+                    createMongoDocumentWithCombinedScore(OID_DOC1, 0.9, "벡터결과"))))
+                .thenReturn(new ArrayList<>(List.of(
+                    createGroupedDocument(OID_DOC_LATEST, "ANTHROPIC", "MODEL_RELEASE"),
+                    createGroupedDocument(OID_DOC2, "OPENAI", "SDK_RELEASE"))));
+
+            // When
+            List<SearchResult> results = vectorSearchService.search("OpenAI Anthropic 릴리스", 1L, options);
+
+            // Then
+            verify(mongoTemplate, never()).find(any(), eq(Document.class), anyString());
+            verify(mongoCollection, times(2)).aggregate(pipelineCaptor.capture());
+            List<Document> groupedPipeline = pipelineCaptor.getAllValues().get(1);
+            Document groupStage = (Document) groupedPipeline.stream()
+                .filter(stage -> stage.containsKey("$group"))
+                .findFirst().orElseThrow().get("$group");
+            assertThat(((Document) groupStage.get("_id")).keySet())
+                .containsExactly("provider", "update_type");
+            assertThat(((Document) groupStage.get("docs")).containsKey("$topN")).isTrue();
+            assertThat(results).extracting(SearchResult::documentId)
+                .contains(OID_DOC1, OID_DOC_LATEST, OID_DOC2);
+        }
+
+        @Test
+        @DisplayName("결과를 하위 쿼리 계획 순서(provider 순)로 재정렬")
+        void groupedResults_reorderedByPlan() {
+            // Given
+            SearchOptions options = SearchOptions.builder()
+                .providerFilters(List.of("OPENAI", "ANTHROPIC"))
+                .build();
+            when(mongoTemplate.getCollection(VectorSearchUtil.COLLECTION_EMERGING_TECHS))
+                .thenReturn(mongoCollection);
+            when(mongoCollection.aggregate(anyList())).thenReturn(aggregateIterable);
+            when(aggregateIterable.into(any()))
+                .thenReturn(new ArrayList<>(List.of(
+                    createGroupedDocument(OID_DOC3, "ANTHROPIC", null),
+                    createGroupedDocument(OID_DOC2, "OPENAI", null))));
+
+            // When
+            @SuppressWarnings("unchecked")
+            List<SearchResult> results = (List<SearchResult>) ReflectionTestUtils.invokeMethod(
+                vectorSearchService, "queryRecentDocuments", options, 5);
+
+            // Then
+            assertThat(results).extracting(SearchResult::documentId)
+                .containsExactly(OID_DOC2, OID_DOC3);
+        }
+
+        @Test
+        @DisplayName("단일 provider → 기존 단일 find 쿼리 유지")
+        void singleProvider_keepsFind() {
+            // Given
+            SearchOptions options = SearchOptions.builder()
+                .providerFilters(List.of("OPENAI"))
+                .build();
+            setupFindResults(List.of(createMongoDocument(OID_DOC2, null, "OPENAI 최신")));
+
+            // When
+            ReflectionTestUtils.invokeMethod(vectorSearchService, "queryRecentDocuments", options, 5);
+
+            // Then
+            verify(mongoTemplate, times(1)).find(
+                any(), eq(Document.class), eq(VectorSearchUtil.COLLECTION_EMERGING_TECHS));
+            verify(mongoTemplate, never()).getCollection(anyString());
+        }
+    }
+
     // ========== 엣지 케이스 ==========
 
     @Nested
@@ -931,6 +1117,15 @@ class VectorSearchServiceImplTest {
         return doc;
     }
 
+    private Document createGroupedDocument(String oid, String provider, String updateType) {
+        Document doc = createMongoDocument(oid, null, provider + " 최신");
+        doc.append("provider", provider);
+        if (updateType != null) {
+            doc.append("update_type", updateType);
+        }
+        return doc;
+    }
+
     private SearchResult createSearchResult(String documentId, double score) {
         return SearchResult.builder()
             .documentId(documentId)
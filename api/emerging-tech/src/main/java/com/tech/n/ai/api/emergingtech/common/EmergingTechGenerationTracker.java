@@ -0,0 +1,37 @@
+package com.tech.n.ai.api.emergingtech.common;
+
+import com.tech.n.ai.common.core.constants.CacheKeyConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emerging Tech 게시 세대(generation) 카운터
+ *
+ * provider별 게시 문서 집합이 바뀔 때마다 Redis 카운터를 증가시켜
+ * 챗봇 답변 캐시 등 다른 모듈이 해당 provider 범위의 캐시를 무효화할 수 있도록 합니다.
+ * Redis 장애 시에도 문서 저장 흐름은 중단되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmergingTechGenerationTracker {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * provider의 게시 문서 집합 변경 기록 (provider 세대 + 전체 세대 증가)
+     */
+    public void markChanged(String provider) {
+        try {
+            if (provider != null) {
+                redisTemplate.opsForValue().increment(CacheKeyConstants.EMERGING_TECH_GENERATION_PREFIX + provider);
+            }
+            redisTemplate.opsForValue().increment(
+                CacheKeyConstants.EMERGING_TECH_GENERATION_PREFIX + CacheKeyConstants.EMERGING_TECH_GENERATION_ALL);
+        } catch (Exception e) {
+            log.warn("게시 세대 갱신 실패: provider={}, error={}", provider, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.tech.n.ai.api.emergingtech.common;
+
+import com.tech.n.ai.api.emergingtech.config.GatewayCacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Gateway 응답 캐시 무효화 요청
+ *
+ * 게시 데이터가 바뀐 뒤 Gateway의 내부 무효화 엔드포인트를 호출합니다.
+ * 실패해도 문서 저장 흐름은 중단되지 않으며, 이 경우 Gateway 캐시는 TTL 만료 시점에 갱신됩니다.
+ */
+@Slf4j
+@Component
+public class GatewayCachePurger {
+
+    private static final String PURGE_PATH = "/internal/cache/{cacheName}/purge";
+    private static final String API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final GatewayCacheConfig config;
+    private final RestClient restClient;
+
+    public GatewayCachePurger(GatewayCacheConfig config) {
+        this.config = config;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(config.getTimeoutMs());
+        requestFactory.setReadTimeout(config.getTimeoutMs());
+        this.restClient = RestClient.builder()
+            .requestFactory(requestFactory)
+            .build();
+    }
+
+    /**
+     * Emerging Tech 응답 캐시 무효화
+     */
+    public void purge() {
+        if (!config.isEnabled() || config.getBaseUrl() == null || config.getBaseUrl().isBlank()) {
+            return;
+        }
+        try {
+            restClient.post()
+                .uri(config.getBaseUrl() + PURGE_PATH, config.getCacheName())
+                .header(API_KEY_HEADER, config.getPurgeApiKey())
+                .retrieve()
+                .toBodilessEntity();
+        } catch (Exception e) {
+            log.warn("Gateway 응답 캐시 무효화 실패: cacheName={}, error={}", config.getCacheName(), e.getMessage());
+        }
+    }
+}
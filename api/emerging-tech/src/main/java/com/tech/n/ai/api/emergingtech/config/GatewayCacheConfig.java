@@ -0,0 +1,37 @@
+package com.tech.n.ai.api.emergingtech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Gateway 응답 캐시 무효화 설정
+ */
+@ConfigurationProperties(prefix = "emerging-tech.gateway-cache")
+@Data
+public class GatewayCacheConfig {
+
+    /**
+     * 무효화 요청 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * Gateway 내부 주소
+     */
+    private String baseUrl;
+
+    /**
+     * Gateway 응답 캐시 이름 (라우트의 RedisResponseCache cacheName)
+     */
+    private String cacheName = "emerging-tech";
+
+    /**
+     * Gateway 캐시 무효화 API 키
+     */
+    private String purgeApiKey;
+
+    /**
+     * 요청 타임아웃 (ms)
+     */
+    private int timeoutMs = 2000;
+}
@@ -20,7 +20,7 @@ import org.springframework.context.annotation.Import;
     MongoIndexConfig.class,
     VectorSearchIndexConfig.class
 })
-@EnableConfigurationProperties(EmergingTechConfig.class)
+@EnableConfigurationProperties({EmergingTechConfig.class, GatewayCacheConfig.class})
 public class ServerConfig {
 
 }
@@ -1,5 +1,6 @@
 package com.tech.n.ai.api.emergingtech.facade;
 
+import com.tech.n.ai.api.emergingtech.common.GatewayCachePurger;
 import com.tech.n.ai.api.emergingtech.dto.request.EmergingTechBatchRequest;
 import com.tech.n.ai.api.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.api.emergingtech.dto.request.EmergingTechListRequest;
@@ -25,7 +26,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -48,6 +48,7 @@ public class EmergingTechFacade {
 
     private final EmergingTechQueryService queryService;
     private final EmergingTechCommandService commandService;
+    private final GatewayCachePurger gatewayCachePurger;
 
     /**
      * 목록 조회
@@ -104,6 +105,9 @@ public class EmergingTechFacade {
      */
     public EmergingTechDetailResponse createEmergingTech(EmergingTechCreateRequest request) {
         EmergingTechCommandService.SaveResult result = commandService.saveEmergingTech(request);
+        if (result.isNew()) {
+            gatewayCachePurger.purge();
+        }
         EmergingTechDetailResponse response = EmergingTechDetailResponse.from(result.document());
         log.info("Emerging Tech 생성 완료: id={}, title={}, provider={}, isNew={}",
             response.id(), response.title(), response.provider(), result.isNew());
@@ -114,40 +118,22 @@ public class EmergingTechFacade {
      * 다건 생성 (부분 성공 허용)
      */
     public EmergingTechBatchResponse createEmergingTechBatch(EmergingTechBatchRequest request) {
-        int newCount = 0;
-        int duplicateCount = 0;
-        int failureCount = 0;
-        List<String> failureMessages = new ArrayList<>();
-
-        for (EmergingTechCreateRequest item : request.items()) {
-            try {
-                EmergingTechCommandService.SaveResult result = commandService.saveEmergingTech(item);
-                if (result.isNew()) {
-                    newCount++;
-                } else {
-                    duplicateCount++;
-                }
-            } catch (Exception e) {
-                failureCount++;
-                String errorMessage = String.format(
-                    "Emerging Tech 저장 실패: title=%s, error=%s",
-                    item.title(), e.getMessage()
-                );
-                log.error(errorMessage, e);
-                failureMessages.add(errorMessage);
-            }
+        EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(request.items());
+        int failureCount = result.failureMessages().size();
+        if (result.newCount() > 0) {
+            gatewayCachePurger.purge();
         }
 
         log.info("Emerging Tech 다건 생성 완료: total={}, new={}, duplicate={}, failure={}",
-            request.items().size(), newCount, duplicateCount, failureCount);
+            request.items().size(), result.newCount(), result.duplicateCount(), failureCount);
 
         return EmergingTechBatchResponse.builder()
             .totalCount(request.items().size())
-            .successCount(newCount + duplicateCount)
-            .newCount(newCount)
-            .duplicateCount(duplicateCount)
+            .successCount(result.newCount() + result.duplicateCount())
+            .newCount(result.newCount())
+            .duplicateCount(result.duplicateCount())
             .failureCount(failureCount)
-            .failureMessages(failureMessages)
+            .failureMessages(result.failureMessages())
             .build();
     }
 
@@ -156,6 +142,7 @@ public class EmergingTechFacade {
      */
     public EmergingTechDetailResponse approveEmergingTech(String id) {
         EmergingTechDocument document = commandService.updateStatus(id, PostStatus.PUBLISHED);
+        gatewayCachePurger.purge();
         return EmergingTechDetailResponse.from(document);
     }
 
@@ -164,6 +151,7 @@ public class EmergingTechFacade {
      */
     public EmergingTechDetailResponse rejectEmergingTech(String id) {
         EmergingTechDocument document = commandService.updateStatus(id, PostStatus.REJECTED);
+        gatewayCachePurger.purge();
         return EmergingTechDetailResponse.from(document);
     }
 
@@ -4,6 +4,8 @@ import com.tech.n.ai.api.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.domain.mongodb.document.EmergingTechDocument;
 import com.tech.n.ai.domain.mongodb.enums.PostStatus;
 
+import java.util.List;
+
 /**
  * Emerging Tech 명령 서비스
  */
@@ -14,11 +16,21 @@ public interface EmergingTechCommandService {
      */
     record SaveResult(EmergingTechDocument document, boolean isNew) {}
 
+    /**
+     * 다건 저장 결과 (신규/중복 건수, 실패 메시지)
+     */
+    record BatchSaveResult(int newCount, int duplicateCount, List<String> failureMessages) {}
+
     /**
      * 단건 저장 (중복 시 기존 문서 반환)
      */
     SaveResult saveEmergingTech(EmergingTechCreateRequest request);
 
+    /**
+     * 다건 저장 (중복 제거 → 임베딩 일괄 생성 → bulk insert, 부분 성공 허용)
+     */
+    BatchSaveResult saveEmergingTechBatch(List<EmergingTechCreateRequest> requests);
+
     /**
      * 상태 변경
      */
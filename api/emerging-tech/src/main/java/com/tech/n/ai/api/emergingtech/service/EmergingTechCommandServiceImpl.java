@@ -1,18 +1,37 @@
 package com.tech.n.ai.api.emergingtech.service;
 
+import com.tech.n.ai.api.emergingtech.common.EmergingTechGenerationTracker;
 import com.tech.n.ai.api.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.domain.mongodb.document.EmergingTechDocument;
 import com.tech.n.ai.domain.mongodb.enums.PostStatus;
 import com.tech.n.ai.domain.mongodb.repository.EmergingTechRepository;
+import com.mongodb.bulk.BulkWriteError;
 import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Emerging Tech 명령 서비스 구현체
@@ -22,9 +41,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class EmergingTechCommandServiceImpl implements EmergingTechCommandService {
 
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+    private static final String METRIC_BATCH_STAGE = "emerging-tech.batch.stage";
+
     private final EmergingTechRepository emergingTechRepository;
     private final EmergingTechQueryService queryService;
     private final EmbeddingModel embeddingModel;
+    private final EmergingTechGenerationTracker generationTracker;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${emerging-tech.embedding.batch-size:100}")
+    private int embeddingBatchSize;
 
     @Override
     public SaveResult saveEmergingTech(EmergingTechCreateRequest request) {
@@ -34,15 +62,92 @@ public class EmergingTechCommandServiceImpl implements EmergingTechCommandServic
         }
 
         EmergingTechDocument document = createDocument(request);
-        return new SaveResult(emergingTechRepository.save(document), true);
+        EmergingTechDocument saved = emergingTechRepository.save(document);
+        if (PostStatus.PUBLISHED.name().equals(saved.getStatus())) {
+            generationTracker.markChanged(saved.getProvider());
+        }
+        return new SaveResult(saved, true);
+    }
+
+    @Override
+    public BatchSaveResult saveEmergingTechBatch(List<EmergingTechCreateRequest> requests) {
+        List<String> failureMessages = new ArrayList<>();
+
+        // 1. 중복 제거 (배치 내 중복 + 기존 문서 $in 일괄 조회)
+        long stageStart = System.nanoTime();
+        DedupResult dedup = deduplicate(requests, failureMessages);
+        List<EmergingTechCreateRequest> newRequests = dedup.newRequests();
+        int duplicateCount = dedup.duplicateCount();
+        long dedupNanos = recordStage("dedup", stageStart);
+
+        // 2. 문서 변환 + 임베딩 일괄 생성
+        stageStart = System.nanoTime();
+        List<EmergingTechDocument> documents = newRequests.stream()
+            .map(this::buildDocument)
+            .toList();
+        generateEmbeddings(documents);
+        long embedNanos = recordStage("embed", stageStart);
+
+        // 3. 비순차(unordered) bulk insert
+        stageStart = System.nanoTime();
+        Set<Integer> failedIndexes = new HashSet<>();
+        boolean persistOutcomeUnknown = false;
+        if (!documents.isEmpty()) {
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class);
+            bulkOps.insert(documents);
+            try {
+                bulkOps.execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    failedIndexes.add(error.getIndex());
+                    EmergingTechDocument document = documents.get(error.getIndex());
+                    if (error.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+                        // 동시 수집으로 중복 검사 이후 먼저 저장된 경우
+                        duplicateCount++;
+                    } else {
+                        addFailure(failureMessages, document.getTitle(), error.getMessage());
+                        log.error("Emerging Tech 저장 실패: title={}, error={}", document.getTitle(), error.getMessage());
+                    }
+                }
+            } catch (Exception e) {
+                // 타임아웃, write concern 실패 등: 어떤 문서가 저장되었는지 알 수 없으므로 전체를 건별 실패로 기록
+                log.error("Emerging Tech 일괄 저장 실패: count={}, error={}", documents.size(), e.getMessage(), e);
+                persistOutcomeUnknown = true;
+                for (int i = 0; i < documents.size(); i++) {
+                    failedIndexes.add(i);
+                    addFailure(failureMessages, documents.get(i).getTitle(), e.getMessage());
+                }
+            }
+        }
+        long persistNanos = recordStage("persist", stageStart);
+
+        int newCount = documents.size() - failedIndexes.size();
+        // 저장 여부를 알 수 없으면 일부가 저장되었을 수 있으므로 모든 provider의 캐시 세대를 갱신
+        markPublishedProviders(documents, persistOutcomeUnknown ? Set.of() : failedIndexes);
+
+        log.info("Emerging Tech 일괄 저장 완료: total={}, new={}, duplicate={}, failure={}, "
+                + "dedupMs={}, embedMs={}, persistMs={}",
+            requests.size(), newCount, duplicateCount, failureMessages.size(),
+            TimeUnit.NANOSECONDS.toMillis(dedupNanos),
+            TimeUnit.NANOSECONDS.toMillis(embedNanos),
+            TimeUnit.NANOSECONDS.toMillis(persistNanos));
+
+        return new BatchSaveResult(newCount, duplicateCount, failureMessages);
     }
 
     @Override
     public EmergingTechDocument updateStatus(String id, PostStatus status) {
         EmergingTechDocument document = queryService.findEmergingTechById(id);
+        boolean wasPublished = PostStatus.PUBLISHED.name().equals(document.getStatus());
         document.setStatus(status.name());
         document.setUpdatedAt(LocalDateTime.now());
-        return emergingTechRepository.save(document);
+        EmergingTechDocument saved = emergingTechRepository.save(document);
+
+        // 게시 문서 집합이 바뀐 경우에만 세대 증가 (게시 / 게시 취소)
+        if (wasPublished != (status == PostStatus.PUBLISHED)) {
+            generationTracker.markChanged(saved.getProvider());
+        }
+        return saved;
     }
 
     /**
@@ -69,9 +174,83 @@ public class EmergingTechCommandServiceImpl implements EmergingTechCommandServic
     }
 
     /**
-     * 요청 DTO → Document 변환
+     * 배치 중복 제거
+     * - 배치 내: externalId 또는 url이 앞선 항목과 같으면 중복
+     * - 기존 문서: externalId, url 각각 $in 조회 1회 (_id, external_id, url만 projection)
+     * - 기존 문서 조회 실패 시: 배치 내 고유 항목을 모두 항목별 실패로 기록하고 저장 대상에서 제외
+     */
+    private DedupResult deduplicate(List<EmergingTechCreateRequest> requests, List<String> failureMessages) {
+        Set<String> batchExternalIds = new HashSet<>();
+        Set<String> batchUrls = new HashSet<>();
+        List<EmergingTechCreateRequest> uniqueRequests = new ArrayList<>();
+        for (EmergingTechCreateRequest request : requests) {
+            boolean duplicateExternalId = request.externalId() != null && batchExternalIds.contains(request.externalId());
+            boolean duplicateUrl = request.url() != null && batchUrls.contains(request.url());
+            if (duplicateExternalId || duplicateUrl) {
+                log.debug("배치 내 중복 Emerging Tech: externalId={}, url={}", request.externalId(), request.url());
+                continue;
+            }
+            if (request.externalId() != null) {
+                batchExternalIds.add(request.externalId());
+            }
+            if (request.url() != null) {
+                batchUrls.add(request.url());
+            }
+            uniqueRequests.add(request);
+        }
+
+        Set<String> existingExternalIds;
+        Set<String> existingUrls;
+        try {
+            existingExternalIds = findExistingValues("externalId", batchExternalIds, EmergingTechDocument::getExternalId);
+            existingUrls = findExistingValues("url", batchUrls, EmergingTechDocument::getUrl);
+        } catch (Exception e) {
+            log.error("Emerging Tech 중복 조회 실패: count={}, error={}", uniqueRequests.size(), e.getMessage());
+            for (EmergingTechCreateRequest request : uniqueRequests) {
+                addFailure(failureMessages, request.title(), e.getMessage());
+            }
+            return new DedupResult(List.of(), requests.size() - uniqueRequests.size());
+        }
+
+        List<EmergingTechCreateRequest> newRequests = uniqueRequests.stream()
+            .filter(request -> !existingExternalIds.contains(request.externalId()))
+            .filter(request -> !existingUrls.contains(request.url()))
+            .toList();
+
+        return new DedupResult(newRequests, requests.size() - newRequests.size());
+    }
+
+    private Set<String> findExistingValues(String property, Set<String> values,
+                                           Function<EmergingTechDocument, String> extractor) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        Query query = new Query(Criteria.where(property).in(values));
+        query.fields().include("externalId", "url");
+
+        return mongoTemplate.find(query, EmergingTechDocument.class).stream()
+            .map(extractor)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private record DedupResult(List<EmergingTechCreateRequest> newRequests, int duplicateCount) {}
+
+    /**
+     * 요청 DTO → Document 변환 (임베딩 포함)
      */
     private EmergingTechDocument createDocument(EmergingTechCreateRequest request) {
+        EmergingTechDocument document = buildDocument(request);
+
+        // 임베딩 생성 (title + summary)
+        generateEmbedding(document);
+        return document;
+    }
+
+    /**
+     * 요청 DTO → Document 변환 (임베딩 제외)
+     */
+    private EmergingTechDocument buildDocument(EmergingTechCreateRequest request) {
         EmergingTechDocument document = new EmergingTechDocument();
         document.setProvider(request.provider());
         document.setUpdateType(request.updateType());
@@ -93,9 +272,6 @@ public class EmergingTechCommandServiceImpl implements EmergingTechCommandServic
             document.setMetadata(metadata);
         }
 
-        // 임베딩 생성 (title + summary)
-        generateEmbedding(document);
-
         LocalDateTime now = LocalDateTime.now();
         document.setCreatedAt(now);
         document.setUpdatedAt(now);
@@ -109,11 +285,7 @@ public class EmergingTechCommandServiceImpl implements EmergingTechCommandServic
      */
     private void generateEmbedding(EmergingTechDocument document) {
         try {
-            List<String> tags = document.getMetadata() != null ? document.getMetadata().getTags() : null;
-            String githubRepo = document.getMetadata() != null ? document.getMetadata().getGithubRepo() : null;
-            String embeddingText = buildEmbeddingText(
-                document.getProvider(), githubRepo,
-                document.getTitle(), document.getSummary(), tags);
+            String embeddingText = buildEmbeddingText(document);
             document.setEmbeddingText(embeddingText);
 
             Embedding embedding = embeddingModel.embed(embeddingText).content();
@@ -126,6 +298,66 @@ public class EmergingTechCommandServiceImpl implements EmergingTechCommandServic
         }
     }
 
+    /**
+     * 임베딩 텍스트 및 벡터 일괄 생성 (embedAll, embeddingBatchSize 단위 분할 호출)
+     * 하위 배치 실패 시 해당 문서는 임베딩 없이 저장됩니다.
+     */
+    private void generateEmbeddings(List<EmergingTechDocument> documents) {
+        documents.forEach(document -> document.setEmbeddingText(buildEmbeddingText(document)));
+
+        for (int from = 0; from < documents.size(); from += embeddingBatchSize) {
+            List<EmergingTechDocument> subBatch =
+                documents.subList(from, Math.min(from + embeddingBatchSize, documents.size()));
+            try {
+                List<TextSegment> segments = subBatch.stream()
+                    .map(document -> TextSegment.from(document.getEmbeddingText()))
+                    .toList();
+                List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+                for (int i = 0; i < subBatch.size(); i++) {
+                    subBatch.get(i).setEmbeddingVector(embeddings.get(i).vectorAsList());
+                }
+                log.info("임베딩 일괄 생성 완료: size={}", subBatch.size());
+            } catch (Exception e) {
+                log.error("임베딩 일괄 생성 실패: size={}, error={}", subBatch.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private String buildEmbeddingText(EmergingTechDocument document) {
+        List<String> tags = document.getMetadata() != null ? document.getMetadata().getTags() : null;
+        String githubRepo = document.getMetadata() != null ? document.getMetadata().getGithubRepo() : null;
+        return buildEmbeddingText(
+            document.getProvider(), githubRepo,
+            document.getTitle(), document.getSummary(), tags);
+    }
+
+    /**
+     * 신규 저장된 게시 문서의 provider 세대 증가 (provider당 1회)
+     */
+    private void markPublishedProviders(List<EmergingTechDocument> documents, Set<Integer> failedIndexes) {
+        Set<String> providers = new LinkedHashSet<>();
+        for (int i = 0; i < documents.size(); i++) {
+            EmergingTechDocument document = documents.get(i);
+            if (!failedIndexes.contains(i) && PostStatus.PUBLISHED.name().equals(document.getStatus())) {
+                providers.add(document.getProvider());
+            }
+        }
+        providers.forEach(generationTracker::markChanged);
+    }
+
+    private long recordStage(String stage, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        Timer.builder(METRIC_BATCH_STAGE)
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    private void addFailure(List<String> failureMessages, String title, String error) {
+        failureMessages.add(String.format("Emerging Tech 저장 실패: title=%s, error=%s", title, error));
+    }
+
     private String buildEmbeddingText(String provider, String githubRepo,
                                       String title, String summary, List<String> tags) {
         StringBuilder sb = new StringBuilder();
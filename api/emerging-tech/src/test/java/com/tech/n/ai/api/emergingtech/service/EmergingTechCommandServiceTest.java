@@ -1,25 +1,45 @@
 package com.tech.n.ai.api.emergingtech.service;
 
+import com.tech.n.ai.api.emergingtech.common.EmergingTechGenerationTracker;
 import com.tech.n.ai.api.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.common.exception.exception.ResourceNotFoundException;
 import com.tech.n.ai.domain.mongodb.document.EmergingTechDocument;
 import com.tech.n.ai.domain.mongodb.enums.PostStatus;
 import com.tech.n.ai.domain.mongodb.repository.EmergingTechRepository;
+import com.mongodb.bulk.BulkWriteError;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,6 +55,18 @@ class EmergingTechCommandServiceTest {
     @Mock
     private EmergingTechQueryService queryService;
 
+    @Mock
+    private EmergingTechGenerationTracker generationTracker;
+
+    @Mock
+    private EmbeddingModel embeddingModel;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EmergingTechCommandServiceImpl commandService;
 
@@ -66,6 +98,7 @@ class EmergingTechCommandServiceTest {
             assertThat(result.document()).isNotNull();
             assertThat(result.document().getTitle()).isEqualTo("Test Title");
             verify(emergingTechRepository).save(any(EmergingTechDocument.class));
+            verify(generationTracker, never()).markChanged(any());
         }
 
         @Test
@@ -127,6 +160,237 @@ class EmergingTechCommandServiceTest {
         }
     }
 
+    // ========== saveEmergingTechBatch 테스트 ==========
+
+    @Nested
+    @DisplayName("saveEmergingTechBatch")
+    class SaveEmergingTechBatch {
+
+        @Mock
+        private BulkOperations bulkOperations;
+
+        @Test
+        @DisplayName("중복 제외 후 embedAll 일괄 호출 및 bulk insert")
+        void saveEmergingTechBatch_신규_중복_혼합() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 100);
+            EmergingTechCreateRequest newRequest = createRequest("ext-new", "https://example.com/new");
+            EmergingTechCreateRequest duplicateRequest = createRequest("ext-dup", "https://example.com/dup");
+
+            EmergingTechDocument existing = new EmergingTechDocument();
+            existing.setExternalId("ext-dup");
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class)))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of());
+            givenEmbedAll();
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result =
+                commandService.saveEmergingTechBatch(List.of(newRequest, duplicateRequest));
+
+            // Then
+            assertThat(result.newCount()).isEqualTo(1);
+            assertThat(result.duplicateCount()).isEqualTo(1);
+            assertThat(result.failureMessages()).isEmpty();
+            verify(embeddingModel, times(1)).embedAll(argThat(segments -> segments.size() == 1));
+            verify(bulkOperations).insert(argThat((List<? extends Object> docs) -> docs.size() == 1
+                && ((EmergingTechDocument) docs.get(0)).getEmbeddingVector() != null));
+            verify(bulkOperations).execute();
+            verify(emergingTechRepository, never()).save(any());
+            verify(emergingTechRepository, never()).findByExternalId(any());
+            verify(emergingTechRepository, never()).findByUrl(any());
+            assertThat(meterRegistry.get("emerging-tech.batch.stage").tag("stage", "embed").timer().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("embeddingBatchSize 단위로 embedAll 분할 호출")
+        void saveEmergingTechBatch_임베딩_분할() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 2);
+            List<EmergingTechCreateRequest> requests = List.of(
+                createRequest("ext-1", "https://example.com/1"),
+                createRequest("ext-2", "https://example.com/2"),
+                createRequest("ext-3", "https://example.com/3"));
+
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class))).thenReturn(List.of());
+            givenEmbedAll();
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(requests);
+
+            // Then
+            assertThat(result.newCount()).isEqualTo(3);
+            verify(embeddingModel, times(2)).embedAll(anyList());
+        }
+
+        @Test
+        @DisplayName("bulk insert 중복 키 오류는 중복, 그 외 오류는 실패로 집계")
+        void saveEmergingTechBatch_bulk_부분실패() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 100);
+            List<EmergingTechCreateRequest> requests = List.of(
+                createRequest("ext-1", "https://example.com/1"),
+                createRequest("ext-2", "https://example.com/2"),
+                createRequest("ext-3", "https://example.com/3"));
+
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class))).thenReturn(List.of());
+            givenEmbedAll();
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+            BulkOperationException exception = mock(BulkOperationException.class);
+            when(exception.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 0),
+                new BulkWriteError(121, "Document failed validation", new BsonDocument(), 2)));
+            when(bulkOperations.execute()).thenThrow(exception);
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(requests);
+
+            // Then
+            assertThat(result.newCount()).isEqualTo(1);
+            assertThat(result.duplicateCount()).isEqualTo(1);
+            assertThat(result.failureMessages()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("bulk insert가 BulkOperationException 외 예외로 실패하면 전체를 항목별 실패로 집계")
+        void saveEmergingTechBatch_bulk_전체실패() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 100);
+            List<EmergingTechCreateRequest> requests = List.of(
+                createRequest("ext-1", "https://example.com/1"),
+                createRequest("ext-2", "https://example.com/2"));
+
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class))).thenReturn(List.of());
+            givenEmbedAll();
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+            when(bulkOperations.execute()).thenThrow(new RuntimeException("MongoDB 타임아웃"));
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(requests);
+
+            // Then
+            assertThat(result.newCount()).isZero();
+            assertThat(result.duplicateCount()).isZero();
+            assertThat(result.failureMessages()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("임베딩 실패 시에도 문서는 저장")
+        void saveEmergingTechBatch_임베딩_실패() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 100);
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class))).thenReturn(List.of());
+            when(embeddingModel.embedAll(anyList())).thenThrow(new RuntimeException("OpenAI API 오류"));
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(
+                List.of(createRequest("ext-1", "https://example.com/1")));
+
+            // Then
+            assertThat(result.newCount()).isEqualTo(1);
+            verify(bulkOperations).insert(anyList());
+        }
+
+        @Test
+        @DisplayName("기존 문서 중복은 externalId, url 각각 $in 조회 1회로 판별 (projection 적용)")
+        void saveEmergingTechBatch_기존문서_일괄조회() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 100);
+            List<EmergingTechCreateRequest> requests = List.of(
+                createRequest("ext-1", "https://example.com/1"),
+                createRequest("ext-2", "https://example.com/existing"),
+                createRequest("ext-3", "https://example.com/3"));
+            EmergingTechDocument existingByUrl = new EmergingTechDocument();
+            existingByUrl.setUrl("https://example.com/existing");
+
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(existingByUrl));
+            givenEmbedAll();
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(requests);
+
+            // Then
+            assertThat(result.newCount()).isEqualTo(2);
+            assertThat(result.duplicateCount()).isEqualTo(1);
+            ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+            verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(EmergingTechDocument.class));
+            assertThat(queryCaptor.getAllValues().get(0).getQueryObject().get("externalId", org.bson.Document.class))
+                .containsKey("$in");
+            assertThat(queryCaptor.getAllValues().get(1).getFieldsObject())
+                .containsKeys("externalId", "url");
+        }
+
+        @Test
+        @DisplayName("배치 내 externalId 또는 url 중복은 첫 항목만 저장")
+        void saveEmergingTechBatch_배치내_중복() {
+            // Given
+            ReflectionTestUtils.setField(commandService, "embeddingBatchSize", 100);
+            List<EmergingTechCreateRequest> requests = List.of(
+                createRequest("ext-1", "https://example.com/1"),
+                createRequest("ext-1", "https://example.com/1-mirror"),
+                createRequest("ext-2", "https://example.com/1"),
+                createRequest(null, "https://example.com/2"));
+
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class))).thenReturn(List.of());
+            givenEmbedAll();
+            when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmergingTechDocument.class))
+                .thenReturn(bulkOperations);
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(requests);
+
+            // Then
+            assertThat(result.newCount()).isEqualTo(2);
+            assertThat(result.duplicateCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("기존 문서 중복 조회 실패 시 예외 대신 항목별 실패로 집계")
+        void saveEmergingTechBatch_중복조회_실패() {
+            // Given
+            List<EmergingTechCreateRequest> requests = List.of(
+                createRequest("ext-1", "https://example.com/1"),
+                createRequest("ext-1", "https://example.com/1-mirror"),
+                createRequest("ext-2", "https://example.com/2"));
+
+            when(mongoTemplate.find(any(Query.class), eq(EmergingTechDocument.class)))
+                .thenThrow(new RuntimeException("MongoDB 연결 오류"));
+
+            // When
+            EmergingTechCommandService.BatchSaveResult result = commandService.saveEmergingTechBatch(requests);
+
+            // Then
+            assertThat(result.newCount()).isZero();
+            assertThat(result.duplicateCount()).isEqualTo(1);
+            assertThat(result.failureMessages()).hasSize(2);
+            verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(EmergingTechDocument.class));
+            verify(embeddingModel, never()).embedAll(anyList());
+        }
+
+        private void givenEmbedAll() {
+            when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+                List<TextSegment> segments = invocation.getArgument(0);
+                List<Embedding> embeddings = segments.stream()
+                    .map(segment -> Embedding.from(new float[]{0.1f, 0.2f}))
+                    .toList();
+                return Response.from(embeddings);
+            });
+        }
+    }
+
     // ========== updateStatus 테스트 ==========
 
     @Nested
@@ -149,6 +413,7 @@ class EmergingTechCommandServiceTest {
             // Then
             assertThat(result.getStatus()).isEqualTo(PostStatus.PUBLISHED.name());
             verify(emergingTechRepository).save(document);
+            verify(generationTracker).markChanged("GITHUB");
         }
 
         @Test
@@ -166,6 +431,7 @@ class EmergingTechCommandServiceTest {
 
             // Then
             assertThat(result.getStatus()).isEqualTo(PostStatus.REJECTED.name());
+            verify(generationTracker, never()).markChanged(any());
         }
 
         @Test
@@ -0,0 +1,168 @@
+package com.tech.n.ai.api.gateway.auth;
+
+import com.tech.n.ai.api.gateway.config.GatewaySecurityProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 접근 등급 분류 벤치마크: 기존 선형 PathPattern 탐색 vs 세그먼트 trie (+ 메모이제이션)
+ *
+ * 패턴 집합은 application.yml의 gateway.security 설정에 서비스별 경로를 더한 규모이며,
+ * 요청 경로는 공개/인증/관리자/ID 포함 경로를 섞어 순환합니다.
+ * 메모이제이션 적중률의 영향을 보기 위해 고유 경로 수(distinctPaths)를 바꿔 측정합니다.
+ *
+ * 실행 예:
+ * ./gradlew :api-gateway:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathAccessClassifierBenchmark {
+
+    private static final GatewaySecurityProperties PROPERTIES = new GatewaySecurityProperties(
+        List.of(
+            "/api/v1/auth/admin/login",
+            "/api/v1/auth/admin/refresh",
+            "/api/v1/auth/**",
+            "/api/v1/emerging-tech/**",
+            "/api/v1/oauth2/callback/{provider}",
+            "/api/v1/health",
+            "/api/v1/docs/**",
+            "/actuator/**",
+            "/fallback"),
+        List.of(
+            "/api/v1/auth/admin/**",
+            "/api/v1/emerging-tech/admin/**",
+            "/actuator/env/**"),
+        List.of(
+            "/api/v1/agent/**",
+            "/api/v1/auth/admin/**",
+            "/api/v1/emerging-tech/admin/**",
+            "/api/v1/chatbot/admin/**",
+            "/api/v1/bookmark/admin/**",
+            "/actuator/env/**"));
+
+    private static final List<String> SAMPLE_PATHS = List.of(
+        "/api/v1/auth/login",
+        "/api/v1/auth/admin/login",
+        "/api/v1/auth/admin/users",
+        "/api/v1/emerging-tech/list",
+        "/api/v1/emerging-tech/admin/sources",
+        "/api/v1/chatbot",
+        "/api/v1/chatbot/sessions/%d/messages",
+        "/api/v1/bookmark/%d",
+        "/api/v1/bookmark/admin/stats",
+        "/api/v1/agent/run",
+        "/actuator/health",
+        "/api/v1/oauth2/callback/google");
+
+    @Param({"12", "10000"})
+    private int distinctPaths;
+
+    private String[] paths;
+    private int index;
+
+    private LinearPathMatcher linear;
+    private PathAccessClassifier trie;
+    private PathAccessClassifier trieWithMemo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        paths = new String[distinctPaths];
+        for (int i = 0; i < distinctPaths; i++) {
+            String template = SAMPLE_PATHS.get(i % SAMPLE_PATHS.size());
+            paths[i] = template.contains("%d") ? String.format(template, i) : template;
+        }
+        linear = new LinearPathMatcher(PROPERTIES);
+        trie = new PathAccessClassifier(PROPERTIES, 0);
+        trieWithMemo = new PathAccessClassifier(PROPERTIES, 10_000);
+    }
+
+    private String nextPath() {
+        String path = paths[index];
+        index = (index + 1) % paths.length;
+        return path;
+    }
+
+    @Benchmark
+    public PathAccess linear() {
+        return linear.classify(nextPath());
+    }
+
+    @Benchmark
+    public PathAccess trie() {
+        return trie.classify(nextPath());
+    }
+
+    @Benchmark
+    public PathAccess trieWithMemo() {
+        return trieWithMemo.classify(nextPath());
+    }
+
+    /**
+     * 기존 JwtAuthenticationGatewayFilter의 선형 탐색 (isPublicPath + isAdminOnlyPath)
+     */
+    static final class LinearPathMatcher {
+
+        private final List<PathPattern> publicPathPatterns;
+        private final List<PathPattern> publicPathExclusionPatterns;
+        private final List<PathPattern> adminOnlyPathPatterns;
+
+        LinearPathMatcher(GatewaySecurityProperties properties) {
+            PathPatternParser parser = new PathPatternParser();
+            publicPathPatterns = properties.publicPaths().stream().map(parser::parse).toList();
+            publicPathExclusionPatterns = properties.publicPathExclusions().stream().map(parser::parse).toList();
+            adminOnlyPathPatterns = properties.adminOnlyPaths().stream().map(parser::parse).toList();
+        }
+
+        PathAccess classify(String path) {
+            if (isPublicPath(path)) {
+                return PathAccess.PUBLIC;
+            }
+            return isAdminOnlyPath(path) ? PathAccess.ADMIN : PathAccess.AUTHENTICATED;
+        }
+
+        private boolean isPublicPath(String path) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pattern : publicPathPatterns) {
+                if (!pattern.hasPatternSyntax() && pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+            for (PathPattern exclusion : publicPathExclusionPatterns) {
+                if (exclusion.matches(pathContainer)) {
+                    return false;
+                }
+            }
+            for (PathPattern pattern : publicPathPatterns) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isAdminOnlyPath(String path) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pattern : adminOnlyPathPatterns) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.tech.n.ai.api.gateway.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 메트릭
+ *
+ * 인증 필터의 동기 처리 구간(경로 판별, 토큰 검증, 헤더 주입)에 대해 다음을 기록합니다.
+ * - gateway.auth.filter: 처리 시간 (p50/p99, 결과별 태그)
+ * - gateway.auth.filter.cpu: 요청당 스레드 CPU 시간 (p50/p99, 결과별 태그)
+ */
+@Component
+public class GatewayAuthMetrics {
+
+    private static final String METRIC_LATENCY = "gateway.auth.filter";
+    private static final String METRIC_CPU = "gateway.auth.filter.cpu";
+
+    /**
+     * 인증 필터 처리 결과
+     */
+    public enum Outcome {
+        PUBLIC, AUTHENTICATED, UNAUTHORIZED, FORBIDDEN
+    }
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+    private final Map<Outcome, Timer> latencyTimers = new EnumMap<>(Outcome.class);
+    private final Map<Outcome, Timer> cpuTimers = new EnumMap<>(Outcome.class);
+
+    public GatewayAuthMetrics(MeterRegistry meterRegistry) {
+        for (Outcome outcome : Outcome.values()) {
+            String tag = outcome.name().toLowerCase();
+            latencyTimers.put(outcome, Timer.builder(METRIC_LATENCY)
+                .description("JWT 인증 필터 처리 시간")
+                .tag("outcome", tag)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+            cpuTimers.put(outcome, Timer.builder(METRIC_CPU)
+                .description("JWT 인증 필터 요청당 CPU 시간")
+                .tag("outcome", tag)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 측정 시작
+     */
+    public Sample start() {
+        return new Sample(System.nanoTime(), cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : -1L);
+    }
+
+    /**
+     * 측정 종료 및 기록 (측정을 시작한 스레드에서 호출)
+     */
+    public void stop(Sample sample, Outcome outcome) {
+        latencyTimers.get(outcome).record(System.nanoTime() - sample.startNanos(), TimeUnit.NANOSECONDS);
+        if (sample.startCpuNanos() >= 0) {
+            cpuTimers.get(outcome).record(
+                threadMXBean.getCurrentThreadCpuTime() - sample.startCpuNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public record Sample(long startNanos, long startCpuNanos) {
+    }
+}
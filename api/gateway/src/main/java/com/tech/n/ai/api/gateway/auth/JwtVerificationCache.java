@@ -0,0 +1,120 @@
+package com.tech.n.ai.api.gateway.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tech.n.ai.common.security.jwt.JwtTokenPayload;
+import com.tech.n.ai.common.security.jwt.JwtTokenProvider;
+import com.tech.n.ai.common.security.jwt.VerifiedJwtToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 검증된 JWT 토큰 캐시
+ *
+ * 같은 access token으로 반복되는 요청마다 서명(HMAC) 검증과 클레임 파싱을 다시 하지 않도록
+ * 검증 결과(JwtTokenPayload)를 토큰의 exp 시각까지 보관합니다.
+ * - 키: 토큰의 SHA-256 해시 (원문 토큰은 보관하지 않음)
+ * - 만료: 항목별로 토큰의 exp 시각에 맞춰 제거
+ * - 크기: 최대 항목 수 초과 시 접근 빈도(W-TinyLFU) 기준으로 제거
+ * - 유효하지 않은 토큰은 캐시하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtVerificationCache {
+
+    private static final String CACHE_NAME = "gateway.jwt.verification";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gateway.security.jwt-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${gateway.security.jwt-cache.max-size:100000}")
+    private long maxSize;
+
+    private Cache<String, VerifiedJwtToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+
+        log.info("JWT verification cache initialized: enabled={}, maxSize={}", cacheEnabled, maxSize);
+    }
+
+    /**
+     * 토큰 검증 및 페이로드 조회 (캐시 적중 시 파싱 생략)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 페이로드 (유효하지 않거나 만료되면 empty)
+     */
+    public Optional<JwtTokenPayload> verify(String token) {
+        if (!cacheEnabled) {
+            return jwtTokenProvider.verifyToken(token).map(VerifiedJwtToken::payload);
+        }
+
+        String key = hash(token);
+        VerifiedJwtToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached.payload());
+        }
+
+        Optional<VerifiedJwtToken> verified = jwtTokenProvider.verifyToken(token);
+        verified
+            .filter(verifiedToken -> verifiedToken.expiresAt() != null)
+            .ifPresent(verifiedToken -> verifiedTokens.put(key, verifiedToken));
+        return verified.map(VerifiedJwtToken::payload);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 항목별 만료: 토큰의 exp 시각까지
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedJwtToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedJwtToken value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedJwtToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedJwtToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
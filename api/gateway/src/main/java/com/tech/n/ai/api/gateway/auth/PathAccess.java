@@ -0,0 +1,22 @@
+package com.tech.n.ai.api.gateway.auth;
+
+/**
+ * 경로별 접근 등급
+ */
+public enum PathAccess {
+
+    /**
+     * 인증 불필요
+     */
+    PUBLIC,
+
+    /**
+     * 인증 필요
+     */
+    AUTHENTICATED,
+
+    /**
+     * 인증 + ADMIN role 필요
+     */
+    ADMIN
+}
@@ -0,0 +1,183 @@
+package com.tech.n.ai.api.gateway.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tech.n.ai.api.gateway.config.GatewaySecurityProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 접근 등급 분류기
+ *
+ * {@link GatewaySecurityProperties}의 경로 패턴으로 시작 시 한 번 세그먼트 trie를 구성하고,
+ * 요청 경로를 한 번 파싱하여 PUBLIC / AUTHENTICATED / ADMIN 중 하나로 분류합니다.
+ *
+ * <p>trie는 패턴의 리터럴 접두 세그먼트(와일드카드/변수가 나오기 전까지)로 색인되어,
+ * 요청 경로의 세그먼트를 따라 내려가며 방문한 노드의 패턴만 후보로 평가합니다.
+ * 후보 판정은 PathPattern.matches를 그대로 사용하므로 매칭 의미는 기존 선형 탐색과 같습니다.
+ *
+ * <p>우선순위 (기존 규칙과 동일):
+ * <ol>
+ *   <li>구체적 public 경로(와일드카드 없음)에 매칭 → PUBLIC</li>
+ *   <li>public 제외 경로에 매칭 → 공개 아님</li>
+ *   <li>와일드카드 public 경로에 매칭 → PUBLIC</li>
+ *   <li>관리자 전용 경로에 매칭 → ADMIN, 그 외 → AUTHENTICATED</li>
+ * </ol>
+ *
+ * <p>자주 요청되는 경로는 결과를 소형 캐시(접근 빈도 기준 제거)에 보관합니다.
+ */
+public class PathAccessClassifier {
+
+    private final Node root = new Node();
+    private final Cache<String, PathAccess> memo;
+
+    public PathAccessClassifier(GatewaySecurityProperties properties, long memoMaxSize) {
+        PathPatternParser parser = new PathPatternParser();
+        for (String pattern : properties.publicPaths()) {
+            PathPattern parsed = parser.parse(pattern);
+            Node node = root.descend(parsed);
+            if (parsed.hasPatternSyntax()) {
+                node.wildcardPublic.add(parsed);
+            } else {
+                node.concretePublic.add(parsed);
+            }
+        }
+        for (String pattern : properties.publicPathExclusions()) {
+            PathPattern parsed = parser.parse(pattern);
+            root.descend(parsed).exclusions.add(parsed);
+        }
+        for (String pattern : properties.adminOnlyPaths()) {
+            PathPattern parsed = parser.parse(pattern);
+            root.descend(parsed).adminOnly.add(parsed);
+        }
+
+        this.memo = memoMaxSize > 0
+            ? Caffeine.newBuilder().maximumSize(memoMaxSize).build()
+            : null;
+    }
+
+    /**
+     * 경로 접근 등급 분류
+     *
+     * @param path 요청 경로 (URI path)
+     */
+    public PathAccess classify(String path) {
+        if (memo == null) {
+            return compute(path);
+        }
+        return memo.get(path, this::compute);
+    }
+
+    private PathAccess compute(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        List<Node> visited = walk(pathContainer);
+
+        // 1. 구체적 inclusion 패턴(와일드카드 없음)
+        if (anyMatch(visited, Category.CONCRETE_PUBLIC, pathContainer)) {
+            return PathAccess.PUBLIC;
+        }
+        // 2. exclusion 패턴에 매칭되지 않고 3. 와일드카드 inclusion 패턴에 매칭
+        if (!anyMatch(visited, Category.EXCLUSION, pathContainer)
+            && anyMatch(visited, Category.WILDCARD_PUBLIC, pathContainer)) {
+            return PathAccess.PUBLIC;
+        }
+        // 4. 관리자 전용 경로
+        if (anyMatch(visited, Category.ADMIN_ONLY, pathContainer)) {
+            return PathAccess.ADMIN;
+        }
+        return PathAccess.AUTHENTICATED;
+    }
+
+    /**
+     * 요청 경로의 세그먼트를 따라 trie를 내려가며 후보 패턴이 있는 노드 수집
+     */
+    private List<Node> walk(PathContainer pathContainer) {
+        List<Node> visited = new ArrayList<>(4);
+        Node node = root;
+        if (node.hasPatterns()) {
+            visited.add(node);
+        }
+        for (PathContainer.Element element : pathContainer.elements()) {
+            if (!(element instanceof PathContainer.PathSegment segment)) {
+                continue;
+            }
+            node = node.children.get(segment.valueToMatch());
+            if (node == null) {
+                break;
+            }
+            if (node.hasPatterns()) {
+                visited.add(node);
+            }
+        }
+        return visited;
+    }
+
+    private static boolean anyMatch(List<Node> visited, Category category, PathContainer pathContainer) {
+        for (Node node : visited) {
+            for (PathPattern pattern : node.patterns(category)) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private enum Category {
+        CONCRETE_PUBLIC, EXCLUSION, WILDCARD_PUBLIC, ADMIN_ONLY
+    }
+
+    /**
+     * trie 노드: 리터럴 세그먼트별 자식과, 리터럴 접두가 이 노드에서 끝나는 패턴 목록
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<PathPattern> concretePublic = new ArrayList<>();
+        private final List<PathPattern> exclusions = new ArrayList<>();
+        private final List<PathPattern> wildcardPublic = new ArrayList<>();
+        private final List<PathPattern> adminOnly = new ArrayList<>();
+
+        /**
+         * 패턴의 리터럴 접두 세그먼트를 따라 노드 생성/이동
+         */
+        private Node descend(PathPattern pattern) {
+            Node node = this;
+            for (String segment : pattern.getPatternString().split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (isPatternSegment(segment)) {
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            return node;
+        }
+
+        private boolean hasPatterns() {
+            return !concretePublic.isEmpty() || !exclusions.isEmpty()
+                || !wildcardPublic.isEmpty() || !adminOnly.isEmpty();
+        }
+
+        private List<PathPattern> patterns(Category category) {
+            return switch (category) {
+                case CONCRETE_PUBLIC -> concretePublic;
+                case EXCLUSION -> exclusions;
+                case WILDCARD_PUBLIC -> wildcardPublic;
+                case ADMIN_ONLY -> adminOnly;
+            };
+        }
+
+        private static boolean isPatternSegment(String segment) {
+            return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0
+                || segment.indexOf('{') >= 0 || segment.indexOf('%') >= 0;
+        }
+    }
+}
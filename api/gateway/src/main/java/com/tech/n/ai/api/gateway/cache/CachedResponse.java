@@ -0,0 +1,15 @@
+package com.tech.n.ai.api.gateway.cache;
+
+/**
+ * 캐시된 응답 (Redis에 JSON으로 저장)
+ *
+ * @param contentType 응답 Content-Type
+ * @param etag 원본 본문 기준 ETag
+ * @param gzippedBody gzip 압축된 응답 본문
+ */
+public record CachedResponse(
+    String contentType,
+    String etag,
+    byte[] gzippedBody
+) {
+}
@@ -0,0 +1,383 @@
+package com.tech.n.ai.api.gateway.cache;
+
+import com.tech.n.ai.api.gateway.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET 응답 캐시 필터 (Redis 저장, ETag/304 지원)
+ *
+ * 정규화된 경로 + 정렬된 쿼리 파라미터를 키로 200 응답 본문을 gzip 압축하여 Redis에 TTL과 함께 저장합니다.
+ * 캐시 적중 시 백엔드를 호출하지 않고 응답하며, 클라이언트가 gzip을 허용하면 압축 본문을 그대로 전송합니다.
+ * 응답에는 본문 기준 ETag를 붙이고, If-None-Match가 일치하면 304로 응답합니다.
+ *
+ * <p>응답 본문을 가로채야 하므로 NettyWriteResponseFilter보다 앞선 순서로 동작합니다.
+ * 따라서 캐시 적중 응답은 이 필터 뒤의 라우트 필터(RequestRateLimiter, CircuitBreaker)를 거치지 않습니다.
+ *
+ * <p>캐시 대상에서 제외:
+ * <ul>
+ *   <li>GET 외 요청, 요청 Cache-Control: no-cache/no-store (조회만 생략, 응답은 다시 저장)</li>
+ *   <li>200 외 응답, 이미 Content-Encoding이 있는 응답, Cache-Control: no-store/private, Set-Cookie 포함 응답</li>
+ *   <li>maxBodyBytes를 넘는 응답, 스트리밍 응답(writeAndFlushWith)</li>
+ *   <li>Redis 장애로 캐시 세대를 조회하지 못한 요청 (백엔드로 그대로 전달)</li>
+ * </ul>
+ *
+ * <p>무효화는 {@link ResponseCachePurgeController}의 내부 엔드포인트로 수행합니다.
+ *
+ * <p>라우트 설정 예:
+ * <pre>
+ * - name: RedisResponseCache
+ *   args:
+ *     cacheName: emerging-tech
+ *     ttl: 5m
+ * </pre>
+ */
+@Component
+public class RedisResponseCacheGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<RedisResponseCacheGatewayFilterFactory.Config> {
+
+    /**
+     * 캐시 처리 결과 헤더 (HIT / MISS)
+     */
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final String METRIC_REQUESTS = "gateway.response-cache.requests";
+    private static final String GZIP = "gzip";
+
+    private final ResponseCacheStore cacheStore;
+    private final MeterRegistry meterRegistry;
+    private final ResponseCacheProperties properties;
+
+    public RedisResponseCacheGatewayFilterFactory(ResponseCacheStore cacheStore,
+                                                  MeterRegistry meterRegistry,
+                                                  ResponseCacheProperties properties) {
+        super(Config.class);
+        this.cacheStore = cacheStore;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("cacheName", "ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter(
+            (exchange, chain) -> filter(exchange, chain, config),
+            NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String requestKey = requestKey(request);
+        return cacheStore.generation(config.getCacheName())
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(generation -> {
+                if (generation.isEmpty()) {
+                    count(config, "unavailable");
+                    return chain.filter(exchange);
+                }
+                if (isNoCacheRequest(request)) {
+                    count(config, "bypass");
+                    return proxyAndStore(exchange, chain, config, generation.get(), requestKey);
+                }
+                return cacheStore.get(config.getCacheName(), generation.get(), requestKey)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(cached -> cached.isPresent()
+                        ? writeCached(exchange, config, cached.get())
+                        : proxyAndStore(exchange, chain, config, generation.get(), requestKey));
+            });
+    }
+
+    /**
+     * 캐시 적중 응답 (If-None-Match 일치 시 304)
+     */
+    private Mono<Void> writeCached(ServerWebExchange exchange, Config config, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (matchesIfNoneMatch(exchange.getRequest(), cached.etag())) {
+            count(config, "not-modified");
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        count(config, "hit");
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, cached.contentType());
+        }
+        byte[] body;
+        if (acceptsGzip(exchange.getRequest())) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = cached.gzippedBody();
+        } else {
+            body = gunzip(cached.gzippedBody());
+        }
+        headers.setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * 캐시 미스: 백엔드 응답 본문을 가로채 ETag를 붙이고 조회 시점 세대로 캐시에 저장
+     *
+     * 조회 시점 세대로 저장하므로, 백엔드 응답 대기 중 무효화가 일어나면 이전 본문은 이전 세대 키에 저장되어
+     * 새 세대의 조회에는 사용되지 않습니다.
+     * 본문은 maxBodyBytes까지만 모으며, 넘으면 모은 부분과 나머지를 그대로 전달하고 저장하지 않습니다.
+     */
+    private Mono<Void> proxyAndStore(ServerWebExchange exchange, GatewayFilterChain chain,
+                                     Config config, long generation, String requestKey) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                if (!isCacheable(this)) {
+                    return super.writeWith(body);
+                }
+                int maxBodyBytes = properties.maxBodyBytes();
+                AtomicLong size = new AtomicLong();
+                return Flux.from(body)
+                    .cast(DataBuffer.class)
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBodyBytes)
+                    .switchOnFirst((first, batches) -> {
+                        if (first.hasValue() && size.get() > maxBodyBytes) {
+                            count(config, "too-large");
+                            return getDelegate().writeWith(batches.flatMapIterable(buffers -> buffers));
+                        }
+                        return batches.next()
+                            .defaultIfEmpty(List.of())
+                            .flatMap(buffers -> writeAndStore(
+                                this, request, config, generation, requestKey, readAll(buffers)));
+                    })
+                    .then();
+            }
+        };
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    private static byte[] readAll(List<DataBuffer> buffers) {
+        int length = 0;
+        for (DataBuffer buffer : buffers) {
+            length += buffer.readableByteCount();
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int count = buffer.readableByteCount();
+            buffer.read(bytes, offset, count);
+            offset += count;
+            DataBufferUtils.release(buffer);
+        }
+        return bytes;
+    }
+
+    private Mono<Void> writeAndStore(ServerHttpResponseDecorator response, ServerHttpRequest request,
+                                     Config config, long generation, String requestKey, byte[] body) {
+        count(config, "miss");
+        HttpHeaders headers = response.getHeaders();
+        String etag = etag(body);
+        headers.setETag(etag);
+        headers.set(CACHE_STATUS_HEADER, "MISS");
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String contentType = headers.getContentType() != null ? headers.getContentType().toString() : null;
+        cacheStore.put(config.getCacheName(), generation, requestKey,
+                new CachedResponse(contentType, etag, gzip(body)), config.getTtl())
+            .subscribe();
+
+        if (matchesIfNoneMatch(request, etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        return response.getDelegate().writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private boolean isCacheable(ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        if (!HttpStatus.OK.equals(response.getStatusCode())
+            || headers.containsHeader(HttpHeaders.CONTENT_ENCODING)
+            || headers.containsHeader(HttpHeaders.SET_COOKIE)
+            || headers.getContentLength() > properties.maxBodyBytes()) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null
+            || (!cacheControl.contains("no-store") && !cacheControl.contains("private"));
+    }
+
+    private static boolean isNoCacheRequest(ServerHttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+    }
+
+    /**
+     * 캐시 키: 경로(끝 슬래시 제거) + 이름/값 기준 정렬한 쿼리 파라미터
+     */
+    static String requestKey(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        Map<String, List<String>> sorted = new TreeMap<>();
+        request.getQueryParams().forEach((name, values) -> {
+            if (!name.isEmpty()) {
+                List<String> sortedValues = new ArrayList<>(values.size());
+                for (String value : values) {
+                    sortedValues.add(value != null ? value : "");
+                }
+                sortedValues.sort(null);
+                sorted.put(name, sortedValues);
+            }
+        });
+        if (sorted.isEmpty()) {
+            return path;
+        }
+
+        StringJoiner query = new StringJoiner("&", path + "?", "");
+        sorted.forEach((name, values) -> {
+            for (String value : values) {
+                query.add(encode(name) + "=" + encode(value));
+            }
+        });
+        return query.toString();
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        for (String header : request.getHeaders().getValuesAsList(HttpHeaders.ACCEPT_ENCODING)) {
+            String[] parts = header.split(";");
+            String coding = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0{0,3})?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void count(Config config, String result) {
+        meterRegistry.counter(METRIC_REQUESTS, "cache", config.getCacheName(), "result", result).increment();
+    }
+
+    /**
+     * 라우트별 설정
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * 캐시 이름 (무효화 단위)
+         */
+        private String cacheName = "default";
+
+        /**
+         * 캐시 항목 TTL
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
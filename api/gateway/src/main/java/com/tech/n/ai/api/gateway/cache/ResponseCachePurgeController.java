@@ -0,0 +1,71 @@
+package com.tech.n.ai.api.gateway.cache;
+
+import com.tech.n.ai.api.gateway.config.ResponseCacheProperties;
+import com.tech.n.ai.common.core.constants.ErrorCodeConstants;
+import com.tech.n.ai.common.core.dto.ApiResponse;
+import com.tech.n.ai.common.core.dto.MessageCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 응답 캐시 무효화 내부 엔드포인트
+ *
+ * 백엔드 서비스가 데이터 변경 후 호출합니다. 라우트가 아닌 Gateway 자체 엔드포인트이므로 JWT 필터를 거치지 않고,
+ * X-Internal-Api-Key 헤더를 gateway.response-cache.purge-api-key와 비교하여 검증합니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ResponseCachePurgeController {
+
+    private static final String API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final ResponseCacheStore cacheStore;
+    private final ResponseCacheProperties properties;
+
+    @PostMapping("/internal/cache/{cacheName}/purge")
+    public Mono<ResponseEntity<ApiResponse<PurgeResult>>> purge(
+            @PathVariable String cacheName,
+            @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey) {
+        if (!isValidApiKey(apiKey)) {
+            MessageCode messageCode = new MessageCode(
+                ErrorCodeConstants.MESSAGE_CODE_AUTH_FAILED,
+                "유효하지 않은 내부 API 키입니다."
+            );
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error(ErrorCodeConstants.AUTH_FAILED, messageCode)));
+        }
+
+        return cacheStore.purge(cacheName)
+            .map(generation -> ResponseEntity.ok(ApiResponse.success(new PurgeResult(cacheName, generation))));
+    }
+
+    private boolean isValidApiKey(String apiKey) {
+        String expected = properties.purgeApiKey();
+        if (expected == null || expected.isBlank()) {
+            log.warn("응답 캐시 무효화 API 키가 설정되지 않았습니다. gateway.response-cache.purge-api-key를 확인하세요.");
+            return false;
+        }
+        return apiKey != null && MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8), apiKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 무효화 결과
+     *
+     * @param cacheName 캐시 이름
+     * @param generation 새 캐시 세대
+     */
+    public record PurgeResult(String cacheName, long generation) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.tech.n.ai.api.gateway.cache;
+
+import com.tech.n.ai.api.gateway.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gateway 응답 캐시 저장소 (Redis)
+ *
+ * 캐시 이름별 세대(generation) 값을 키에 포함하여, 무효화는 세대 증가 한 번으로 처리합니다.
+ * 이전 세대의 항목은 조회되지 않고 TTL로 만료됩니다.
+ *
+ * <p>세대 값은 인스턴스마다 로컬에 보관하고 generationRefreshMs 주기로 Redis에서 다시 읽으므로,
+ * 다른 인스턴스에서 수행한 무효화는 최대 그 주기만큼 늦게 반영됩니다.
+ * Redis 장애 시 조회는 캐시 미스로, 저장은 무시로 처리하여 요청 흐름을 막지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheStore {
+
+    private static final String KEY_PREFIX = "gateway:response-cache:";
+    private static final String GENERATION_SUFFIX = ":generation";
+
+    private static final String METRIC_PURGES = "gateway.response-cache.purges";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ResponseCacheProperties properties;
+
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 조회
+     *
+     * @param cacheName 캐시 이름
+     * @param generation {@link #generation(String)}로 얻은 세대
+     * @param requestKey 정규화된 요청 키 (경로 + 정렬된 쿼리)
+     */
+    public Mono<CachedResponse> get(String cacheName, long generation, String requestKey) {
+        return redisTemplate.opsForValue().get(entryKey(cacheName, generation, requestKey))
+            .map(json -> objectMapper.readValue(json, CachedResponse.class))
+            .onErrorResume(e -> {
+                log.warn("Response cache lookup failed: cacheName={}, error={}", cacheName, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * 캐시 저장 (실패 시 무시)
+     *
+     * @param generation 조회 시점의 세대 (저장 시점에 다시 읽지 않음)
+     */
+    public Mono<Void> put(String cacheName, long generation, String requestKey, CachedResponse response, Duration ttl) {
+        return redisTemplate.opsForValue()
+            .set(entryKey(cacheName, generation, requestKey), objectMapper.writeValueAsString(response), ttl)
+            .onErrorResume(e -> {
+                log.warn("Response cache store failed: cacheName={}, error={}", cacheName, e.getMessage());
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    /**
+     * 캐시 무효화 (세대 증가)
+     *
+     * @return 새 세대 값
+     */
+    public Mono<Long> purge(String cacheName) {
+        return redisTemplate.opsForValue().increment(generationKey(cacheName))
+            .doOnNext(generation -> {
+                generations.put(cacheName, new Generation(generation, System.nanoTime()));
+                meterRegistry.counter(METRIC_PURGES, "cache", cacheName).increment();
+                log.info("Response cache purged: cacheName={}, generation={}", cacheName, generation);
+            });
+    }
+
+    /**
+     * 현재 세대 값 (로컬 값이 갱신 주기 내면 그대로 사용, Redis 장애 시 empty)
+     */
+    public Mono<Long> generation(String cacheName) {
+        Generation cached = generations.get(cacheName);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.fetchedAtNanos() < properties.generationRefreshMs() * 1_000_000L) {
+            return Mono.just(cached.value());
+        }
+        return redisTemplate.opsForValue().get(generationKey(cacheName))
+            .map(Long::parseLong)
+            .defaultIfEmpty(0L)
+            .doOnNext(value -> generations.put(cacheName, new Generation(value, now)))
+            .onErrorResume(e -> {
+                log.warn("Response cache generation lookup failed: cacheName={}, error={}", cacheName, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private static String generationKey(String cacheName) {
+        return KEY_PREFIX + cacheName + GENERATION_SUFFIX;
+    }
+
+    private static String entryKey(String cacheName, long generation, String requestKey) {
+        return KEY_PREFIX + cacheName + ":" + generation + ":" + sha256(requestKey);
+    }
+
+    static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Generation(long value, long fetchedAtNanos) {
+    }
+}
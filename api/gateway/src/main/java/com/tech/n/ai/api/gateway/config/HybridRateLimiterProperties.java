@@ -0,0 +1,28 @@
+package com.tech.n.ai.api.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hybrid Rate Limiter 공통 설정
+ *
+ * 라우트별 한도와 동기화 주기는 각 라우트의 hybrid-rate-limiter.* 인자로 설정합니다.
+ *
+ * @param tickMs 동기화 대상 버킷을 확인하는 주기 (ms)
+ * @param maxBatchSize Redis 동기화 1회(Lua 호출)당 최대 버킷 수
+ * @param maxBuckets 인스턴스당 최대 로컬 버킷 수
+ * @param idleExpireSeconds 요청이 없는 버킷을 제거하기까지의 시간 (초)
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limiter.hybrid")
+public record HybridRateLimiterProperties(
+    Long tickMs,
+    Integer maxBatchSize,
+    Long maxBuckets,
+    Long idleExpireSeconds
+) {
+    public HybridRateLimiterProperties {
+        if (tickMs == null) tickMs = 100L;
+        if (maxBatchSize == null) maxBatchSize = 500;
+        if (maxBuckets == null) maxBuckets = 100_000L;
+        if (idleExpireSeconds == null) idleExpireSeconds = 60L;
+    }
+}
@@ -1,9 +1,13 @@
 package com.tech.n.ai.api.gateway.config;
 
+import com.tech.n.ai.api.gateway.ratelimit.HybridRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import reactor.core.publisher.Mono;
 
 import java.util.Optional;
@@ -11,6 +15,18 @@ import java.util.Optional;
 @Configuration
 public class RateLimiterConfig {
 
+    /**
+     * 로컬 토큰 버킷 + Redis 주기 동기화 Rate Limiter (RequestRateLimiter 기본 구현)
+     */
+    @Bean
+    @Primary
+    public HybridRateLimiter hybridRateLimiter(ConfigurationService configurationService,
+                                               ReactiveStringRedisTemplate redisTemplate,
+                                               MeterRegistry meterRegistry,
+                                               HybridRateLimiterProperties properties) {
+        return new HybridRateLimiter(configurationService, redisTemplate, meterRegistry, properties);
+    }
+
     @Bean
     @Primary
     public KeyResolver ipKeyResolver() {
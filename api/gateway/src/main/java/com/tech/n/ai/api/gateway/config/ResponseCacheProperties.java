@@ -0,0 +1,24 @@
+package com.tech.n.ai.api.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Gateway 응답 캐시 공통 설정
+ *
+ * 캐시 대상 라우트와 TTL은 각 라우트의 RedisResponseCache 필터 인자로 설정합니다.
+ *
+ * @param purgeApiKey 내부 캐시 무효화 API 키 (X-Internal-Api-Key)
+ * @param generationRefreshMs 캐시 세대 값 로컬 갱신 주기 (ms, 다른 인스턴스의 무효화가 반영되기까지의 최대 지연)
+ * @param maxBodyBytes 캐시할 최대 응답 본문 크기 (bytes)
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record ResponseCacheProperties(
+    String purgeApiKey,
+    Long generationRefreshMs,
+    Integer maxBodyBytes
+) {
+    public ResponseCacheProperties {
+        if (generationRefreshMs == null) generationRefreshMs = 1_000L;
+        if (maxBodyBytes == null) maxBodyBytes = 1_048_576;
+    }
+}
@@ -11,7 +11,11 @@ import org.springframework.context.annotation.Configuration;
     "com.tech.n.ai.api.gateway",
     "com.tech.n.ai.common.security.jwt"
 })
-@EnableConfigurationProperties(GatewaySecurityProperties.class)
+@EnableConfigurationProperties({
+    GatewaySecurityProperties.class,
+    HybridRateLimiterProperties.class,
+    ResponseCacheProperties.class
+})
 public class ServerConfig {
 
 }
@@ -1,15 +1,20 @@
 package com.tech.n.ai.api.gateway.filter;
 
+import com.tech.n.ai.api.gateway.auth.GatewayAuthMetrics;
+import com.tech.n.ai.api.gateway.auth.GatewayAuthMetrics.Outcome;
+import com.tech.n.ai.api.gateway.auth.JwtVerificationCache;
+import com.tech.n.ai.api.gateway.auth.PathAccess;
+import com.tech.n.ai.api.gateway.auth.PathAccessClassifier;
 import com.tech.n.ai.api.gateway.config.GatewaySecurityProperties;
 import com.tech.n.ai.common.core.constants.ErrorCodeConstants;
 import com.tech.n.ai.common.core.dto.ApiResponse;
 import com.tech.n.ai.common.core.dto.MessageCode;
 import com.tech.n.ai.common.security.jwt.JwtTokenPayload;
-import com.tech.n.ai.common.security.jwt.JwtTokenProvider;
 import tools.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -21,18 +26,19 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
-import org.springframework.web.util.pattern.PathPattern;
-import org.springframework.web.util.pattern.PathPatternParser;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.Optional;
 
 /**
  * JWT 인증 Gateway Filter
  *
  * 인증이 필요한 경로에 대해 JWT 토큰을 검증하고, 사용자 정보를 헤더에 주입합니다.
- * 경로 분류(공개/보호/관리자)는 {@link GatewaySecurityProperties}에서 외부화하여 관리합니다.
+ * 경로 분류(공개/보호/관리자)는 {@link GatewaySecurityProperties}에서 외부화하여 관리하며,
+ * 시작 시 구성한 {@link PathAccessClassifier}로 요청당 한 번에 판별합니다.
+ * 토큰 검증은 {@link JwtVerificationCache}를 통해 한 번의 파싱으로 검증과 페이로드 추출을 함께 수행하며,
+ * 같은 토큰의 반복 요청은 캐시된 검증 결과를 사용합니다.
  */
 @Slf4j
 @Component
@@ -45,60 +51,71 @@ public class JwtAuthenticationGatewayFilter implements GatewayFilter {
     private static final String USER_EMAIL_HEADER = "x-user-email";
     private static final String USER_ROLE_HEADER = "x-user-role";
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerificationCache jwtVerificationCache;
+    private final GatewayAuthMetrics authMetrics;
     private final ObjectMapper objectMapper;
     private final GatewaySecurityProperties securityProperties;
 
-    private List<PathPattern> publicPathPatterns;
-    private List<PathPattern> publicPathExclusionPatterns;
-    private List<PathPattern> adminOnlyPathPatterns;
+    @Value("${gateway.security.path-cache.max-size:10000}")
+    private long pathCacheMaxSize;
+
+    private PathAccessClassifier pathAccessClassifier;
 
     @PostConstruct
     void init() {
-        PathPatternParser parser = new PathPatternParser();
-        publicPathPatterns = securityProperties.publicPaths().stream()
-            .map(parser::parse)
-            .toList();
-        publicPathExclusionPatterns = securityProperties.publicPathExclusions().stream()
-            .map(parser::parse)
-            .toList();
-        adminOnlyPathPatterns = securityProperties.adminOnlyPaths().stream()
-            .map(parser::parse)
-            .toList();
+        pathAccessClassifier = new PathAccessClassifier(securityProperties, pathCacheMaxSize);
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        GatewayAuthMetrics.Sample sample = authMetrics.start();
+        Authentication authentication = authenticate(exchange);
+        authMetrics.stop(sample, authentication.outcome());
+
+        return switch (authentication.outcome()) {
+            case PUBLIC, AUTHENTICATED -> chain.filter(authentication.exchange());
+            case FORBIDDEN -> handleForbidden(exchange);
+            case UNAUTHORIZED -> handleUnauthorized(exchange);
+        };
+    }
+
+    /**
+     * 인증 처리 (동기 구간)
+     *
+     * @return 처리 결과와 다음 필터로 넘길 exchange (인증 성공 시 사용자 헤더 주입)
+     */
+    private Authentication authenticate(ServerWebExchange exchange) {
         ServerHttpRequest request = exchange.getRequest();
 
-        // 인증 불필요 경로 확인
+        // 경로 접근 등급 분류 (공개/인증/관리자)
         String path = request.getURI().getPath();
-        if (isPublicPath(path)) {
-            return chain.filter(exchange);
+        PathAccess access = pathAccessClassifier.classify(path);
+        if (access == PathAccess.PUBLIC) {
+            return new Authentication(Outcome.PUBLIC, exchange);
         }
 
         // JWT 토큰 추출
         String token = extractToken(request);
         if (token == null) {
             log.debug("JWT token not found for path: {}", path);
-            return handleUnauthorized(exchange);
+            return new Authentication(Outcome.UNAUTHORIZED, exchange);
         }
 
-        // JWT 토큰 검증
-        if (!jwtTokenProvider.validateToken(token)) {
+        // JWT 토큰 검증 및 사용자 정보 추출 (한 번의 파싱, 캐시 적중 시 파싱 생략)
+        Optional<JwtTokenPayload> verified = jwtVerificationCache.verify(token);
+        if (verified.isEmpty()) {
             log.debug("Invalid JWT token for path: {}", path);
-            return handleUnauthorized(exchange);
+            return new Authentication(Outcome.UNAUTHORIZED, exchange);
         }
+        JwtTokenPayload payload = verified.get();
 
-        // 사용자 정보 추출 및 헤더 주입
-        try {
-            JwtTokenPayload payload = jwtTokenProvider.getPayloadFromToken(token);
-
-            // 관리자 전용 경로 검증
-            if (isAdminOnlyPath(path) && !"ADMIN".equals(payload.role())) {
-                return handleForbidden(exchange);
-            }
+        // 관리자 전용 경로 검증
+        if (access == PathAccess.ADMIN && !"ADMIN".equals(payload.role())) {
+            return new Authentication(Outcome.FORBIDDEN, exchange);
+        }
 
+        // 사용자 정보 헤더 주입
+        try {
             ServerHttpRequest modifiedRequest = request.mutate()
                 .header(USER_ID_HEADER, payload.userId())
                 .header(USER_EMAIL_HEADER, payload.email())
@@ -107,45 +124,14 @@ public class JwtAuthenticationGatewayFilter implements GatewayFilter {
                 .build();
 
             log.debug("JWT authentication successful for user: {}", payload.userId());
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+            return new Authentication(Outcome.AUTHENTICATED, exchange.mutate().request(modifiedRequest).build());
         } catch (Exception e) {
-            log.error("Error extracting JWT payload for path: {}", path, e);
-            return handleUnauthorized(exchange);
+            log.error("Error injecting JWT payload headers for path: {}", path, e);
+            return new Authentication(Outcome.UNAUTHORIZED, exchange);
         }
     }
 
-    /**
-     * 인증 불필요 경로 확인
-     *
-     * 경로 우선순위: 구체적 inclusion(와일드카드 없음) > exclusion > 와일드카드 inclusion
-     * 구체적 경로가 inclusion에 정확히 매칭되면 exclusion보다 우선합니다.
-     */
-    private boolean isPublicPath(String path) {
-        org.springframework.http.server.PathContainer pathContainer =
-            org.springframework.http.server.PathContainer.parsePath(path);
-
-        // 1. 구체적 inclusion 패턴(와일드카드 없음)에 매칭되면 즉시 공개 경로
-        for (PathPattern pattern : publicPathPatterns) {
-            if (!pattern.hasPatternSyntax() && pattern.matches(pathContainer)) {
-                return true;
-            }
-        }
-
-        // 2. exclusion 패턴에 매칭되면 공개 경로가 아님
-        for (PathPattern exclusion : publicPathExclusionPatterns) {
-            if (exclusion.matches(pathContainer)) {
-                return false;
-            }
-        }
-
-        // 3. 와일드카드 inclusion 패턴에 매칭되면 공개 경로
-        for (PathPattern pattern : publicPathPatterns) {
-            if (pattern.matches(pathContainer)) {
-                return true;
-            }
-        }
-
-        return false;
+    private record Authentication(Outcome outcome, ServerWebExchange exchange) {
     }
 
     /**
@@ -159,21 +145,6 @@ public class JwtAuthenticationGatewayFilter implements GatewayFilter {
         return null;
     }
 
-    /**
-     * 관리자 전용 경로 확인
-     */
-    private boolean isAdminOnlyPath(String path) {
-        org.springframework.http.server.PathContainer pathContainer =
-            org.springframework.http.server.PathContainer.parsePath(path);
-
-        for (PathPattern pattern : adminOnlyPathPatterns) {
-            if (pattern.matches(pathContainer)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * 권한 부족 시 403 Forbidden 응답 반환
      */
@@ -0,0 +1,259 @@
+package com.tech.n.ai.api.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tech.n.ai.api.gateway.config.HybridRateLimiterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 토큰 버킷 + Redis 주기 동기화 방식의 Rate Limiter
+ *
+ * 기존 RedisRateLimiter는 요청마다 Redis Lua 호출이 필요합니다. 이 구현은 인스턴스별 로컬 토큰 버킷으로
+ * 요청을 즉시 판정하고, 소비량을 라우트별 동기화 주기(syncIntervalMs)마다 Redis의 1초 윈도우 카운터에
+ * 일괄 반영합니다(버킷 여러 개를 Lua 1회로). 응답으로 받은 전역 소비량 중 다른 인스턴스의 몫을
+ * 로컬 토큰에서 차감하여 전체 인스턴스 합계가 라우트 한도에 근사하도록 맞춥니다.
+ *
+ * <p>정확도와 Redis 호출 수는 syncIntervalMs로 조절합니다. 주기가 짧을수록 전역 한도에 가깝고,
+ * 길수록 Redis 호출이 줄어드는 대신 동기화 사이에 최대 (인스턴스 수 - 1) x 주기 동안의 소비량만큼
+ * 한도를 넘을 수 있습니다. Redis 장애 시에는 로컬 한도만으로 판정하고 소비량은 다음 동기화에 다시 반영합니다.
+ *
+ * <p>라우트 설정 예:
+ * <pre>
+ * - name: RequestRateLimiter
+ *   args:
+ *     rate-limiter: "#{@hybridRateLimiter}"
+ *     hybrid-rate-limiter.replenishRate: 100
+ *     hybrid-rate-limiter.burstCapacity: 150
+ *     hybrid-rate-limiter.syncIntervalMs: 250
+ * </pre>
+ */
+@Slf4j
+public class HybridRateLimiter extends AbstractRateLimiter<HybridRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "hybrid-rate-limiter";
+
+    private static final String KEY_PREFIX = "request_rate_limiter.hybrid.";
+    private static final long WINDOW_MILLIS = 1_000L;
+    private static final long WINDOW_TTL_SECONDS = 5L;
+
+    private static final String METRIC_DECISIONS = "gateway.rate-limiter.hybrid.decisions";
+    private static final String METRIC_REDIS_CALLS = "gateway.rate-limiter.hybrid.redis.calls";
+    private static final String METRIC_SYNCED_BUCKETS = "gateway.rate-limiter.hybrid.redis.synced-buckets";
+    private static final String METRIC_REMOTE_TOKENS = "gateway.rate-limiter.hybrid.remote-tokens";
+    private static final String METRIC_CALLS_SAVED = "gateway.rate-limiter.hybrid.redis.calls-saved-ratio";
+    private static final String METRIC_BUCKETS = "gateway.rate-limiter.hybrid.buckets";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> syncScript;
+    private final MeterRegistry meterRegistry;
+    private final HybridRateLimiterProperties properties;
+
+    private Cache<String, LocalTokenBucket> buckets;
+    private Counter redisSuccessCounter;
+    private Counter redisFailureCounter;
+    private Counter syncedBucketCounter;
+    private Disposable syncTask;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HybridRateLimiter(ConfigurationService configurationService,
+                             ReactiveStringRedisTemplate redisTemplate,
+                             MeterRegistry meterRegistry,
+                             HybridRateLimiterProperties properties) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.syncScript = (RedisScript) RedisScript.of(
+            new ClassPathResource("scripts/hybrid_rate_limiter_sync.lua"), List.class);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void init() {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.maxBuckets())
+            .expireAfterAccess(Duration.ofSeconds(properties.idleExpireSeconds()))
+            .build();
+
+        this.redisSuccessCounter = Counter.builder(METRIC_REDIS_CALLS)
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.redisFailureCounter = Counter.builder(METRIC_REDIS_CALLS)
+            .tag("result", "failure")
+            .register(meterRegistry);
+        this.syncedBucketCounter = Counter.builder(METRIC_SYNCED_BUCKETS)
+            .description("Redis에 동기화한 버킷 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_CALLS_SAVED, this, HybridRateLimiter::redisCallsSavedRatio)
+            .description("요청당 Redis 호출 대비 절감 비율 (1 - Redis 호출 수 / 판정 수)")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_BUCKETS, this, limiter -> limiter.buckets.estimatedSize())
+            .register(meterRegistry);
+
+        this.syncTask = Flux.interval(Duration.ofMillis(properties.tickMs()), Schedulers.boundedElastic())
+            .onBackpressureDrop()
+            .concatMap(tick -> syncDueBuckets(), 1)
+            .subscribe();
+
+        log.info("Hybrid rate limiter initialized: tickMs={}, maxBatchSize={}, maxBuckets={}",
+            properties.tickMs(), properties.maxBatchSize(), properties.maxBuckets());
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (syncTask != null) {
+            syncTask.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().get(routeId);
+        if (config == null) {
+            throw new IllegalArgumentException("No Configuration found for route " + routeId);
+        }
+
+        long now = System.nanoTime();
+        LocalTokenBucket bucket = buckets.get(routeId + ":" + id,
+            key -> new LocalTokenBucket(routeId, id, config.getBurstCapacity(), now));
+        long remaining = bucket.tryConsume(config, now);
+        boolean allowed = remaining >= 0;
+
+        meterRegistry.counter(METRIC_DECISIONS, "route", routeId, "result", allowed ? "allowed" : "denied")
+            .increment();
+        return Mono.just(new Response(allowed, headers(config, Math.max(remaining, 0))));
+    }
+
+    /**
+     * 동기화 주기가 지난 버킷의 소비량을 Redis 윈도우 카운터에 일괄 반영하고 전역 소비량을 적용
+     */
+    private Mono<Void> syncDueBuckets() {
+        long now = System.nanoTime();
+        long window = System.currentTimeMillis() / WINDOW_MILLIS;
+
+        List<LocalTokenBucket> due = new ArrayList<>();
+        for (LocalTokenBucket bucket : buckets.asMap().values()) {
+            Config config = getConfig().get(bucket.routeId());
+            if (config != null && bucket.isDue(config, now)) {
+                due.add(bucket);
+            }
+        }
+        if (due.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(due)
+            .buffer(properties.maxBatchSize())
+            .concatMap(batch -> syncBatch(batch, window, now))
+            .then();
+    }
+
+    private Mono<Void> syncBatch(List<LocalTokenBucket> batch, long window, long now) {
+        List<String> keys = new ArrayList<>(batch.size());
+        List<String> args = new ArrayList<>(batch.size() + 1);
+        long[] drained = new long[batch.size()];
+        args.add(Long.toString(WINDOW_TTL_SECONDS));
+        for (int i = 0; i < batch.size(); i++) {
+            LocalTokenBucket bucket = batch.get(i);
+            drained[i] = bucket.drain(window, now);
+            keys.add(KEY_PREFIX + bucket.routeId() + "." + bucket.key() + "." + window);
+            args.add(Long.toString(drained[i]));
+        }
+
+        return redisTemplate.execute(syncScript, keys, args)
+            .reduce(new ArrayList<Long>(), (totals, values) -> {
+                totals.addAll(values);
+                return totals;
+            })
+            .doOnNext(totals -> {
+                redisSuccessCounter.increment();
+                syncedBucketCounter.increment(batch.size());
+                for (int i = 0; i < batch.size() && i < totals.size(); i++) {
+                    LocalTokenBucket bucket = batch.get(i);
+                    long remote = bucket.applyGlobal(window, totals.get(i));
+                    if (remote > 0) {
+                        meterRegistry.counter(METRIC_REMOTE_TOKENS, "route", bucket.routeId()).increment(remote);
+                    }
+                }
+            })
+            .onErrorResume(e -> {
+                redisFailureCounter.increment();
+                log.warn("Hybrid rate limiter sync failed, keeping local decisions: buckets={}, error={}",
+                    batch.size(), e.getMessage());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).restore(window, drained[i]);
+                }
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    private Map<String, String> headers(Config config, long remaining) {
+        return Map.of(
+            RedisRateLimiter.REMAINING_HEADER, Long.toString(remaining),
+            RedisRateLimiter.REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()),
+            RedisRateLimiter.BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()),
+            RedisRateLimiter.REQUESTED_TOKENS_HEADER, Integer.toString(config.getRequestedTokens())
+        );
+    }
+
+    private double redisCallsSavedRatio() {
+        double decisions = meterRegistry.find(METRIC_DECISIONS).counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+        if (decisions == 0) {
+            return 0.0;
+        }
+        double calls = redisSuccessCounter.count() + redisFailureCounter.count();
+        return Math.max(0.0, 1.0 - calls / decisions);
+    }
+
+    /**
+     * 라우트별 설정 (hybrid-rate-limiter.* 인자)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * 초당 토큰 충전 수
+         */
+        private int replenishRate = 1;
+
+        /**
+         * 버킷 최대 토큰 수
+         */
+        private int burstCapacity = 1;
+
+        /**
+         * 요청당 소비 토큰 수
+         */
+        private int requestedTokens = 1;
+
+        /**
+         * Redis 동기화 주기 (ms): 짧을수록 전역 한도에 정확, 길수록 Redis 호출 감소
+         */
+        private long syncIntervalMs = 250;
+    }
+}
@@ -0,0 +1,132 @@
+package com.tech.n.ai.api.gateway.ratelimit;
+
+/**
+ * 인스턴스 로컬 토큰 버킷 (라우트 + 키 단위)
+ *
+ * 요청 허용 여부는 로컬 토큰으로 즉시 판정하고, 소비량은 pending으로 모아 두었다가
+ * 주기적으로 Redis의 윈도우 카운터에 반영합니다.
+ * 동기화 응답으로 받은 전역 소비량 중 다른 인스턴스가 소비한 만큼을 로컬 토큰에서 차감하여
+ * 전체 인스턴스 합계가 라우트 한도에 근사하도록 맞춥니다.
+ *
+ * 버킷별로 잠금을 가지므로 서로 다른 키의 요청은 경합하지 않습니다.
+ */
+final class LocalTokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final String routeId;
+    private final String key;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastAccessNanos;
+    private long lastSyncNanos;
+
+    /** 아직 Redis에 반영하지 않은 소비량 */
+    private long pendingConsumed;
+    /** 현재 동기화 윈도우 */
+    private long window = -1;
+    /** 현재 윈도우에 이 인스턴스가 반영한 소비량 */
+    private long contributedInWindow;
+    /** 현재 윈도우에서 이미 차감한 다른 인스턴스의 소비량 */
+    private long othersSeenInWindow;
+
+    LocalTokenBucket(String routeId, String key, int burstCapacity, long nowNanos) {
+        this.routeId = routeId;
+        this.key = key;
+        this.tokens = burstCapacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+        this.lastSyncNanos = nowNanos;
+    }
+
+    String routeId() {
+        return routeId;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * 토큰 소비 시도
+     *
+     * @return 허용 시 남은 토큰 수, 거부 시 -1
+     */
+    synchronized long tryConsume(HybridRateLimiter.Config config, long nowNanos) {
+        refill(config, nowNanos);
+        lastAccessNanos = nowNanos;
+
+        int requested = config.getRequestedTokens();
+        if (tokens < requested) {
+            return -1;
+        }
+        tokens -= requested;
+        pendingConsumed += requested;
+        return (long) tokens;
+    }
+
+    /**
+     * 동기화 대상 여부 (동기화 주기가 지났고 최근 요청이 있었던 버킷)
+     */
+    synchronized boolean isDue(HybridRateLimiter.Config config, long nowNanos) {
+        long intervalNanos = config.getSyncIntervalMs() * 1_000_000L;
+        return nowNanos - lastSyncNanos >= intervalNanos
+            && (pendingConsumed > 0 || lastAccessNanos > lastSyncNanos - intervalNanos);
+    }
+
+    /**
+     * 동기화할 소비량을 꺼내고 윈도우 기준으로 누적
+     *
+     * @return 이번 동기화로 Redis에 더할 소비량
+     */
+    synchronized long drain(long syncWindow, long nowNanos) {
+        if (window != syncWindow) {
+            window = syncWindow;
+            contributedInWindow = 0;
+            othersSeenInWindow = 0;
+        }
+        long drained = pendingConsumed;
+        pendingConsumed = 0;
+        contributedInWindow += drained;
+        lastSyncNanos = nowNanos;
+        return drained;
+    }
+
+    /**
+     * Redis 반영 실패 시 소비량 복원 (다음 동기화에 다시 반영)
+     */
+    synchronized void restore(long syncWindow, long drained) {
+        pendingConsumed += drained;
+        if (window == syncWindow) {
+            contributedInWindow -= drained;
+        }
+    }
+
+    /**
+     * 전역 윈도우 소비량 반영: 다른 인스턴스가 새로 소비한 만큼 로컬 토큰 차감
+     *
+     * @return 이번에 차감한 다른 인스턴스의 소비량
+     */
+    synchronized long applyGlobal(long syncWindow, long globalConsumed) {
+        if (window != syncWindow) {
+            return 0;
+        }
+        long others = globalConsumed - contributedInWindow - othersSeenInWindow;
+        if (others <= 0) {
+            return 0;
+        }
+        othersSeenInWindow += others;
+        tokens = Math.max(0, tokens - others);
+        return others;
+    }
+
+    private void refill(HybridRateLimiter.Config config, long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(config.getBurstCapacity(),
+                tokens + elapsed / NANOS_PER_SECOND * config.getReplenishRate());
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Hybrid Rate Limiter 동기화
+-- KEYS[i]: 버킷별 1초 윈도우 소비량 카운터
+-- ARGV[1]: 카운터 TTL (초), ARGV[i + 1]: KEYS[i]에 더할 이 인스턴스의 소비량
+-- 반환: KEYS 순서대로 윈도우 전역 소비량
+local ttl = tonumber(ARGV[1])
+local totals = {}
+
+for i, key in ipairs(KEYS) do
+  local consumed = tonumber(ARGV[i + 1])
+  if consumed > 0 then
+    totals[i] = redis.call('incrby', key, consumed)
+    redis.call('expire', key, ttl)
+  else
+    totals[i] = tonumber(redis.call('get', key) or '0')
+  end
+end
+
+return totals
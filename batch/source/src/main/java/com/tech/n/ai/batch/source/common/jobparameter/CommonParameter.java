@@ -1,6 +1,7 @@
 package com.tech.n.ai.batch.source.common.jobparameter;
 
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,4 +13,23 @@ public class CommonParameter {
     @Value("#{ T(com.tech.n.ai.batch.source.common.utils.DateConverter).dateTimeToMin(jobParameters[baseDate])}")
     private LocalDateTime baseDate;
 
+    @Getter(AccessLevel.NONE)
+    @Value("#{jobParameters[chunkSize]}")
+    private String chunkSize;
+
+    /**
+     * chunkSize Job 파라미터 조회 (미지정 또는 잘못된 값이면 기본값)
+     */
+    public int getChunkSize(int defaultSize) {
+        if (chunkSize == null || chunkSize.isBlank()) {
+            return defaultSize;
+        }
+        try {
+            int value = Integer.parseInt(chunkSize.trim());
+            return value > 0 ? value : defaultSize;
+        } catch (NumberFormatException e) {
+            return defaultSize;
+        }
+    }
+
 }
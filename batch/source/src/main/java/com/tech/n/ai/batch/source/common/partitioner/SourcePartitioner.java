@@ -0,0 +1,42 @@
+package com.tech.n.ai.batch.source.common.partitioner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수집 소스 단위 Partitioner
+ * 소스(RSS 피드, 스크래퍼, GitHub 저장소 등)마다 하나의 파티션을 생성하여
+ * 파티션별 StepExecution으로 실행/재시작 이력을 남김
+ *
+ * gridSize와 관계없이 소스 수만큼 파티션을 생성하며, 동시 실행 수는 TaskExecutor에서 제한
+ */
+@Slf4j
+public class SourcePartitioner implements Partitioner {
+
+    public static final String SOURCE_KEY = "source";
+    private static final String PARTITION_PREFIX = "partition.";
+
+    private final List<String> sources;
+
+    public SourcePartitioner(List<String> sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (String source : sources) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(SOURCE_KEY, source);
+            partitions.put(PARTITION_PREFIX + source, context);
+        }
+
+        log.info("Created {} source partitions: {}", partitions.size(), sources);
+        return partitions;
+    }
+}
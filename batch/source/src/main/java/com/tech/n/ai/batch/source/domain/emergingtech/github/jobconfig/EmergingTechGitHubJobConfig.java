@@ -1,6 +1,7 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.github.jobconfig;
 
 import com.tech.n.ai.batch.source.common.Constants;
+import com.tech.n.ai.batch.source.common.partitioner.SourcePartitioner;
 import com.tech.n.ai.batch.source.domain.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.batch.source.domain.emergingtech.github.incrementer.EmergingTechGitHubIncrementer;
 import com.tech.n.ai.batch.source.domain.emergingtech.github.jobparameter.EmergingTechGitHubJobParameter;
@@ -25,6 +26,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
@@ -44,6 +47,9 @@ public class EmergingTechGitHubJobConfig {
     @Value("${baseDate:#{null}}")
     private String baseDate;
 
+    @Value("${emerging-tech.partition.concurrency-limit:4}")
+    private int partitionConcurrencyLimit;
+
     private final GitHubReleasesService gitHubReleasesService;
     private final EmergingTechInternalContract emergingTechInternalApi;
 
@@ -80,28 +86,63 @@ public class EmergingTechGitHubJobConfig {
 
     @Bean(name = JOB_NAME + ".listener")
     public EmergingTechGitHubJobListener jobListener() {
-        return new EmergingTechGitHubJobListener();
+        return new EmergingTechGitHubJobListener(gitHubReleasesService);
     }
 
     @Bean(name = STEP1_NAME)
     @JobScope
     public Step step1(JobRepository jobRepository,
-                      @Qualifier("primaryPlatformTransactionManager") PlatformTransactionManager transactionManager,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_READER) GitHubReleasesPagingItemReader reader,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_PROCESSOR) GitHubReleasesProcessor processor,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_WRITER) GitHubReleasesWriter writer) {
+                      @Qualifier(STEP1_NAME + Constants.WORKER) Step workerStep,
+                      @Qualifier(STEP1_NAME + Constants.PARTITIONER) SourcePartitioner partitioner,
+                      @Qualifier(JOB_NAME + Constants.TASK_POOL) TaskExecutor taskExecutor) {
         return new StepBuilder(STEP1_NAME, jobRepository)
-            .<GitHubReleaseWithRepo, EmergingTechCreateRequest>chunk(CHUNK_SIZE, transactionManager)
+            .partitioner(STEP1_NAME + Constants.WORKER, partitioner)
+            .step(workerStep)
+            .gridSize(Constants.GRID_SIZE_4)
+            .taskExecutor(taskExecutor)
+            .build();
+    }
+
+    @Bean(name = STEP1_NAME + Constants.WORKER)
+    @JobScope
+    public Step step1Worker(JobRepository jobRepository,
+                            @Qualifier("primaryPlatformTransactionManager") PlatformTransactionManager transactionManager,
+                            @Qualifier(JOB_NAME + Constants.PARAMETER) EmergingTechGitHubJobParameter parameter,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_READER) GitHubReleasesPagingItemReader reader,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_PROCESSOR) GitHubReleasesProcessor processor,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_WRITER) GitHubReleasesWriter writer) {
+        return new StepBuilder(STEP1_NAME + Constants.WORKER, jobRepository)
+            .<GitHubReleaseWithRepo, EmergingTechCreateRequest>chunk(parameter.getChunkSize(CHUNK_SIZE), transactionManager)
             .reader(reader)
             .processor(processor)
             .writer(writer)
             .build();
     }
 
+    @Bean(name = JOB_NAME + Constants.TASK_POOL)
+    public TaskExecutor taskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(JOB_NAME + "-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(partitionConcurrencyLimit);
+        return taskExecutor;
+    }
+
+    @Bean(name = STEP1_NAME + Constants.PARTITIONER)
+    @JobScope
+    public SourcePartitioner step1Partitioner() {
+        return new SourcePartitioner(TARGET_REPOSITORIES.stream()
+            .map(GitHubReleasesPagingItemReader.RepositoryInfo::fullName)
+            .toList());
+    }
+
     @Bean(name = STEP1_NAME + Constants.ITEM_READER)
     @StepScope
-    public GitHubReleasesPagingItemReader step1Reader() {
-        return new GitHubReleasesPagingItemReader(CHUNK_SIZE, gitHubReleasesService, TARGET_REPOSITORIES);
+    public GitHubReleasesPagingItemReader step1Reader(
+            @Value("#{stepExecutionContext['" + SourcePartitioner.SOURCE_KEY + "']}") String source) {
+        List<GitHubReleasesPagingItemReader.RepositoryInfo> repositories = TARGET_REPOSITORIES.stream()
+            .filter(repository -> repository.fullName().equals(source))
+            .toList();
+        return new GitHubReleasesPagingItemReader(CHUNK_SIZE, gitHubReleasesService, repositories);
     }
 
     @Bean(name = STEP1_NAME + Constants.ITEM_PROCESSOR)
@@ -1,7 +1,9 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.github.listener;
 
+import com.tech.n.ai.batch.source.domain.emergingtech.github.service.GitHubReleasesService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.listener.JobExecutionListener;
 
@@ -12,9 +14,12 @@ import org.springframework.batch.core.listener.JobExecutionListener;
 @RequiredArgsConstructor
 public class EmergingTechGitHubJobListener implements JobExecutionListener {
 
+    private final GitHubReleasesService gitHubReleasesService;
+
     @Override
     public void beforeJob(JobExecution jobExecution) {
         log.info("Starting Emerging Tech GitHub Job: jobId={}", jobExecution.getJobInstanceId());
+        gitHubReleasesService.discardEtags();
     }
 
     @Override
@@ -22,5 +27,12 @@ public class EmergingTechGitHubJobListener implements JobExecutionListener {
         log.info("Completed Emerging Tech GitHub Job: jobId={}, status={}",
             jobExecution.getJobInstanceId(),
             jobExecution.getStatus());
+
+        // 성공한 실행의 ETag만 저장 (실패 시 다음 실행에서 304로 Release가 누락되지 않도록 폐기)
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            gitHubReleasesService.commitEtags();
+        } else {
+            gitHubReleasesService.discardEtags();
+        }
     }
 }
@@ -1,22 +1,22 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.github.reader;
 
 import com.tech.n.ai.batch.source.domain.emergingtech.github.service.GitHubReleasesService;
-import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.infrastructure.item.database.AbstractPagingItemReader;
 import org.springframework.util.CollectionUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * GitHub Releases 페이징 Item Reader
- * 여러 저장소의 Releases를 순차적으로 조회하고 저장소 정보와 함께 반환
+ * 여러 저장소의 Releases를 병렬로 조회하고 저장소 정보와 함께 반환
  */
 @Slf4j
 public class GitHubReleasesPagingItemReader extends AbstractPagingItemReader<GitHubReleaseWithRepo> {
 
+    private static final int RELEASES_PER_REPOSITORY = 10;  // 각 저장소당 최신 10개
+
     private final GitHubReleasesService service;
     private final List<RepositoryInfo> repositories;
     private List<GitHubReleaseWithRepo> cachedReleases;
@@ -54,37 +54,11 @@ public class GitHubReleasesPagingItemReader extends AbstractPagingItemReader<Git
     }
 
     /**
-     * 모든 저장소의 Releases를 한 번에 가져와 캐싱 (저장소 정보 포함)
+     * 모든 저장소의 Releases를 병렬 조건부 조회하여 캐싱 (저장소 정보 포함, 변경 없는 저장소는 제외)
      */
     private void fetchAndCacheIfNeeded() {
         if (cachedReleases == null) {
-            cachedReleases = new ArrayList<>();
-
-            for (RepositoryInfo repo : repositories) {
-                try {
-                    List<GitHubDto.Release> releases = service.getReleases(
-                        repo.owner(),
-                        repo.repo(),
-                        10,  // 각 저장소당 최신 10개
-                        1
-                    );
-
-                    // Release에 저장소 정보를 함께 저장
-                    for (GitHubDto.Release release : releases) {
-                        cachedReleases.add(GitHubReleaseWithRepo.builder()
-                            .release(release)
-                            .owner(repo.owner())
-                            .repo(repo.repo())
-                            .provider(repo.provider())
-                            .build());
-                    }
-
-                    log.info("Fetched {} releases from {}/{}", releases.size(), repo.owner(), repo.repo());
-                } catch (Exception e) {
-                    log.error("Failed to fetch releases from {}/{}: {}", repo.owner(), repo.repo(), e.getMessage());
-                }
-            }
-
+            cachedReleases = service.fetchReleases(repositories, RELEASES_PER_REPOSITORY);
             log.info("Total cached releases: {}", cachedReleases.size());
         }
     }
@@ -108,5 +82,10 @@ public class GitHubReleasesPagingItemReader extends AbstractPagingItemReader<Git
     /**
      * 저장소 정보
      */
-    public record RepositoryInfo(String owner, String repo, String provider) {}
+    public record RepositoryInfo(String owner, String repo, String provider) {
+
+        public String fullName() {
+            return owner + "/" + repo;
+        }
+    }
 }
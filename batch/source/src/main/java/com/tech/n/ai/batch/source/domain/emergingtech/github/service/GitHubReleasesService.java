@@ -1,22 +1,92 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.github.service;
 
+import com.tech.n.ai.batch.source.domain.emergingtech.github.reader.GitHubReleaseWithRepo;
+import com.tech.n.ai.batch.source.domain.emergingtech.github.reader.GitHubReleasesPagingItemReader.RepositoryInfo;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubContract;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * GitHub Releases API 서비스
+ *
+ * - 저장소별 병렬 조회 (동시 요청 수 제한, 파티션 간 공유)
+ * - 조건부 요청(If-None-Match): 변경되지 않은 저장소는 304로 응답하여 rate limit을 소모하지 않음
+ * - X-RateLimit-Remaining이 하한 이하로 떨어지면 X-RateLimit-Reset 시각까지 저장소 조회를 건너뜀
+ * - ETag는 Job 성공 시에만 Redis에 저장 (실패한 실행의 Release가 다음 실행에서 304로 누락되지 않도록)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GitHubReleasesService {
 
+    private static final String ETAG_KEY_PREFIX = "github:releases:etag:";
+    private static final String METRIC_FETCH = "emerging-tech.github.fetch";
+    private static final String METRIC_NOT_MODIFIED_RATIO = "emerging-tech.github.not-modified-ratio";
+    private static final String METRIC_RATE_LIMIT_REMAINING = "emerging-tech.github.rate-limit.remaining";
+    private static final String RESULT_MODIFIED = "modified";
+    private static final String RESULT_NOT_MODIFIED = "not_modified";
+    private static final String RESULT_FAILED = "failed";
+    private static final int UNKNOWN_RATE_LIMIT = -1;
+    private static final long UNKNOWN_RATE_LIMIT_RESET = 0L;
+
     private final GitHubContract githubContract;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${emerging-tech.github.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${emerging-tech.github.rate-limit.min-remaining:10}")
+    private int minRateLimitRemaining;
+
+    @Value("${emerging-tech.github.etag.ttl-days:7}")
+    private long etagTtlDays;
+
+    private Semaphore permits;
+    private final AtomicInteger rateLimitRemaining = new AtomicInteger(UNKNOWN_RATE_LIMIT);
+    private final AtomicLong rateLimitResetEpochSeconds = new AtomicLong(UNKNOWN_RATE_LIMIT_RESET);
+    private final Map<String, String> pendingEtags = new ConcurrentHashMap<>();
+    private Counter modifiedCounter;
+    private Counter notModifiedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.modifiedCounter = Counter.builder(METRIC_FETCH + ".requests")
+            .tag("result", RESULT_MODIFIED)
+            .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder(METRIC_FETCH + ".requests")
+            .tag("result", RESULT_NOT_MODIFIED)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_NOT_MODIFIED_RATIO, this, GitHubReleasesService::notModifiedRatio)
+            .description("조건부 요청 중 304 응답 비율")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_RATE_LIMIT_REMAINING, rateLimitRemaining, AtomicInteger::get)
+            .description("마지막 응답의 X-RateLimit-Remaining (-1: 미확인)")
+            .register(meterRegistry);
+    }
 
     /**
      * GitHub Releases 조회
@@ -40,4 +110,142 @@ public class GitHubReleasesService {
         log.info("GitHub Releases 조회 완료: owner={}, repo={}, count={}", owner, repo, response.releases().size());
         return response.releases();
     }
+
+    /**
+     * 여러 저장소의 최신 Releases 병렬 조건부 조회 (저장소 순서 유지, 저장소별 실패 격리)
+     */
+    public List<GitHubReleaseWithRepo> fetchReleases(List<RepositoryInfo> repositories, int perPage) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<List<GitHubReleaseWithRepo>>> futures = repositories.stream()
+                .map(repository -> CompletableFuture.supplyAsync(() -> fetchRepository(repository, perPage), executor))
+                .toList();
+
+            List<GitHubReleaseWithRepo> releases = new ArrayList<>();
+            futures.forEach(future -> releases.addAll(future.join()));
+            return releases;
+        }
+    }
+
+    /**
+     * 조회 중 받은 ETag를 Redis에 저장 (Job 성공 시 호출)
+     */
+    public void commitEtags() {
+        pendingEtags.forEach((fullName, etag) -> {
+            try {
+                stringRedisTemplate.opsForValue().set(ETAG_KEY_PREFIX + fullName, etag, Duration.ofDays(etagTtlDays));
+            } catch (Exception e) {
+                log.warn("Failed to store GitHub ETag: repository={}", fullName, e);
+            }
+        });
+        log.info("GitHub ETags stored: {} repositories", pendingEtags.size());
+        pendingEtags.clear();
+    }
+
+    /**
+     * 조회 중 받은 ETag 폐기 (Job 시작 시 및 실패 시 호출)
+     */
+    public void discardEtags() {
+        pendingEtags.clear();
+    }
+
+    private List<GitHubReleaseWithRepo> fetchRepository(RepositoryInfo repository, int perPage) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = RESULT_FAILED;
+        try {
+            if (isRateLimitExhausted()) {
+                log.warn("Skipping {}: GitHub rate limit nearly exhausted (remaining={}, resetAt={})",
+                    repository.fullName(), rateLimitRemaining.get(), Instant.ofEpochSecond(rateLimitResetEpochSeconds.get()));
+                return List.of();
+            }
+
+            GitHubDto.ReleasesRequest request = GitHubDto.ReleasesRequest.builder()
+                .owner(repository.owner())
+                .repo(repository.repo())
+                .perPage(perPage)
+                .page(1)
+                .build();
+            GitHubDto.ConditionalReleasesResponse response =
+                githubContract.getReleasesConditional(request, loadEtag(repository.fullName()));
+
+            if (response.rateLimitRemaining() != null) {
+                rateLimitRemaining.set(response.rateLimitRemaining());
+            }
+            if (response.rateLimitReset() != null) {
+                rateLimitResetEpochSeconds.set(response.rateLimitReset());
+            }
+            if (response.etag() != null) {
+                pendingEtags.put(repository.fullName(), response.etag());
+            }
+
+            if (response.notModified()) {
+                result = RESULT_NOT_MODIFIED;
+                notModifiedCounter.increment();
+                log.info("{}: releases not modified", repository.fullName());
+                return List.of();
+            }
+
+            result = RESULT_MODIFIED;
+            modifiedCounter.increment();
+            log.info("Fetched {} releases from {}", response.releases().size(), repository.fullName());
+            return response.releases().stream()
+                .map(release -> GitHubReleaseWithRepo.builder()
+                    .release(release)
+                    .owner(repository.owner())
+                    .repo(repository.repo())
+                    .provider(repository.provider())
+                    .build())
+                .toList();
+        } catch (Exception e) {
+            log.error("Failed to fetch releases from {}: {}", repository.fullName(), e.getMessage());
+            return List.of();
+        } finally {
+            sample.stop(Timer.builder(METRIC_FETCH)
+                .description("저장소별 Releases 조회 지연 시간")
+                .tag("repository", repository.fullName())
+                .tag("result", result)
+                .register(meterRegistry));
+            permits.release();
+        }
+    }
+
+    /**
+     * 남은 요청 수가 하한 이하이고 아직 리셋 시각 전이면 true
+     * 리셋 시각이 지났거나 알 수 없으면 저장된 남은 요청 수를 지우고 다음 응답 헤더로 다시 판단
+     */
+    private boolean isRateLimitExhausted() {
+        int remaining = rateLimitRemaining.get();
+        if (remaining == UNKNOWN_RATE_LIMIT || remaining > minRateLimitRemaining) {
+            return false;
+        }
+        long resetAt = rateLimitResetEpochSeconds.get();
+        if (resetAt != UNKNOWN_RATE_LIMIT_RESET && Instant.now().getEpochSecond() < resetAt) {
+            return true;
+        }
+        if (rateLimitRemaining.compareAndSet(remaining, UNKNOWN_RATE_LIMIT)) {
+            rateLimitResetEpochSeconds.compareAndSet(resetAt, UNKNOWN_RATE_LIMIT_RESET);
+            log.info("GitHub rate limit window reset, resuming fetches (previous remaining={})", remaining);
+        }
+        return false;
+    }
+
+    private String loadEtag(String fullName) {
+        try {
+            return stringRedisTemplate.opsForValue().get(ETAG_KEY_PREFIX + fullName);
+        } catch (Exception e) {
+            log.warn("Failed to load GitHub ETag: repository={}", fullName, e);
+            return null;
+        }
+    }
+
+    private double notModifiedRatio() {
+        double total = modifiedCounter.count() + notModifiedCounter.count();
+        return total == 0 ? 0.0 : notModifiedCounter.count() / total;
+    }
 }
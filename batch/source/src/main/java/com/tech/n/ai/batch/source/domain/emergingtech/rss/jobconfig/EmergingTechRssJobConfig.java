@@ -1,12 +1,13 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.rss.jobconfig;
 
 import com.tech.n.ai.batch.source.common.Constants;
+import com.tech.n.ai.batch.source.common.partitioner.SourcePartitioner;
 import com.tech.n.ai.batch.source.domain.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.batch.source.domain.emergingtech.rss.incrementer.EmergingTechRssIncrementer;
 import com.tech.n.ai.batch.source.domain.emergingtech.rss.jobparameter.EmergingTechRssJobParameter;
 import com.tech.n.ai.batch.source.domain.emergingtech.rss.listener.EmergingTechRssJobListener;
 import com.tech.n.ai.batch.source.domain.emergingtech.rss.processor.EmergingTechRssProcessor;
-import com.tech.n.ai.batch.source.domain.emergingtech.rss.reader.EmergingTechRssPagingItemReader;
+import com.tech.n.ai.batch.source.domain.emergingtech.rss.reader.EmergingTechRssStreamingItemReader;
 import com.tech.n.ai.batch.source.domain.emergingtech.rss.service.EmergingTechRssService;
 import com.tech.n.ai.batch.source.domain.emergingtech.rss.writer.EmergingTechRssWriter;
 import com.tech.n.ai.client.feign.domain.internal.contract.EmergingTechInternalContract;
@@ -24,8 +25,12 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Set;
+
 /**
  * Emerging Tech RSS 수집 Job 설정
  */
@@ -41,6 +46,12 @@ public class EmergingTechRssJobConfig {
     @Value("${baseDate:#{null}}")
     private String baseDate;
 
+    @Value("${emerging-tech.partition.concurrency-limit:4}")
+    private int partitionConcurrencyLimit;
+
+    @Value("${emerging-tech.rss.reader.queue-capacity:100}")
+    private int readerQueueCapacity;
+
     private final EmergingTechRssService emergingTechRssService;
     private final EmergingTechInternalContract emergingTechInternalApi;
 
@@ -63,28 +74,58 @@ public class EmergingTechRssJobConfig {
 
     @Bean(name = JOB_NAME + ".listener")
     public EmergingTechRssJobListener jobListener() {
-        return new EmergingTechRssJobListener();
+        return new EmergingTechRssJobListener(emergingTechRssService);
     }
 
     @Bean(name = STEP1_NAME)
     @JobScope
     public Step step1(JobRepository jobRepository,
-                      @Qualifier("primaryPlatformTransactionManager") PlatformTransactionManager transactionManager,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_READER) EmergingTechRssPagingItemReader reader,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_PROCESSOR) EmergingTechRssProcessor processor,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_WRITER) EmergingTechRssWriter writer) {
+                      @Qualifier(STEP1_NAME + Constants.WORKER) Step workerStep,
+                      @Qualifier(STEP1_NAME + Constants.PARTITIONER) SourcePartitioner partitioner,
+                      @Qualifier(JOB_NAME + Constants.TASK_POOL) TaskExecutor taskExecutor) {
         return new StepBuilder(STEP1_NAME, jobRepository)
-            .<RssFeedItem, EmergingTechCreateRequest>chunk(CHUNK_SIZE, transactionManager)
+            .partitioner(STEP1_NAME + Constants.WORKER, partitioner)
+            .step(workerStep)
+            .gridSize(Constants.GRID_SIZE_4)
+            .taskExecutor(taskExecutor)
+            .build();
+    }
+
+    @Bean(name = STEP1_NAME + Constants.WORKER)
+    @JobScope
+    public Step step1Worker(JobRepository jobRepository,
+                            @Qualifier("primaryPlatformTransactionManager") PlatformTransactionManager transactionManager,
+                            @Qualifier(JOB_NAME + Constants.PARAMETER) EmergingTechRssJobParameter parameter,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_READER) EmergingTechRssStreamingItemReader reader,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_PROCESSOR) EmergingTechRssProcessor processor,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_WRITER) EmergingTechRssWriter writer) {
+        return new StepBuilder(STEP1_NAME + Constants.WORKER, jobRepository)
+            .<RssFeedItem, EmergingTechCreateRequest>chunk(parameter.getChunkSize(CHUNK_SIZE), transactionManager)
             .reader(reader)
             .processor(processor)
             .writer(writer)
             .build();
     }
 
+    @Bean(name = JOB_NAME + Constants.TASK_POOL)
+    public TaskExecutor taskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(JOB_NAME + "-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(partitionConcurrencyLimit);
+        return taskExecutor;
+    }
+
+    @Bean(name = STEP1_NAME + Constants.PARTITIONER)
+    @JobScope
+    public SourcePartitioner step1Partitioner() {
+        return new SourcePartitioner(emergingTechRssService.getSourceNames());
+    }
+
     @Bean(name = STEP1_NAME + Constants.ITEM_READER)
     @StepScope
-    public EmergingTechRssPagingItemReader step1Reader() {
-        return new EmergingTechRssPagingItemReader(CHUNK_SIZE, emergingTechRssService);
+    public EmergingTechRssStreamingItemReader step1Reader(
+            @Value("#{stepExecutionContext['" + SourcePartitioner.SOURCE_KEY + "']}") String source) {
+        return new EmergingTechRssStreamingItemReader(readerQueueCapacity, emergingTechRssService, Set.of(source));
     }
 
     @Bean(name = STEP1_NAME + Constants.ITEM_PROCESSOR)
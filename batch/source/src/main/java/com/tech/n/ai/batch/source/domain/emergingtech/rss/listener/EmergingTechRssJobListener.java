@@ -1,7 +1,9 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.rss.listener;
 
+import com.tech.n.ai.batch.source.domain.emergingtech.rss.service.EmergingTechRssService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.listener.JobExecutionListener;
 
@@ -12,9 +14,12 @@ import org.springframework.batch.core.listener.JobExecutionListener;
 @RequiredArgsConstructor
 public class EmergingTechRssJobListener implements JobExecutionListener {
 
+    private final EmergingTechRssService emergingTechRssService;
+
     @Override
     public void beforeJob(JobExecution jobExecution) {
         log.info("Starting Emerging Tech RSS Job: jobId={}", jobExecution.getJobInstanceId());
+        emergingTechRssService.discardCacheValidators();
     }
 
     @Override
@@ -22,5 +27,12 @@ public class EmergingTechRssJobListener implements JobExecutionListener {
         log.info("Completed Emerging Tech RSS Job: jobId={}, status={}",
             jobExecution.getJobInstanceId(),
             jobExecution.getStatus());
+
+        // 성공한 실행의 피드 검증자만 저장 (실패 시 다음 실행에서 304로 아이템이 누락되지 않도록 폐기)
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            emergingTechRssService.commitCacheValidators();
+        } else {
+            emergingTechRssService.discardCacheValidators();
+        }
     }
 }
@@ -37,7 +37,11 @@ public class EmergingTechRssProcessor implements ItemProcessor<RssFeedItem, Emer
             return null;
         }
 
-        TechProvider provider = resolveProvider(item.link());
+        TechProvider provider = EmergingTechRssProviders.resolve(item.link());
+        if (provider == null) {
+            log.debug("Skipping RSS item: unsupported provider source - title={}, link={}", item.title(), item.link());
+            return null;
+        }
 
         return EmergingTechCreateRequest.builder()
             .provider(provider.name())
@@ -56,12 +60,6 @@ public class EmergingTechRssProcessor implements ItemProcessor<RssFeedItem, Emer
             .build();
     }
 
-    private TechProvider resolveProvider(String url) {
-        if (url.contains("openai.com")) return TechProvider.OPENAI;
-        if (url.contains("blog.google")) return TechProvider.GOOGLE;
-        throw new IllegalArgumentException("Unknown RSS source URL: " + url);
-    }
-
     private EmergingTechType classifyUpdateType(RssFeedItem item) {
         String title = item.title().toLowerCase();
         String category = item.category() != null ? item.category().toLowerCase() : "";
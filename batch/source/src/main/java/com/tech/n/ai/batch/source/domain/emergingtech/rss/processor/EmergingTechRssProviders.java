@@ -0,0 +1,24 @@
+package com.tech.n.ai.batch.source.domain.emergingtech.rss.processor;
+
+import com.tech.n.ai.domain.mongodb.enums.TechProvider;
+import org.springframework.lang.Nullable;
+
+/**
+ * RSS URL → TechProvider 매핑
+ *
+ * 피드 URL(수집 대상 선정)과 아이템 링크(Processor)에 같은 규칙을 적용합니다.
+ * 매핑되지 않는 피드(TechCrunch, Ars Technica, Medium 등)는 수집하지 않습니다.
+ */
+public final class EmergingTechRssProviders {
+
+    private EmergingTechRssProviders() {
+    }
+
+    public static @Nullable TechProvider resolve(@Nullable String url) {
+        if (url == null) return null;
+        if (url.contains("openai.com")) return TechProvider.OPENAI;
+        if (url.contains("blog.google")) return TechProvider.GOOGLE;
+        if (url.contains("developers.googleblog.com")) return TechProvider.GOOGLE;
+        return null;
+    }
+}
@@ -0,0 +1,183 @@
+package com.tech.n.ai.batch.source.domain.emergingtech.rss.reader;
+
+import com.tech.n.ai.batch.source.domain.emergingtech.rss.service.EmergingTechRssService;
+import com.tech.n.ai.client.rss.dto.RssFeedItem;
+import com.tech.n.ai.client.rss.dto.RssFetchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emerging Tech RSS 스트리밍 Item Reader
+ * 피드별 병렬 수집 결과를 제한된 크기의 큐로 전달받아, 먼저 완료된 피드의 아이템부터 바로 처리
+ *
+ * - 큐가 가득 차면 수집 스레드가 대기하므로 전체 피드 아이템을 한 번에 메모리에 적재하지 않음
+ * - 재시작: ExecutionContext에 완료된 피드와 피드별 마지막 처리 GUID를 저장하여,
+ *   완료된 피드는 다시 수집하지 않고 진행 중이던 피드는 마지막 처리 아이템 이후부터 재개
+ */
+@Slf4j
+public class EmergingTechRssStreamingItemReader implements ItemStreamReader<RssFeedItem> {
+
+    private static final String COMPLETED_FEEDS_KEY = "emerging-tech.rss.completed-feeds";
+    private static final String LAST_GUID_KEY_PREFIX = "emerging-tech.rss.last-guid.";
+    private static final String FEED_SEPARATOR = "\n";
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final EmergingTechRssService rssService;
+    private final int queueCapacity;
+    private final Set<String> sourceNames;
+
+    private final Set<String> completedFeeds = new LinkedHashSet<>();
+    private final Map<String, String> lastGuids = new HashMap<>();
+    private final Map<String, String> resumeGuids = new HashMap<>();
+
+    private BlockingQueue<FeedEvent> queue;
+    private ExecutorService executor;
+    private CompletableFuture<Void> fetching;
+
+    public EmergingTechRssStreamingItemReader(int queueCapacity, EmergingTechRssService rssService, Set<String> sourceNames) {
+        this.queueCapacity = queueCapacity;
+        this.rssService = rssService;
+        this.sourceNames = sourceNames;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        restoreState(executionContext);
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        Set<String> targetFeeds = new LinkedHashSet<>(sourceNames);
+        targetFeeds.removeAll(completedFeeds);
+        fetching = rssService.fetchFeeds(targetFeeds, executor, this::enqueueFeed);
+
+        log.info("Opening Emerging Tech RSS streaming reader: targetFeeds={}, completedFeeds={}, resumingFeeds={}",
+            targetFeeds, completedFeeds, resumeGuids.keySet());
+    }
+
+    @Override
+    public @Nullable RssFeedItem read() throws Exception {
+        while (true) {
+            FeedEvent event = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+            if (event == null) {
+                // 모든 피드의 전달이 끝난 뒤 큐가 비어 있으면 종료
+                if (fetching.isDone() && queue.isEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+
+            if (event.item() == null) {
+                completedFeeds.add(event.sourceName());
+                lastGuids.remove(event.sourceName());
+                continue;
+            }
+
+            lastGuids.put(event.sourceName(), itemKey(event.item()));
+            return event.item();
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putString(COMPLETED_FEEDS_KEY, String.join(FEED_SEPARATOR, completedFeeds));
+        lastGuids.forEach((sourceName, guid) -> executionContext.putString(LAST_GUID_KEY_PREFIX + sourceName, guid));
+        completedFeeds.forEach(sourceName -> executionContext.remove(LAST_GUID_KEY_PREFIX + sourceName));
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        log.info("Closing Emerging Tech RSS streaming reader");
+        if (executor != null) {
+            // 큐 대기 중인 수집 스레드 및 진행 중인 요청 중단
+            executor.shutdownNow();
+            executor = null;
+        }
+        queue = null;
+        fetching = null;
+        completedFeeds.clear();
+        lastGuids.clear();
+        resumeGuids.clear();
+    }
+
+    private void restoreState(ExecutionContext executionContext) {
+        if (executionContext.containsKey(COMPLETED_FEEDS_KEY)) {
+            Arrays.stream(executionContext.getString(COMPLETED_FEEDS_KEY).split(FEED_SEPARATOR))
+                .filter(sourceName -> !sourceName.isBlank())
+                .forEach(completedFeeds::add);
+        }
+
+        executionContext.entrySet().stream()
+            .filter(entry -> entry.getKey().startsWith(LAST_GUID_KEY_PREFIX))
+            .forEach(entry -> {
+                String sourceName = entry.getKey().substring(LAST_GUID_KEY_PREFIX.length());
+                resumeGuids.put(sourceName, (String) entry.getValue());
+                lastGuids.put(sourceName, (String) entry.getValue());
+            });
+    }
+
+    /**
+     * 수집 완료된 피드의 아이템을 큐에 전달 (수집 스레드에서 호출, 큐가 가득 차면 대기)
+     */
+    private void enqueueFeed(String sourceName, @Nullable RssFetchResult result) {
+        if (result == null) {
+            // 실패한 피드는 완료로 기록하지 않음 (재시작 시 다시 수집)
+            return;
+        }
+
+        try {
+            for (RssFeedItem item : skipProcessedItems(sourceName, result.items())) {
+                queue.put(new FeedEvent(sourceName, item));
+            }
+            queue.put(new FeedEvent(sourceName, null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while streaming {} RSS items", sourceName);
+        }
+    }
+
+    /**
+     * 재시작 시 이전 실행에서 마지막으로 처리한 아이템까지 건너뜀
+     * (해당 아이템이 피드에서 사라진 경우 전체 아이템을 처리하고, 중복은 쓰기 단계에서 제거됨)
+     */
+    private List<RssFeedItem> skipProcessedItems(String sourceName, List<RssFeedItem> items) {
+        String resumeGuid = resumeGuids.get(sourceName);
+        if (resumeGuid == null) {
+            return items;
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            if (resumeGuid.equals(itemKey(items.get(i)))) {
+                log.info("{} RSS: resuming after {} processed items", sourceName, i + 1);
+                return items.subList(i + 1, items.size());
+            }
+        }
+        return items;
+    }
+
+    private String itemKey(RssFeedItem item) {
+        return item.guid() != null ? item.guid() : item.link();
+    }
+
+    /**
+     * 큐 이벤트 (item = null이면 해당 피드의 전달 완료 표시)
+     */
+    private record FeedEvent(String sourceName, @Nullable RssFeedItem item) {
+    }
+}
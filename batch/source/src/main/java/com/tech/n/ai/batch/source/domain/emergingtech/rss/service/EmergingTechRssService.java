@@ -1,46 +1,204 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.rss.service;
 
-import com.tech.n.ai.client.rss.dto.RssFeedItem;
-import com.tech.n.ai.client.rss.parser.GoogleAiBlogRssParser;
-import com.tech.n.ai.client.rss.parser.OpenAiBlogRssParser;
+import com.tech.n.ai.batch.source.domain.emergingtech.rss.processor.EmergingTechRssProviders;
+import com.tech.n.ai.client.rss.dto.RssCacheValidators;
+import com.tech.n.ai.client.rss.dto.RssFetchResult;
+import com.tech.n.ai.client.rss.parser.RssConditionalFetcher;
+import com.tech.n.ai.client.rss.parser.RssParser;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 /**
  * Emerging Tech RSS 수집 서비스
- * OpenAI + Google AI Blog RSS 피드를 모두 수집
+ * TechProvider로 매핑되는 RssParser 피드를 병렬로 수집하여 피드 단위로 전달
+ * (매핑되지 않는 피드는 아이템이 모두 버려지므로 수집하지 않고 시작 시 한 번 경고)
+ *
+ * - 피드별 타임아웃 및 실패 격리 (한 피드의 실패/지연이 다른 피드 수집에 영향을 주지 않음)
+ * - 조건부 요청(ETag / Last-Modified): 변경되지 않은 피드는 304 응답으로 다운로드/파싱 생략
+ * - 검증자는 Job 성공 시에만 Redis에 저장 (실패한 실행의 아이템이 다음 실행에서 304로 누락되지 않도록)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmergingTechRssService {
 
-    private final OpenAiBlogRssParser openAiParser;
-    private final GoogleAiBlogRssParser googleAiParser;
+    private static final String VALIDATORS_KEY_PREFIX = "rss:validators:";
+    private static final String FIELD_ETAG = "etag";
+    private static final String FIELD_LAST_MODIFIED = "lastModified";
 
-    public List<RssFeedItem> fetchAllEmergingTechFeeds() {
-        List<RssFeedItem> allItems = new ArrayList<>();
+    private final List<RssParser> parsers;
+    private final RssConditionalFetcher conditionalFetcher;
+    private final StringRedisTemplate stringRedisTemplate;
 
-        try {
-            List<RssFeedItem> openAiItems = openAiParser.parse();
-            log.info("OpenAI Blog RSS: {} items fetched", openAiItems.size());
-            allItems.addAll(openAiItems);
-        } catch (Exception e) {
-            log.error("Failed to fetch OpenAI Blog RSS", e);
+    @Value("${emerging-tech.rss.feed-timeout-seconds:60}")
+    private long feedTimeoutSeconds;
+
+    @Value("${emerging-tech.rss.conditional-get.enabled:true}")
+    private boolean conditionalGetEnabled;
+
+    @Value("${emerging-tech.rss.conditional-get.ttl-days:7}")
+    private long validatorsTtlDays;
+
+    private final Map<String, RssCacheValidators> pendingValidators = new ConcurrentHashMap<>();
+
+    private List<RssParser> providerParsers;
+    private Duration feedFetchTimeout;
+
+    @PostConstruct
+    void init() {
+        // 요청별 타임아웃과 재시도(시도 횟수 × 타임아웃 + 대기 시간)를 모두 포함하는 피드 단위 제한
+        feedFetchTimeout = conditionalFetcher.maxFetchDuration(Duration.ofSeconds(feedTimeoutSeconds));
+        log.info("RSS feed fetch timeout: perAttempt={}s, perFeed={}ms", feedTimeoutSeconds, feedFetchTimeout.toMillis());
+        selectProviderFeeds();
+    }
+
+    private void selectProviderFeeds() {
+        providerParsers = parsers.stream()
+            .filter(parser -> {
+                if (EmergingTechRssProviders.resolve(parser.getFeedUrl()) != null) {
+                    return true;
+                }
+                log.warn("RSS feed has no TechProvider mapping, excluded from collection: source={}, url={}",
+                    parser.getSourceName(), parser.getFeedUrl());
+                return false;
+            })
+            .toList();
+    }
+
+    /**
+     * 수집 대상 피드 소스 이름 목록 (파티션 단위)
+     */
+    public List<String> getSourceNames() {
+        return providerParsers.stream()
+            .map(RssParser::getSourceName)
+            .toList();
+    }
+
+    /**
+     * 피드를 병렬 수집하여 피드 단위로 완료 순서대로 콜백
+     *
+     * @param sourceNames 수집할 소스 이름
+     * @param executor 수집 및 콜백 실행 Executor
+     * @param onFeedFetched 피드 수집 완료 콜백 (실패/타임아웃 시 result = null)
+     * @return 모든 피드의 콜백이 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Void> fetchFeeds(Set<String> sourceNames, Executor executor,
+                                              BiConsumer<String, RssFetchResult> onFeedFetched) {
+        CompletableFuture<?>[] futures = providerParsers.stream()
+            .filter(parser -> sourceNames.contains(parser.getSourceName()))
+            .map(parser -> CompletableFuture.supplyAsync(() -> fetchFeed(parser), executor)
+                .orTimeout(feedFetchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handleAsync((result, e) -> {
+                    if (e != null) {
+                        handleFeedFailure(parser, e);
+                        onFeedFetched.accept(parser.getSourceName(), null);
+                        return null;
+                    }
+                    // 결과가 반영된 피드의 검증자만 보관 (타임아웃/실패 피드는 다음 실행에서 전체 재수집)
+                    if (conditionalGetEnabled && !result.validators().isEmpty()) {
+                        pendingValidators.put(parser.getSourceName(), result.validators());
+                    }
+                    onFeedFetched.accept(parser.getSourceName(), result);
+                    return null;
+                }, executor))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * 수집 중 받은 검증자를 Redis에 저장 (Job 성공 시 호출)
+     */
+    public void commitCacheValidators() {
+        if (!conditionalGetEnabled || pendingValidators.isEmpty()) {
+            return;
+        }
+
+        pendingValidators.forEach((sourceName, validators) -> {
+            try {
+                String key = VALIDATORS_KEY_PREFIX + sourceName;
+                Map<String, String> fields = new HashMap<>();
+                if (validators.etag() != null) {
+                    fields.put(FIELD_ETAG, validators.etag());
+                }
+                if (validators.lastModified() != null) {
+                    fields.put(FIELD_LAST_MODIFIED, validators.lastModified());
+                }
+                stringRedisTemplate.delete(key);
+                stringRedisTemplate.opsForHash().putAll(key, fields);
+                stringRedisTemplate.expire(key, Duration.ofDays(validatorsTtlDays));
+            } catch (Exception e) {
+                log.warn("Failed to store RSS cache validators: source={}", sourceName, e);
+            }
+        });
+        log.info("RSS cache validators stored: {} feeds", pendingValidators.size());
+        pendingValidators.clear();
+    }
+
+    /**
+     * 수집 중 받은 검증자 폐기 (Job 시작 시 및 실패 시 호출, 실패한 실행은 다음 실행에서 전체 재수집)
+     */
+    public void discardCacheValidators() {
+        pendingValidators.clear();
+    }
+
+    private RssFetchResult fetchFeed(RssParser parser) {
+        long startTime = System.currentTimeMillis();
+        RssCacheValidators validators = loadCacheValidators(parser.getSourceName());
+
+        RssFetchResult result = conditionalFetcher.fetch(parser, validators, Duration.ofSeconds(feedTimeoutSeconds));
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        if (result.notModified()) {
+            log.info("{} RSS: not modified ({}ms)", parser.getSourceName(), elapsed);
+        } else {
+            log.info("{} RSS: {} items fetched ({}ms)", parser.getSourceName(), result.items().size(), elapsed);
+        }
+        return result;
+    }
+
+    private void handleFeedFailure(RssParser parser, Throwable e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            log.error("{} RSS: fetch timed out after {}ms", parser.getSourceName(), feedFetchTimeout.toMillis());
+        } else {
+            log.error("Failed to fetch {} RSS", parser.getSourceName(), cause);
+        }
+    }
+
+    /**
+     * 이전 실행에서 저장한 검증자 조회 (조회 실패 시 무조건 요청)
+     */
+    private RssCacheValidators loadCacheValidators(String sourceName) {
+        if (!conditionalGetEnabled) {
+            return RssCacheValidators.empty();
         }
 
         try {
-            List<RssFeedItem> googleItems = googleAiParser.parse();
-            log.info("Google AI Blog RSS: {} items fetched", googleItems.size());
-            allItems.addAll(googleItems);
+            Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(VALIDATORS_KEY_PREFIX + sourceName);
+            return new RssCacheValidators(
+                (String) fields.get(FIELD_ETAG),
+                (String) fields.get(FIELD_LAST_MODIFIED)
+            );
         } catch (Exception e) {
-            log.error("Failed to fetch Google AI Blog RSS", e);
+            log.warn("Failed to load RSS cache validators: source={}", sourceName, e);
+            return RssCacheValidators.empty();
         }
-
-        return allItems;
     }
 }
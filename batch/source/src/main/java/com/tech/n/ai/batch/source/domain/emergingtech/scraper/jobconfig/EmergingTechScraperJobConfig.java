@@ -1,6 +1,7 @@
 package com.tech.n.ai.batch.source.domain.emergingtech.scraper.jobconfig;
 
 import com.tech.n.ai.batch.source.common.Constants;
+import com.tech.n.ai.batch.source.common.partitioner.SourcePartitioner;
 import com.tech.n.ai.batch.source.domain.emergingtech.dto.request.EmergingTechCreateRequest;
 import com.tech.n.ai.batch.source.domain.emergingtech.scraper.incrementer.EmergingTechScraperIncrementer;
 import com.tech.n.ai.batch.source.domain.emergingtech.scraper.jobparameter.EmergingTechScraperJobParameter;
@@ -24,6 +25,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -41,6 +44,9 @@ public class EmergingTechScraperJobConfig {
     @Value("${baseDate:#{null}}")
     private String baseDate;
 
+    @Value("${emerging-tech.partition.concurrency-limit:4}")
+    private int partitionConcurrencyLimit;
+
     private final EmergingTechScraperService emergingTechScraperService;
     private final EmergingTechInternalContract emergingTechInternalApi;
 
@@ -69,22 +75,52 @@ public class EmergingTechScraperJobConfig {
     @Bean(name = STEP1_NAME)
     @JobScope
     public Step step1(JobRepository jobRepository,
-                      @Qualifier("primaryPlatformTransactionManager") PlatformTransactionManager transactionManager,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_READER) EmergingTechScrapingItemReader reader,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_PROCESSOR) EmergingTechScraperProcessor processor,
-                      @Qualifier(STEP1_NAME + Constants.ITEM_WRITER) EmergingTechScraperWriter writer) {
+                      @Qualifier(STEP1_NAME + Constants.WORKER) Step workerStep,
+                      @Qualifier(STEP1_NAME + Constants.PARTITIONER) SourcePartitioner partitioner,
+                      @Qualifier(JOB_NAME + Constants.TASK_POOL) TaskExecutor taskExecutor) {
         return new StepBuilder(STEP1_NAME, jobRepository)
-            .<ScrapedTechArticle, EmergingTechCreateRequest>chunk(CHUNK_SIZE, transactionManager)
+            .partitioner(STEP1_NAME + Constants.WORKER, partitioner)
+            .step(workerStep)
+            .gridSize(Constants.GRID_SIZE_4)
+            .taskExecutor(taskExecutor)
+            .build();
+    }
+
+    @Bean(name = STEP1_NAME + Constants.WORKER)
+    @JobScope
+    public Step step1Worker(JobRepository jobRepository,
+                            @Qualifier("primaryPlatformTransactionManager") PlatformTransactionManager transactionManager,
+                            @Qualifier(JOB_NAME + Constants.PARAMETER) EmergingTechScraperJobParameter parameter,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_READER) EmergingTechScrapingItemReader reader,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_PROCESSOR) EmergingTechScraperProcessor processor,
+                            @Qualifier(STEP1_NAME + Constants.ITEM_WRITER) EmergingTechScraperWriter writer) {
+        return new StepBuilder(STEP1_NAME + Constants.WORKER, jobRepository)
+            .<ScrapedTechArticle, EmergingTechCreateRequest>chunk(parameter.getChunkSize(CHUNK_SIZE), transactionManager)
             .reader(reader)
             .processor(processor)
             .writer(writer)
             .build();
     }
 
+    @Bean(name = JOB_NAME + Constants.TASK_POOL)
+    public TaskExecutor taskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(JOB_NAME + "-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(partitionConcurrencyLimit);
+        return taskExecutor;
+    }
+
+    @Bean(name = STEP1_NAME + Constants.PARTITIONER)
+    @JobScope
+    public SourcePartitioner step1Partitioner() {
+        return new SourcePartitioner(emergingTechScraperService.getSourceNames());
+    }
+
     @Bean(name = STEP1_NAME + Constants.ITEM_READER)
     @StepScope
-    public EmergingTechScrapingItemReader step1Reader() {
-        return new EmergingTechScrapingItemReader(CHUNK_SIZE, emergingTechScraperService);
+    public EmergingTechScrapingItemReader step1Reader(
+            @Value("#{stepExecutionContext['" + SourcePartitioner.SOURCE_KEY + "']}") String source) {
+        return new EmergingTechScrapingItemReader(CHUNK_SIZE, emergingTechScraperService, source);
     }
 
     @Bean(name = STEP1_NAME + Constants.ITEM_PROCESSOR)
@@ -11,17 +11,19 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Emerging Tech 웹 크롤링 페이징 Item Reader
- * Anthropic + Meta AI + xAI 기술 블로그를 수집하여 페이징 처리
+ * 파티션에 할당된 기술 블로그 소스를 수집하여 페이징 처리
  */
 @Slf4j
 public class EmergingTechScrapingItemReader extends AbstractPagingItemReader<ScrapedTechArticle> {
 
     private final EmergingTechScraperService scraperService;
+    private final String sourceName;
     private List<ScrapedTechArticle> allItems;
 
-    public EmergingTechScrapingItemReader(int pageSize, EmergingTechScraperService scraperService) {
+    public EmergingTechScrapingItemReader(int pageSize, EmergingTechScraperService scraperService, String sourceName) {
         setPageSize(pageSize);
         this.scraperService = scraperService;
+        this.sourceName = sourceName;
     }
 
     @Override
@@ -33,7 +35,7 @@ public class EmergingTechScrapingItemReader extends AbstractPagingItemReader<Scr
 
     @Override
     protected void doOpen() {
-        log.info("Opening Emerging Tech Scraper reader");
+        log.info("Opening Emerging Tech Scraper reader: source={}", sourceName);
     }
 
     @Override
@@ -52,8 +54,8 @@ public class EmergingTechScrapingItemReader extends AbstractPagingItemReader<Scr
 
     private void fetchAndCacheIfNeeded() {
         if (allItems == null) {
-            allItems = scraperService.scrapeAllSources();
-            log.info("Total scraped articles: {}", allItems.size());
+            allItems = scraperService.scrapeSource(sourceName);
+            log.info("Total scraped articles: source={}, count={}", sourceName, allItems.size());
         }
     }
 
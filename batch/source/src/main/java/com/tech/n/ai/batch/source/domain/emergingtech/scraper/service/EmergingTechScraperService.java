@@ -3,17 +3,17 @@ package com.tech.n.ai.batch.source.domain.emergingtech.scraper.service;
 import com.tech.n.ai.client.scraper.dto.ScrapedTechArticle;
 import com.tech.n.ai.client.scraper.scraper.AnthropicNewsScraper;
 import com.tech.n.ai.client.scraper.scraper.MetaAiBlogScraper;
+import com.tech.n.ai.client.scraper.scraper.TechBlogScraper;
 import com.tech.n.ai.client.scraper.scraper.XaiNewsScraper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Emerging Tech 웹 크롤링 수집 서비스
- * Anthropic + Meta AI + xAI 기술 블로그를 모두 크롤링
+ * Anthropic + Meta AI + xAI 기술 블로그를 소스 단위로 크롤링
  */
 @Slf4j
 @Service
@@ -24,35 +24,44 @@ public class EmergingTechScraperService {
     private final MetaAiBlogScraper metaScraper;
     private final XaiNewsScraper xaiScraper;
 
-    public List<ScrapedTechArticle> scrapeAllSources() {
-        List<ScrapedTechArticle> allArticles = new ArrayList<>();
+    /**
+     * 수집 대상 스크래퍼 목록
+     */
+    private List<TechBlogScraper> activeScrapers() {
+        // TODO. xAI News 스크래핑 활성화 시 xaiScraper 추가
+        return List.of(anthropicScraper, metaScraper);
+    }
 
-        try {
-            List<ScrapedTechArticle> anthropicArticles = anthropicScraper.scrapeArticles();
-            log.info("Anthropic News: {} articles scraped", anthropicArticles.size());
-            allArticles.addAll(anthropicArticles);
-        } catch (Exception e) {
-            log.error("Failed to scrape Anthropic News", e);
-        }
+    /**
+     * 수집 대상 소스(Provider) 이름 목록 (파티션 단위)
+     */
+    public List<String> getSourceNames() {
+        return activeScrapers().stream()
+            .map(TechBlogScraper::getProviderName)
+            .toList();
+    }
 
-        try {
-            List<ScrapedTechArticle> metaArticles = metaScraper.scrapeArticles();
-            log.info("Meta AI Blog: {} articles scraped", metaArticles.size());
-            allArticles.addAll(metaArticles);
-        } catch (Exception e) {
-            log.error("Failed to scrape Meta AI Blog", e);
+    /**
+     * 단일 소스 크롤링 (실패 시 빈 목록 반환, 다른 소스 수집에 영향 없음)
+     */
+    public List<ScrapedTechArticle> scrapeSource(String sourceName) {
+        TechBlogScraper scraper = activeScrapers().stream()
+            .filter(candidate -> candidate.getProviderName().equals(sourceName))
+            .findFirst()
+            .orElse(null);
+
+        if (scraper == null) {
+            log.warn("Unknown scraper source: {}", sourceName);
+            return List.of();
         }
 
-        /** TODO.
         try {
-            List<ScrapedTechArticle> xaiArticles = xaiScraper.scrapeArticles();
-            log.info("xAI News: {} articles scraped", xaiArticles.size());
-            allArticles.addAll(xaiArticles);
+            List<ScrapedTechArticle> articles = scraper.scrapeArticles();
+            log.info("{}: {} articles scraped", sourceName, articles.size());
+            return articles;
         } catch (Exception e) {
-            log.error("Failed to scrape xAI News", e);
+            log.error("Failed to scrape {}", sourceName, e);
+            return List.of();
         }
-        */
-
-        return allArticles;
     }
 }
@@ -2,22 +2,32 @@ package com.tech.n.ai.client.feign.domain.github.api;
 
 import com.tech.n.ai.client.feign.domain.github.client.GitHubFeignClient;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubContract;
+import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.ConditionalReleasesResponse;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.EventsRequest;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.EventsResponse;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.Event;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.ReleasesRequest;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.ReleasesResponse;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.Release;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
 public class GitHubApi implements GitHubContract {
 
+    private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    private static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+
     private final GitHubFeignClient githubFeign;
 
     @Value("${feign-clients.github.token:}")
@@ -51,4 +61,69 @@ public class GitHubApi implements GitHubContract {
                 .build();
     }
 
+    @Override
+    public ConditionalReleasesResponse getReleasesConditional(ReleasesRequest request, String etag) {
+        String authorization = token != null && !token.isEmpty() ? "Bearer " + token : null;
+        try {
+            ResponseEntity<List<Release>> response = githubFeign.getReleasesConditional(
+                    authorization,
+                    etag,
+                    request.owner(),
+                    request.repo(),
+                    request.perPage(),
+                    request.page()
+            );
+            HttpHeaders headers = response.getHeaders();
+            List<Release> releases = response.getBody();
+            return ConditionalReleasesResponse.builder()
+                    .notModified(false)
+                    .releases(releases != null ? releases : List.of())
+                    .etag(headers.getETag())
+                    .rateLimitRemaining(parseInteger(headers.getFirst(RATE_LIMIT_REMAINING)))
+                    .rateLimitReset(parseLong(headers.getFirst(RATE_LIMIT_RESET)))
+                    .build();
+        } catch (FeignException e) {
+            // Feign은 2xx 이외 응답을 예외로 처리하므로 304는 여기서 변환
+            if (e.status() != HttpStatus.NOT_MODIFIED.value()) {
+                throw e;
+            }
+            Map<String, Collection<String>> headers = e.responseHeaders();
+            String responseEtag = firstHeader(headers, HttpHeaders.ETAG);
+            return ConditionalReleasesResponse.builder()
+                    .notModified(true)
+                    .releases(List.of())
+                    .etag(responseEtag != null ? responseEtag : etag)
+                    .rateLimitRemaining(parseInteger(firstHeader(headers, RATE_LIMIT_REMAINING)))
+                    .rateLimitReset(parseLong(firstHeader(headers, RATE_LIMIT_RESET)))
+                    .build();
+        }
+    }
+
+    private String firstHeader(Map<String, Collection<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        return headers.entrySet().stream()
+                .filter(entry -> entry.getKey() != null && entry.getKey().equalsIgnoreCase(name))
+                .flatMap(entry -> entry.getValue().stream())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Integer parseInteger(String value) {
+        try {
+            return value != null ? Integer.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return value != null ? Long.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package com.tech.n.ai.client.feign.domain.github.client;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -37,4 +38,21 @@ public interface GitHubFeignClient {
             @RequestParam(value = "page", required = false) Integer page
     );
 
+    /**
+     * GitHub Releases API (조건부 요청)
+     * If-None-Match에 이전 ETag를 전달하면 변경이 없을 때 304를 반환하며 rate limit을 소모하지 않음
+     * @see <a href="https://docs.github.com/en/rest/using-the-rest-api/best-practices-for-using-the-rest-api#use-conditional-requests-if-appropriate">Conditional requests</a>
+     */
+    @GetMapping(value = "/repos/{owner}/{repo}/releases",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<List<GitHubDto.Release>> getReleasesConditional(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = "If-None-Match", required = false) String etag,
+            @PathVariable("owner") String owner,
+            @PathVariable("repo") String repo,
+            @RequestParam(value = "per_page", required = false) Integer perPage,
+            @RequestParam(value = "page", required = false) Integer page
+    );
+
 }
@@ -9,4 +9,13 @@ public interface GitHubContract {
      */
     GitHubDto.ReleasesResponse getReleases(GitHubDto.ReleasesRequest request);
 
+    /**
+     * GitHub Releases 조건부 조회 (If-None-Match)
+     *
+     * @param request 조회 요청
+     * @param etag 이전 응답의 ETag (없으면 null)
+     * @return 조회 결과 (변경 없음(304) 여부, ETag, rate limit 잔여량 포함)
+     */
+    GitHubDto.ConditionalReleasesResponse getReleasesConditional(GitHubDto.ReleasesRequest request, String etag);
+
 }
@@ -40,6 +40,15 @@ public class GitHubDto {
             List<Release> releases
     ) {}
 
+    @Builder
+    public record ConditionalReleasesResponse(
+            boolean notModified,            // 304 Not Modified 여부 (true이면 releases는 비어 있음)
+            List<Release> releases,
+            String etag,                    // 다음 요청의 If-None-Match 값
+            Integer rateLimitRemaining,     // X-RateLimit-Remaining (헤더가 없으면 null)
+            Long rateLimitReset             // X-RateLimit-Reset (epoch seconds, 헤더가 없으면 null)
+    ) {}
+
     @Builder
     public record Release(
             @JsonProperty("id")
@@ -1,6 +1,7 @@
 package com.tech.n.ai.client.feign.domain.github.mock;
 
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubContract;
+import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.ConditionalReleasesResponse;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.EventsRequest;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.EventsResponse;
 import com.tech.n.ai.client.feign.domain.github.contract.GitHubDto.ReleasesRequest;
@@ -28,4 +29,13 @@ public class GitHubMock implements GitHubContract {
                 .build();
     }
 
+    @Override
+    public ConditionalReleasesResponse getReleasesConditional(ReleasesRequest request, String etag) {
+        log.info("getReleasesConditional: request={}, etag={}", request, etag);
+        return ConditionalReleasesResponse.builder()
+                .notModified(false)
+                .releases(Collections.emptyList())
+                .build();
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.tech.n.ai.client.rss.dto;
+
+/**
+ * RSS 피드 조건부 요청(Conditional GET) 검증자
+ * 이전 응답의 ETag / Last-Modified 값을 보관하여 다음 요청의 If-None-Match / If-Modified-Since로 사용
+ */
+public record RssCacheValidators(
+        /**
+         * 이전 응답의 ETag 헤더 값
+         */
+        String etag,
+        
+        /**
+         * 이전 응답의 Last-Modified 헤더 값
+         */
+        String lastModified
+) {
+    
+    public static RssCacheValidators empty() {
+        return new RssCacheValidators(null, null);
+    }
+    
+    public boolean isEmpty() {
+        return (etag == null || etag.isBlank()) && (lastModified == null || lastModified.isBlank());
+    }
+}
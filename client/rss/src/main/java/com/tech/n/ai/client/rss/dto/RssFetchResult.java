@@ -0,0 +1,32 @@
+package com.tech.n.ai.client.rss.dto;
+
+import java.util.List;
+
+/**
+ * RSS 피드 조건부 요청 결과
+ */
+public record RssFetchResult(
+        /**
+         * 304 Not Modified 여부 (true이면 items는 비어 있음)
+         */
+        boolean notModified,
+        
+        /**
+         * 파싱된 RSS 피드 아이템 리스트
+         */
+        List<RssFeedItem> items,
+        
+        /**
+         * 다음 요청에 사용할 검증자 (ETag / Last-Modified)
+         */
+        RssCacheValidators validators
+) {
+    
+    public static RssFetchResult notModified(RssCacheValidators validators) {
+        return new RssFetchResult(true, List.of(), validators);
+    }
+    
+    public static RssFetchResult modified(List<RssFeedItem> items, RssCacheValidators validators) {
+        return new RssFetchResult(false, items, validators);
+    }
+}
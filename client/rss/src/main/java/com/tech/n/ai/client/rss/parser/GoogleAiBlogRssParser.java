@@ -66,16 +66,7 @@ public class GoogleAiBlogRssParser implements RssParser {
                     throw new RssParsingException("Empty RSS feed content received from Google AI Blog");
                 }
 
-                feedContent = removeBOM(feedContent).trim();
-
-                SyndFeedInput input = new SyndFeedInput();
-                SyndFeed feed = input.build(new StringReader(feedContent));
-
-                log.debug("Successfully parsed Google AI Blog RSS feed. Found {} entries", feed.getEntries().size());
-
-                return feed.getEntries().stream()
-                    .map(this::convertToRssFeedItem)
-                    .collect(Collectors.toList());
+                return parseContent(feedContent);
             } catch (WebClientException e) {
                 log.error("Failed to fetch Google AI Blog RSS feed", e);
                 throw new RssParsingException("Google AI Blog RSS feed fetch failed", e);
@@ -86,6 +77,24 @@ public class GoogleAiBlogRssParser implements RssParser {
         });
     }
 
+    @Override
+    public List<RssFeedItem> parseContent(String feedContent) {
+        try {
+            feedContent = removeBOM(feedContent).trim();
+
+            SyndFeedInput input = new SyndFeedInput();
+            SyndFeed feed = input.build(new StringReader(feedContent));
+
+            log.debug("Successfully parsed Google AI Blog RSS feed. Found {} entries", feed.getEntries().size());
+
+            return feed.getEntries().stream()
+                .map(this::convertToRssFeedItem)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            throw new RssParsingException("Google AI Blog RSS parsing failed", e);
+        }
+    }
+
     private String removeBOM(String content) {
         if (content != null && content.startsWith("\uFEFF")) {
             return content.substring(1);
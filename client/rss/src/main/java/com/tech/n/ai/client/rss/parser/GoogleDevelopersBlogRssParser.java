@@ -64,17 +64,7 @@ public class GoogleDevelopersBlogRssParser implements RssParser {
                     throw new RssParsingException("Empty RSS feed content received from Google Developers Blog");
                 }
                 
-                // BOM 및 앞뒤 공백 제거
-                feedContent = removeBOM(feedContent).trim();
-                
-                SyndFeedInput input = new SyndFeedInput();
-                SyndFeed feed = input.build(new StringReader(feedContent));
-                
-                log.debug("Successfully parsed Google Developers Blog RSS feed. Found {} entries", feed.getEntries().size());
-                
-                return feed.getEntries().stream()
-                    .map(this::convertToRssFeedItem)
-                    .collect(Collectors.toList());
+                return parseContent(feedContent);
             } catch (WebClientException e) {
                 log.error("Failed to fetch Google Developers Blog RSS feed", e);
                 throw new RssParsingException("Google Developers Blog RSS feed fetch failed", e);
@@ -84,6 +74,25 @@ public class GoogleDevelopersBlogRssParser implements RssParser {
             }
         });
     }
+
+    @Override
+    public List<RssFeedItem> parseContent(String feedContent) {
+        try {
+            // BOM 및 앞뒤 공백 제거
+            feedContent = removeBOM(feedContent).trim();
+
+            SyndFeedInput input = new SyndFeedInput();
+            SyndFeed feed = input.build(new StringReader(feedContent));
+
+            log.debug("Successfully parsed Google Developers Blog RSS feed. Found {} entries", feed.getEntries().size());
+
+            return feed.getEntries().stream()
+                .map(this::convertToRssFeedItem)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            throw new RssParsingException("Google Developers Blog RSS parsing failed", e);
+        }
+    }
     
     /**
      * BOM (Byte Order Mark) 제거
@@ -65,16 +65,7 @@ public class OpenAiBlogRssParser implements RssParser {
                     throw new RssParsingException("Empty RSS feed content received from OpenAI Blog");
                 }
 
-                feedContent = removeBOM(feedContent).trim();
-
-                SyndFeedInput input = new SyndFeedInput();
-                SyndFeed feed = input.build(new StringReader(feedContent));
-
-                log.debug("Successfully parsed OpenAI Blog RSS feed. Found {} entries", feed.getEntries().size());
-
-                return feed.getEntries().stream()
-                    .map(this::convertToRssFeedItem)
-                    .collect(Collectors.toList());
+                return parseContent(feedContent);
             } catch (WebClientException e) {
                 log.error("Failed to fetch OpenAI Blog RSS feed", e);
                 throw new RssParsingException("OpenAI Blog RSS feed fetch failed", e);
@@ -85,6 +76,24 @@ public class OpenAiBlogRssParser implements RssParser {
         });
     }
 
+    @Override
+    public List<RssFeedItem> parseContent(String feedContent) {
+        try {
+            feedContent = removeBOM(feedContent).trim();
+
+            SyndFeedInput input = new SyndFeedInput();
+            SyndFeed feed = input.build(new StringReader(feedContent));
+
+            log.debug("Successfully parsed OpenAI Blog RSS feed. Found {} entries", feed.getEntries().size());
+
+            return feed.getEntries().stream()
+                .map(this::convertToRssFeedItem)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            throw new RssParsingException("OpenAI Blog RSS parsing failed", e);
+        }
+    }
+
     private String removeBOM(String content) {
         if (content != null && content.startsWith("\uFEFF")) {
             return content.substring(1);
@@ -0,0 +1,157 @@
+package com.tech.n.ai.client.rss.parser;
+
+import com.tech.n.ai.client.rss.dto.RssCacheValidators;
+import com.tech.n.ai.client.rss.dto.RssFeedItem;
+import com.tech.n.ai.client.rss.dto.RssFetchResult;
+import com.tech.n.ai.client.rss.exception.RssParsingException;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * RSS 피드 조건부 요청(Conditional GET) 수집기
+ * 이전 응답의 ETag / Last-Modified를 If-None-Match / If-Modified-Since로 전송하여
+ * 변경되지 않은 피드(304 Not Modified)는 본문 다운로드와 파싱을 생략
+ */
+@Component
+@Slf4j
+public class RssConditionalFetcher {
+
+    private static final String RETRY_NAME = "rssRetry";
+
+    private final WebClient webClient;
+    private final RetryRegistry retryRegistry;
+
+    /**
+     * 공유 빌더(rssWebClientBuilder)는 변경하지 않고 복제하여 WebClient를 한 번만 생성합니다.
+     * 피드 URL은 요청마다 절대 URI로 지정하므로 여러 피드를 동시에 수집해도 서로 섞이지 않습니다.
+     */
+    public RssConditionalFetcher(
+            @Qualifier("rssWebClientBuilder") WebClient.Builder webClientBuilder,
+            RetryRegistry retryRegistry) {
+        this.webClient = webClientBuilder.clone().build();
+        this.retryRegistry = retryRegistry;
+    }
+
+    /**
+     * 조건부 요청으로 RSS 피드 수집
+     *
+     * @param parser 피드 본문을 파싱할 파서
+     * @param validators 이전 응답의 검증자 (없으면 RssCacheValidators.empty())
+     * @param timeout 요청 1회당 최대 대기 시간
+     * @return 수집 결과 (304인 경우 notModified = true)
+     */
+    public RssFetchResult fetch(RssParser parser, RssCacheValidators validators, Duration timeout) {
+        Retry retry = retryRegistry.retry(RETRY_NAME);
+
+        try {
+            return retry.executeSupplier(() -> fetchOnce(parser, validators, timeout));
+        } catch (WebClientException e) {
+            log.error("Failed to fetch {} RSS feed", parser.getSourceName(), e);
+            throw new RssParsingException(parser.getSourceName() + " RSS feed fetch failed", e);
+        }
+    }
+
+    /**
+     * 재시도를 포함한 피드 1건의 최대 수집 시간 (시도 횟수 × 시도별 타임아웃 + 시도 간 대기 시간)
+     * 호출자의 피드 단위 타임아웃은 이 값 이상이어야 재시도가 실행될 수 있습니다.
+     *
+     * @param timeout 요청 1회당 최대 대기 시간
+     */
+    public Duration maxFetchDuration(Duration timeout) {
+        RetryConfig config = retryRegistry.retry(RETRY_NAME).getRetryConfig();
+        Duration total = timeout.multipliedBy(config.getMaxAttempts());
+        for (int attempt = 1; attempt < config.getMaxAttempts(); attempt++) {
+            total = total.plusMillis(config.getIntervalBiFunction().apply(attempt, Either.left(null)));
+        }
+        return total;
+    }
+
+    /**
+     * 조건부 요청 1회 (WebClientException은 재시도 대상이므로 그대로 전파)
+     */
+    private RssFetchResult fetchOnce(RssParser parser, RssCacheValidators validators, Duration timeout) {
+        try {
+            log.debug("Fetching {} RSS feed from: {} (etag={}, lastModified={})",
+                parser.getSourceName(), parser.getFeedUrl(), validators.etag(), validators.lastModified());
+
+            ConditionalResponse response = webClient.get()
+                .uri(URI.create(parser.getFeedUrl()))
+                .headers(headers -> applyValidators(headers, validators))
+                .exchangeToMono(clientResponse -> {
+                    HttpHeaders responseHeaders = clientResponse.headers().asHttpHeaders();
+                    if (clientResponse.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        // 304 응답에 검증자 헤더가 생략된 경우 이전 값 유지
+                        RssCacheValidators received = extractValidators(responseHeaders, validators);
+                        return clientResponse.releaseBody()
+                            .thenReturn(new ConditionalResponse(true, null, received));
+                    }
+                    if (clientResponse.statusCode().is2xxSuccessful()) {
+                        RssCacheValidators received = extractValidators(responseHeaders, RssCacheValidators.empty());
+                        return clientResponse.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .map(body -> new ConditionalResponse(false, body, received));
+                    }
+                    return clientResponse.<ConditionalResponse>createError();
+                })
+                .block(timeout);
+
+            if (response == null) {
+                throw new RssParsingException("No response received from " + parser.getSourceName());
+            }
+
+            if (response.notModified()) {
+                log.debug("{} RSS feed not modified", parser.getSourceName());
+                return RssFetchResult.notModified(response.validators());
+            }
+
+            if (response.body().isEmpty()) {
+                throw new RssParsingException("Empty RSS feed content received from " + parser.getSourceName());
+            }
+
+            List<RssFeedItem> items = parser.parseContent(response.body());
+            return RssFetchResult.modified(items, response.validators());
+        } catch (WebClientException | RssParsingException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to parse {} RSS feed", parser.getSourceName(), e);
+            throw new RssParsingException(parser.getSourceName() + " RSS parsing failed", e);
+        }
+    }
+
+    private void applyValidators(HttpHeaders headers, RssCacheValidators validators) {
+        if (validators.etag() != null && !validators.etag().isBlank()) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, validators.etag());
+        }
+        if (validators.lastModified() != null && !validators.lastModified().isBlank()) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.lastModified());
+        }
+    }
+
+    /**
+     * 응답 헤더에서 검증자 추출 (헤더가 없으면 fallback 값 사용)
+     */
+    private RssCacheValidators extractValidators(HttpHeaders headers, RssCacheValidators fallback) {
+        String etag = headers.getFirst(HttpHeaders.ETAG);
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        return new RssCacheValidators(
+            etag != null ? etag : fallback.etag(),
+            lastModified != null ? lastModified : fallback.lastModified()
+        );
+    }
+
+    private record ConditionalResponse(boolean notModified, String body, RssCacheValidators validators) {
+    }
+}
@@ -16,6 +16,14 @@ public interface RssParser {
      */
     List<RssFeedItem> parse();
     
+    /**
+     * 이미 수신한 RSS 피드 본문을 파싱하여 아이템 리스트를 반환
+     * (조건부 요청 등 HTTP 수신을 외부에서 처리하는 경우 사용)
+     * @param feedContent RSS/Atom 피드 본문
+     * @return 파싱된 RSS 피드 아이템 리스트
+     */
+    List<RssFeedItem> parseContent(String feedContent);
+    
     /**
      * 소스 이름을 반환
      * @return 소스 이름 (예: "TechCrunch", "Google Developers Blog")
@@ -64,35 +64,7 @@ public class TechCrunchRssParser implements RssParser {
                     throw new RssParsingException("Empty RSS feed content received from TechCrunch");
                 }
                 
-                // XML 콘텐츠 정규화 (BOM 제거, XML 선언 이전 문자 제거)
-                feedContent = normalizeXmlContent(feedContent);
-                
-                // 첫 번째 문자들의 코드포인트 확인 (디버깅용)
-                log.info("Feed content length: {}", feedContent.length());
-                log.info("Feed content first 200 chars: [{}]", 
-                    feedContent.length() > 200 ? feedContent.substring(0, 200) : feedContent);
-                
-                // 첫 5개 문자의 코드포인트 출력
-                StringBuilder codePoints = new StringBuilder();
-                for (int i = 0; i < Math.min(5, feedContent.length()); i++) {
-                    codePoints.append(String.format("U+%04X ", (int) feedContent.charAt(i)));
-                }
-                log.info("First 5 char code points: {}", codePoints.toString());
-                
-                // XML 선언으로 시작하지 않으면 경고
-                if (!feedContent.startsWith("<?xml")) {
-                    log.warn("Feed content does NOT start with XML declaration. First char code: U+{}", 
-                        String.format("%04X", (int) feedContent.charAt(0)));
-                }
-                
-                SyndFeedInput input = new SyndFeedInput();
-                SyndFeed feed = input.build(new StringReader(feedContent));
-                
-                log.debug("Successfully parsed TechCrunch RSS feed. Found {} entries", feed.getEntries().size());
-                
-                return feed.getEntries().stream()
-                    .map(this::convertToRssFeedItem)
-                    .collect(Collectors.toList());
+                return parseContent(feedContent);
             } catch (WebClientException e) {
                 log.error("Failed to fetch TechCrunch RSS feed", e);
                 throw new RssParsingException("TechCrunch RSS feed fetch failed", e);
@@ -103,6 +75,41 @@ public class TechCrunchRssParser implements RssParser {
         });
     }
     
+    @Override
+    public List<RssFeedItem> parseContent(String feedContent) {
+        try {
+            // XML 콘텐츠 정규화 (BOM 제거, XML 선언 이전 문자 제거)
+            feedContent = normalizeXmlContent(feedContent);
+
+            // 첫 번째 문자들의 코드포인트 확인 (디버깅용)
+            if (log.isDebugEnabled()) {
+                StringBuilder codePoints = new StringBuilder();
+                for (int i = 0; i < Math.min(5, feedContent.length()); i++) {
+                    codePoints.append(String.format("U+%04X ", (int) feedContent.charAt(i)));
+                }
+                log.debug("Feed content length: {}, first 5 char code points: {}",
+                    feedContent.length(), codePoints.toString().trim());
+            }
+
+            // XML 선언으로 시작하지 않으면 경고
+            if (!feedContent.startsWith("<?xml")) {
+                log.warn("Feed content does NOT start with XML declaration. First char code: U+{}", 
+                    String.format("%04X", (int) feedContent.charAt(0)));
+            }
+
+            SyndFeedInput input = new SyndFeedInput();
+            SyndFeed feed = input.build(new StringReader(feedContent));
+
+            log.debug("Successfully parsed TechCrunch RSS feed. Found {} entries", feed.getEntries().size());
+
+            return feed.getEntries().stream()
+                .map(this::convertToRssFeedItem)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            throw new RssParsingException("TechCrunch RSS parsing failed", e);
+        }
+    }
+    
     /**
      * XML 콘텐츠 정규화
      * - BOM(Byte Order Mark) 제거
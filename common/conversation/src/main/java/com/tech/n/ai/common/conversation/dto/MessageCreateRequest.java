@@ -0,0 +1,14 @@
+package com.tech.n.ai.common.conversation.dto;
+
+/**
+ * 메시지 저장 요청 DTO
+ *
+ * @param role 메시지 역할 (USER, ASSISTANT, SYSTEM)
+ * @param content 메시지 내용
+ * @param tokenCount 토큰 수 (선택)
+ */
+public record MessageCreateRequest(
+    String role,
+    String content,
+    Integer tokenCount
+) {}
@@ -14,8 +14,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * MongoDB 기반 ChatMemoryStore 구현
@@ -25,12 +29,21 @@ import java.util.stream.Collectors;
  *
  * <p>getMessages()는 최근 MAX_LOAD_MESSAGES개만 조회하여
  * 세션이 길어져도 MongoDB I/O 비용이 무한 증가하지 않도록 합니다.
+ *
+ * <p>getMessagesWithinTokens()는 최신 메시지부터 저장된 token_count에 메시지별 오버헤드를 더해 누적하여
+ * 토큰 예산에 도달하면 커서를 닫고 조회를 중단합니다 (재토큰화 없음).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MongoDbChatMemoryStore implements ChatMemoryStore {
 
+    /**
+     * 메시지별 role/구분자 오버헤드 토큰 수
+     * 저장된 token_count는 본문 토큰 수이므로, 토큰 윈도우와 같은 기준으로 예산을 계산하도록 메시지마다 더합니다.
+     */
+    public static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
     private final ConversationMessageRepository conversationMessageRepository;
 
     /**
@@ -74,6 +87,46 @@ public class MongoDbChatMemoryStore implements ChatMemoryStore {
             "Message deletion is handled by ConversationSessionService.", memoryId);
     }
 
+    /**
+     * 토큰 예산 내 최근 메시지 조회 (오름차순)
+     *
+     * 최신 메시지부터 role/content/token_count만 읽어 토큰 수(+ MESSAGE_OVERHEAD_TOKENS)를 누적하고,
+     * 다음 메시지를 더하면 예산을 넘는 시점에 조회를 중단합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param maxTokens 토큰 예산
+     * @param fallbackEstimator token_count가 없는 메시지(레거시)의 토큰 추정 함수
+     * @return 본문 토큰 수가 포함된 메시지 목록 (오름차순, 오버헤드 제외)
+     */
+    public List<TokenCountedChatMessage> getMessagesWithinTokens(String sessionId, int maxTokens,
+                                                                 ToIntFunction<String> fallbackEstimator) {
+        List<TokenCountedChatMessage> recent = new ArrayList<>();
+        int totalTokens = 0;
+
+        try (Stream<ConversationMessageDocument> documents =
+                 conversationMessageRepository.streamRecentForMemory(sessionId)) {
+            Iterator<ConversationMessageDocument> iterator = documents.iterator();
+            while (iterator.hasNext() && recent.size() < MAX_LOAD_MESSAGES) {
+                ConversationMessageDocument doc = iterator.next();
+                int tokenCount = doc.getTokenCount() != null
+                    ? doc.getTokenCount()
+                    : fallbackEstimator.applyAsInt(doc.getContent());
+                int windowTokens = tokenCount + MESSAGE_OVERHEAD_TOKENS;
+                if (totalTokens + windowTokens > maxTokens) {
+                    break;
+                }
+                recent.add(new TokenCountedChatMessage(toChatMessage(doc), tokenCount));
+                totalTokens += windowTokens;
+            }
+        }
+
+        // 최신 순으로 읽었으므로 다시 오름차순으로 정렬
+        Collections.reverse(recent);
+        log.debug("Loaded chat memory within token budget: sessionId={}, messages={}, tokens={}/{}",
+            sessionId, recent.size(), totalTokens, maxTokens);
+        return recent;
+    }
+
     /**
      * 메시지 조회 (String sessionId 편의 메서드)
      */
@@ -0,0 +1,15 @@
+package com.tech.n.ai.common.conversation.memory;
+
+import dev.langchain4j.data.message.ChatMessage;
+
+/**
+ * 토큰 수가 함께 로드된 ChatMessage
+ *
+ * @param message ChatMessage
+ * @param tokenCount 본문 토큰 수 (저장된 token_count, 없으면 추정값, 메시지별 오버헤드 제외)
+ */
+public record TokenCountedChatMessage(
+    ChatMessage message,
+    int tokenCount
+) {
+}
@@ -1,11 +1,14 @@
 package com.tech.n.ai.common.conversation.service;
 
+import com.tech.n.ai.common.conversation.dto.MessageCreateRequest;
 import com.tech.n.ai.common.conversation.dto.MessageResponse;
+import com.tech.n.ai.common.conversation.memory.TokenCountedChatMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * 대화 메시지 서비스 인터페이스
@@ -22,6 +25,15 @@ public interface ConversationMessageService {
      */
     void saveMessage(String sessionId, String role, String content, Integer tokenCount);
 
+    /**
+     * 메시지 일괄 저장 (한 턴의 USER/ASSISTANT 메시지 등)
+     * sequence_number는 목록 순서대로 연속 할당되며, INSERT는 JDBC batch 1회로 실행
+     *
+     * @param sessionId 세션 ID (TSID String)
+     * @param messages 저장할 메시지 (저장 순서)
+     */
+    void saveMessages(String sessionId, List<MessageCreateRequest> messages);
+
     /**
      * 세션의 메시지 목록 조회 (페이징)
      *
@@ -39,4 +51,16 @@ public interface ConversationMessageService {
      * @return ChatMessage 리스트
      */
     List<ChatMessage> getMessagesForMemory(String sessionId, Integer maxTokens);
+
+    /**
+     * ChatMemory용 메시지 조회 (토큰 예산 적용, 토큰 수 포함)
+     * 메시지별로 저장된 token_count를 사용하며, 최신 메시지부터 예산에 도달할 때까지만 로드
+     *
+     * @param sessionId 세션 ID (TSID String)
+     * @param maxTokens 토큰 예산
+     * @param fallbackEstimator token_count가 없는 메시지의 토큰 추정 함수
+     * @return 토큰 수가 포함된 메시지 리스트 (오름차순)
+     */
+    List<TokenCountedChatMessage> getMessagesForMemory(String sessionId, int maxTokens,
+                                                       ToIntFunction<String> fallbackEstimator);
 }
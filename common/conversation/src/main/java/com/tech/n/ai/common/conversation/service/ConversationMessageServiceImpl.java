@@ -1,15 +1,18 @@
 package com.tech.n.ai.common.conversation.service;
 
+import com.tech.n.ai.common.conversation.dto.MessageCreateRequest;
 import com.tech.n.ai.common.conversation.dto.MessageResponse;
 import com.tech.n.ai.common.conversation.exception.ConversationSessionNotFoundException;
 import com.tech.n.ai.common.conversation.exception.InvalidSessionIdException;
 import com.tech.n.ai.common.conversation.memory.MongoDbChatMemoryStore;
+import com.tech.n.ai.common.conversation.memory.TokenCountedChatMessage;
 import com.tech.n.ai.common.kafka.event.ConversationMessageCreatedEvent;
 import com.tech.n.ai.common.kafka.publisher.EventPublisher;
 import com.tech.n.ai.domain.aurora.entity.conversation.ConversationMessageEntity;
 import com.tech.n.ai.domain.aurora.entity.conversation.ConversationSessionEntity;
-import com.tech.n.ai.domain.aurora.repository.reader.conversation.ConversationSessionReaderRepository;
 import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationMessageWriterRepository;
+import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionWriterJpaRepository;
+import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionWriterRepository;
 import com.tech.n.ai.domain.mongodb.document.ConversationMessageDocument;
 import com.tech.n.ai.domain.mongodb.repository.ConversationMessageRepository;
 import dev.langchain4j.data.message.ChatMessage;
@@ -23,7 +26,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -39,53 +44,68 @@ public class ConversationMessageServiceImpl implements ConversationMessageServic
     private final ConversationMessageWriterRepository conversationMessageWriterRepository;
     private final com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationMessageWriterJpaRepository conversationMessageWriterJpaRepository;
     private final ConversationMessageRepository conversationMessageRepository;
-    private final ConversationSessionReaderRepository conversationSessionReaderRepository;
+    private final ConversationSessionWriterRepository conversationSessionWriterRepository;
+    private final ConversationSessionWriterJpaRepository conversationSessionWriterJpaRepository;
     private final MongoDbChatMemoryStore mongoDbChatMemoryStore;
     private final EventPublisher eventPublisher;
 
     @Override
     @Transactional
     public void saveMessage(String sessionId, String role, String content, Integer tokenCount) {
+        saveMessages(sessionId, List.of(new MessageCreateRequest(role, content, tokenCount)));
+    }
+
+    @Override
+    @Transactional
+    public void saveMessages(String sessionId, List<MessageCreateRequest> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
         Long sessionIdLong = parseSessionId(sessionId);
 
-        // 세션 존재 확인
-        ConversationSessionEntity session = conversationSessionReaderRepository.findById(sessionIdLong)
+        // sequence number 범위 예약 (세션 행 UPDATE 1회, 세션이 없으면 갱신 0건)
+        int firstSequenceNumber = conversationSessionWriterRepository
+            .allocateMessageSequence(sessionIdLong, messages.size())
             .orElseThrow(() -> new ConversationSessionNotFoundException("세션을 찾을 수 없습니다: " + sessionId));
 
-        // 다음 sequence number 계산
-        int nextSequenceNumber = conversationMessageWriterJpaRepository
-            .findTopBySessionIdOrderBySequenceNumberDesc(sessionIdLong)
-            .map(m -> m.getSequenceNumber() + 1)
-            .orElse(1);
-
-        // 메시지 엔티티 생성 및 저장
-        ConversationMessageEntity message = new ConversationMessageEntity();
-        message.setSession(session);
-        message.setRole(ConversationMessageEntity.MessageRole.valueOf(role));
-        message.setContent(content);
-        message.setTokenCount(tokenCount);
-        message.setSequenceNumber(nextSequenceNumber);
-        message.setCreatedAt(LocalDateTime.now());
-
-        ConversationMessageEntity savedMessage = conversationMessageWriterRepository.save(message);
-
-        // Kafka 이벤트 발행
-        ConversationMessageCreatedEvent.ConversationMessageCreatedPayload payload =
-            new ConversationMessageCreatedEvent.ConversationMessageCreatedPayload(
-                savedMessage.getMessageId().toString(),
-                sessionId,
-                role,
-                content,
-                tokenCount,
-                nextSequenceNumber,
-                savedMessage.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
-            );
-
-        ConversationMessageCreatedEvent event = new ConversationMessageCreatedEvent(payload);
-        eventPublisher.publish(TOPIC_MESSAGE_CREATED, event, sessionId);
-
-        log.info("Message saved: sessionId={}, role={}, sequenceNumber={}",
-            sessionId, role, nextSequenceNumber);
+        // 존재가 확인된 세션은 프록시로 참조 (추가 SELECT 없음)
+        ConversationSessionEntity session = conversationSessionWriterJpaRepository.getReferenceById(sessionIdLong);
+
+        // 메시지 엔티티 생성 및 일괄 저장
+        LocalDateTime now = LocalDateTime.now();
+        List<ConversationMessageEntity> entities = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            MessageCreateRequest request = messages.get(i);
+            ConversationMessageEntity message = new ConversationMessageEntity();
+            message.setSession(session);
+            message.setRole(ConversationMessageEntity.MessageRole.valueOf(request.role()));
+            message.setContent(request.content());
+            message.setTokenCount(request.tokenCount());
+            message.setSequenceNumber(firstSequenceNumber + i);
+            message.setCreatedAt(now);
+            entities.add(message);
+        }
+
+        List<ConversationMessageEntity> savedMessages = conversationMessageWriterRepository.saveAll(entities);
+
+        // Kafka 이벤트 발행 (partition key가 sessionId이므로 sequence 순서대로 소비됨)
+        for (ConversationMessageEntity savedMessage : savedMessages) {
+            ConversationMessageCreatedEvent.ConversationMessageCreatedPayload payload =
+                new ConversationMessageCreatedEvent.ConversationMessageCreatedPayload(
+                    savedMessage.getMessageId().toString(),
+                    sessionId,
+                    savedMessage.getRole().name(),
+                    savedMessage.getContent(),
+                    savedMessage.getTokenCount(),
+                    savedMessage.getSequenceNumber(),
+                    savedMessage.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                );
+
+            eventPublisher.publish(TOPIC_MESSAGE_CREATED, new ConversationMessageCreatedEvent(payload), sessionId);
+        }
+
+        log.info("Messages saved: sessionId={}, count={}, sequenceNumbers={}..{}",
+            sessionId, messages.size(), firstSequenceNumber, firstSequenceNumber + messages.size() - 1);
     }
 
     @Override
@@ -151,12 +171,21 @@ public class ConversationMessageServiceImpl implements ConversationMessageServic
     @Transactional(readOnly = true)
     public List<ChatMessage> getMessagesForMemory(String sessionId, Integer maxTokens) {
         // ChatMemory용 메시지 조회 (MongoDbChatMemoryStore 사용)
-        List<ChatMessage> messages = mongoDbChatMemoryStore.getMessages(sessionId);
+        if (maxTokens == null) {
+            return mongoDbChatMemoryStore.getMessages(sessionId);
+        }
 
-        // TODO: maxTokens 제한 적용 (TokenService 사용)
-        // 현재는 모든 메시지 반환
+        // token_count가 없는 레거시 메시지는 글자 수로 보수적으로 추정
+        return getMessagesForMemory(sessionId, maxTokens, String::length).stream()
+            .map(TokenCountedChatMessage::message)
+            .collect(Collectors.toList());
+    }
 
-        return messages;
+    @Override
+    @Transactional(readOnly = true)
+    public List<TokenCountedChatMessage> getMessagesForMemory(String sessionId, int maxTokens,
+                                                              ToIntFunction<String> fallbackEstimator) {
+        return mongoDbChatMemoryStore.getMessagesWithinTokens(sessionId, maxTokens, fallbackEstimator);
     }
 
     private MessageResponse toResponse(ConversationMessageDocument doc) {
@@ -7,23 +7,36 @@ import com.tech.n.ai.common.exception.exception.UnauthorizedException;
 import com.tech.n.ai.common.kafka.event.ConversationSessionCreatedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionDeletedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionUpdatedEvent;
+import com.tech.n.ai.common.kafka.event.ConversationSessionsExpiredEvent;
 import com.tech.n.ai.common.kafka.publisher.EventPublisher;
 import com.tech.n.ai.domain.aurora.entity.conversation.ConversationSessionEntity;
 import com.tech.n.ai.domain.aurora.repository.reader.conversation.ConversationSessionReaderRepository;
+import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionOwner;
 import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionWriterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * 대화 세션 서비스 구현체
@@ -37,9 +50,23 @@ public class ConversationSessionServiceImpl implements ConversationSessionServic
     private static final String TOPIC_SESSION_UPDATED = "tech-n-ai.conversation.session.updated";
     private static final String TOPIC_SESSION_DELETED = "tech-n-ai.conversation.session.deleted";
 
+    private static final String METRIC_LIFECYCLE_CHUNK = "conversation.session.lifecycle.chunk";
+    private static final String METRIC_LIFECYCLE_PROCESSED = "conversation.session.lifecycle.processed";
+    private static final String OPERATION_DEACTIVATE = "deactivate";
+    private static final String OPERATION_EXPIRE = "expire";
+
     private final ConversationSessionWriterRepository conversationSessionWriterRepository;
     private final ConversationSessionReaderRepository conversationSessionReaderRepository;
     private final EventPublisher eventPublisher;
+    private final SessionActivityTracker sessionActivityTracker;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${conversation.session.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
+
+    @Value("${conversation.session.lifecycle.chunk-size:500}")
+    private int lifecycleChunkSize;
 
     @Override
     @Transactional
@@ -85,11 +112,18 @@ public class ConversationSessionServiceImpl implements ConversationSessionServic
             .orElseThrow(() -> new ConversationSessionNotFoundException("세션을 찾을 수 없습니다: " + sessionId));
 
         LocalDateTime now = LocalDateTime.now();
+        boolean wasInactive = !Boolean.TRUE.equals(session.getIsActive());
+
+        // 활성 세션의 시각 갱신은 write-behind로 모아서 반영 (재활성화는 조회에 바로 보이도록 즉시 반영)
+        if (writeBehindEnabled && !wasInactive) {
+            sessionActivityTracker.touch(sessionId, session.getUserId(), now);
+            return;
+        }
+
         session.setLastMessageAt(now);
         session.setUpdatedAt(now);
 
         // 메시지 교환 시 세션 자동 재활성화
-        boolean wasInactive = !Boolean.TRUE.equals(session.getIsActive());
         if (wasInactive) {
             session.setIsActive(true);
             log.info("Session reactivated: sessionId={}", sessionId);
@@ -123,50 +157,62 @@ public class ConversationSessionServiceImpl implements ConversationSessionServic
     }
 
     @Override
-    @Transactional
     public int deactivateInactiveSessions(Duration inactiveThreshold) {
         LocalDateTime thresholdTime = LocalDateTime.now().minus(inactiveThreshold);
-        List<ConversationSessionEntity> inactiveSessions = conversationSessionReaderRepository
-            .findByIsActiveTrueAndIsDeletedFalseAndLastMessageAtBefore(thresholdTime);
 
-        inactiveSessions.forEach(session -> {
-            session.setIsActive(false);
-            session.setUpdatedAt(LocalDateTime.now());
-            conversationSessionWriterRepository.save(session);
-        });
+        int deactivated = processInChunks(OPERATION_DEACTIVATE,
+            afterId -> conversationSessionWriterRepository.findInactiveSessionChunk(thresholdTime, afterId, lifecycleChunkSize),
+            chunk -> {
+                // 이 인스턴스에 아직 반영되지 않은 최근 활동이 있는 세션은 제외
+                // 다른 인스턴스에 대기 중인 활동은 알 수 없으므로 비활성화될 수 있으나,
+                // 해당 인스턴스의 flush가 is_active = TRUE와 isActive 이벤트로 다시 활성화합니다 (최대 flush 주기만큼 지연)
+                List<Long> sessionIds = chunk.stream()
+                    .map(ConversationSessionOwner::sessionId)
+                    .filter(sessionId -> sessionActivityTracker.pendingLastMessageAt(sessionId.toString())
+                        .map(pendingAt -> pendingAt.isBefore(thresholdTime))
+                        .orElse(true))
+                    .toList();
+                return sessionIds.isEmpty() ? 0
+                    : conversationSessionWriterRepository.deactivateAll(sessionIds, thresholdTime, LocalDateTime.now());
+            });
 
         log.info("Deactivated {} inactive sessions (threshold: {} minutes)",
-            inactiveSessions.size(), inactiveThreshold.toMinutes());
+            deactivated, inactiveThreshold.toMinutes());
 
-        return inactiveSessions.size();
+        return deactivated;
     }
 
     @Override
-    @Transactional
     public int expireInactiveSessions(int expirationDays) {
         LocalDateTime expirationTime = LocalDateTime.now().minusDays(expirationDays);
-        List<ConversationSessionEntity> expiredSessions = conversationSessionReaderRepository
-            .findByIsActiveFalseAndIsDeletedFalseAndLastMessageAtBefore(expirationTime);
-
-        expiredSessions.forEach(session -> {
-            session.setIsDeleted(true);
-            session.setUpdatedAt(LocalDateTime.now());
-            conversationSessionWriterRepository.save(session);
-
-            ConversationSessionDeletedEvent.ConversationSessionDeletedPayload payload =
-                new ConversationSessionDeletedEvent.ConversationSessionDeletedPayload(
-                    session.getId().toString(),
-                    session.getUserId(),
-                    LocalDateTime.now().atZone(java.time.ZoneId.systemDefault()).toInstant()
-                );
-            ConversationSessionDeletedEvent event = new ConversationSessionDeletedEvent(payload);
-            eventPublisher.publish(TOPIC_SESSION_DELETED, event, session.getId().toString());
-        });
-
-        log.info("Expired {} inactive sessions (expiration: {} days)",
-            expiredSessions.size(), expirationDays);
-
-        return expiredSessions.size();
+
+        int expired = processInChunks(OPERATION_EXPIRE,
+            afterId -> conversationSessionWriterRepository.findExpiredSessionChunk(expirationTime, afterId, lifecycleChunkSize),
+            chunk -> {
+                // deleted_at 비교를 위해 DB 정밀도(마이크로초)에 맞춤
+                LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                List<Long> sessionIds = chunk.stream().map(ConversationSessionOwner::sessionId).toList();
+
+                int updated = conversationSessionWriterRepository.expireAll(sessionIds, expirationTime, now);
+                if (updated == 0) {
+                    return 0;
+                }
+
+                // 조회 이후 재활성화되어 제외된 세션이 있으면 실제 만료된 세션만 이벤트에 포함
+                List<ConversationSessionOwner> expiredSessions = chunk;
+                if (updated < chunk.size()) {
+                    Set<Long> expiredIds = new HashSet<>(conversationSessionWriterRepository.findIdsDeletedAt(sessionIds, now));
+                    expiredSessions = chunk.stream()
+                        .filter(session -> expiredIds.contains(session.sessionId()))
+                        .toList();
+                }
+                publishSessionsExpiredEvent(expiredSessions, now);
+                return updated;
+            });
+
+        log.info("Expired {} inactive sessions (expiration: {} days)", expired, expirationDays);
+
+        return expired;
     }
 
     @Override
@@ -226,6 +272,66 @@ public class ConversationSessionServiceImpl implements ConversationSessionServic
         return session;
     }
 
+    /**
+     * session_id 키셋 페이징으로 대상 세션을 chunk 단위로 조회하고, chunk별 트랜잭션에서 일괄 처리
+     * (세션 수와 무관하게 트랜잭션 크기와 메모리 사용량이 chunk 크기로 제한됨)
+     *
+     * @return 처리된 세션 수
+     */
+    private int processInChunks(String operation,
+                                LongFunction<List<ConversationSessionOwner>> fetchChunk,
+                                ToIntFunction<List<ConversationSessionOwner>> applyChunk) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Timer chunkTimer = Timer.builder(METRIC_LIFECYCLE_CHUNK)
+            .description("세션 생명주기 chunk 처리 시간")
+            .tag("operation", operation)
+            .register(meterRegistry);
+        Counter processedCounter = Counter.builder(METRIC_LIFECYCLE_PROCESSED)
+            .description("세션 생명주기 배치로 처리된 세션 수")
+            .tag("operation", operation)
+            .register(meterRegistry);
+
+        int total = 0;
+        long afterId = 0L;
+        while (true) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            List<ConversationSessionOwner> chunk = fetchChunk.apply(afterId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Integer processed = transactionTemplate.execute(status -> applyChunk.applyAsInt(chunk));
+            int count = processed != null ? processed : 0;
+            sample.stop(chunkTimer);
+            processedCounter.increment(count);
+            total += count;
+
+            if (chunk.size() < lifecycleChunkSize) {
+                break;
+            }
+            afterId = chunk.getLast().sessionId();
+        }
+        return total;
+    }
+
+    private void publishSessionsExpiredEvent(List<ConversationSessionOwner> sessions, LocalDateTime expiredAt) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        ConversationSessionsExpiredEvent.ConversationSessionsExpiredPayload payload =
+            new ConversationSessionsExpiredEvent.ConversationSessionsExpiredPayload(
+                sessions.stream()
+                    .map(session -> new ConversationSessionsExpiredEvent.ExpiredSession(
+                        session.sessionId().toString(), session.userId()))
+                    .toList(),
+                expiredAt.atZone(java.time.ZoneId.systemDefault()).toInstant()
+            );
+        // chunk 단위 이벤트이므로 첫 세션 ID를 Partition Key로 사용
+        eventPublisher.publish(TOPIC_SESSION_DELETED, new ConversationSessionsExpiredEvent(payload),
+            sessions.getFirst().sessionId().toString());
+    }
+
     private void publishSessionUpdatedEvent(String sessionId, String userId,
                                              Map<String, Object> updatedFields) {
         ConversationSessionUpdatedEvent.ConversationSessionUpdatedPayload payload =
@@ -236,11 +342,16 @@ public class ConversationSessionServiceImpl implements ConversationSessionServic
     }
 
     private SessionResponse toResponse(ConversationSessionEntity entity) {
+        // 반영 대기 중인 활동 시각이 더 최근이면 우선
+        LocalDateTime lastMessageAt = sessionActivityTracker.pendingLastMessageAt(entity.getId().toString())
+            .filter(pendingAt -> entity.getLastMessageAt() == null || pendingAt.isAfter(entity.getLastMessageAt()))
+            .orElse(entity.getLastMessageAt());
+
         return SessionResponse.builder()
             .sessionId(entity.getId().toString())
             .title(entity.getTitle())
             .createdAt(entity.getCreatedAt())
-            .lastMessageAt(entity.getLastMessageAt())
+            .lastMessageAt(lastMessageAt)
             .isActive(entity.getIsActive())
             .build();
     }
@@ -0,0 +1,37 @@
+package com.tech.n.ai.common.conversation.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 세션 활동(lastMessageAt) write-behind 추적기 인터페이스
+ *
+ * 메시지 교환마다 발생하는 lastMessageAt 갱신을 메모리에 모아 두고,
+ * 주기적으로 UPDATE 1회와 세션별 ConversationSessionUpdatedEvent 1건으로 반영합니다.
+ */
+public interface SessionActivityTracker {
+
+    /**
+     * 세션 활동 기록 (같은 세션은 가장 최근 시각만 유지)
+     *
+     * @param sessionId 세션 ID (TSID String)
+     * @param userId 세션 소유자 ID (이벤트 발행용)
+     * @param lastMessageAt 마지막 메시지 시각
+     */
+    void touch(String sessionId, String userId, LocalDateTime lastMessageAt);
+
+    /**
+     * 아직 DB에 반영되지 않은 마지막 메시지 시각
+     *
+     * @param sessionId 세션 ID (TSID String)
+     * @return 반영 대기 중인 시각 (없으면 empty)
+     */
+    Optional<LocalDateTime> pendingLastMessageAt(String sessionId);
+
+    /**
+     * 대기 중인 활동을 DB와 Kafka에 반영 (1회 최대 max-batch-size 세션)
+     *
+     * @return 반영한 세션 수
+     */
+    int flush();
+}
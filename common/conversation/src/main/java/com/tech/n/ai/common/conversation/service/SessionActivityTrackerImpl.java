@@ -0,0 +1,147 @@
+package com.tech.n.ai.common.conversation.service;
+
+import com.tech.n.ai.common.conversation.exception.InvalidSessionIdException;
+import com.tech.n.ai.common.kafka.event.ConversationSessionUpdatedEvent;
+import com.tech.n.ai.common.kafka.publisher.EventPublisher;
+import com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionWriterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 활동 write-behind 추적기 구현체
+ *
+ * 대기 중인 활동은 인스턴스 메모리에만 있으므로, 종료 시 남은 활동을 flush합니다.
+ * flush 실패 시 꺼낸 활동을 다시 병합하여 다음 주기에 재시도합니다.
+ * 여러 인스턴스가 같은 세션을 반영해도 UPDATE가 더 최근 시각만 남기므로 순서에 영향받지 않습니다.
+ * flush는 세션을 다시 활성화(is_active = TRUE)하므로 이벤트에도 isActive를 함께 실어 MongoDB 프로젝션과 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionActivityTrackerImpl implements SessionActivityTracker {
+
+    private static final String TOPIC_SESSION_UPDATED = "tech-n-ai.conversation.session.updated";
+
+    private final ConversationSessionWriterRepository conversationSessionWriterRepository;
+    private final EventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${conversation.session.write-behind.max-batch-size:500}")
+    private int maxBatchSize;
+
+    private final Map<Long, Touch> pending = new ConcurrentHashMap<>();
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void touch(String sessionId, String userId, LocalDateTime lastMessageAt) {
+        pending.merge(InvalidSessionIdException.parseSessionId(sessionId),
+            new Touch(userId, lastMessageAt), Touch::latest);
+    }
+
+    @Override
+    public Optional<LocalDateTime> pendingLastMessageAt(String sessionId) {
+        Touch touch = pending.get(InvalidSessionIdException.parseSessionId(sessionId));
+        return Optional.ofNullable(touch).map(Touch::lastMessageAt);
+    }
+
+    /**
+     * 주기적 flush (대기 활동이 max-batch-size를 넘으면 비워질 때까지 반복)
+     */
+    @Scheduled(fixedDelayString = "${conversation.session.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            int flushed;
+            do {
+                flushed = flush();
+            } while (flushed >= maxBatchSize);
+        } catch (Exception e) {
+            log.error("Failed to flush session activity, will retry: pendingSessions={}", pending.size(), e);
+        }
+    }
+
+    @Override
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 세션별로 원자적으로 꺼냄 (꺼낸 뒤 들어온 활동은 다음 flush 대상)
+        Map<Long, Touch> drained = new LinkedHashMap<>();
+        for (Long sessionId : pending.keySet()) {
+            Touch touch = pending.remove(sessionId);
+            if (touch != null) {
+                drained.put(sessionId, touch);
+            }
+            if (drained.size() >= maxBatchSize) {
+                break;
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, LocalDateTime> lastMessageAts = new LinkedHashMap<>();
+                drained.forEach((sessionId, touch) -> lastMessageAts.put(sessionId, touch.lastMessageAt()));
+                conversationSessionWriterRepository.touchSessions(lastMessageAts);
+
+                drained.forEach(this::publishSessionUpdatedEvent);
+            });
+        } catch (RuntimeException e) {
+            drained.forEach((sessionId, touch) -> pending.merge(sessionId, touch, Touch::latest));
+            throw e;
+        }
+
+        log.debug("Session activity flushed: sessions={}", drained.size());
+        return drained.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            while (!pending.isEmpty()) {
+                flush();
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush session activity on shutdown: lostSessions={}", pending.size(), e);
+        }
+    }
+
+    private void publishSessionUpdatedEvent(Long sessionId, Touch touch) {
+        ConversationSessionUpdatedEvent.ConversationSessionUpdatedPayload payload =
+            new ConversationSessionUpdatedEvent.ConversationSessionUpdatedPayload(
+                sessionId.toString(), touch.userId(),
+                Map.of("lastMessageAt", touch.lastMessageAt(), "isActive", true));
+        eventPublisher.publish(TOPIC_SESSION_UPDATED, new ConversationSessionUpdatedEvent(payload),
+            sessionId.toString());
+    }
+
+    /**
+     * 반영 대기 중인 세션 활동
+     */
+    private record Touch(String userId, LocalDateTime lastMessageAt) {
+
+        private static Touch latest(Touch a, Touch b) {
+            return b.lastMessageAt().isAfter(a.lastMessageAt()) ? b : a;
+        }
+    }
+}
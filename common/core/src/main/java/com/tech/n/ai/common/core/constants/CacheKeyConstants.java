@@ -0,0 +1,25 @@
+package com.tech.n.ai.common.core.constants;
+
+/**
+ * 모듈 간 공유되는 Redis 캐시 키 상수 정의
+ */
+public final class CacheKeyConstants {
+
+    private CacheKeyConstants() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Emerging Tech 게시 세대(generation) 카운터 키 prefix
+     * 키: prefix + provider (TechProvider enum value) 또는 prefix + {@link #EMERGING_TECH_GENERATION_ALL}
+     *
+     * 문서가 게시(PUBLISHED)되거나 게시 상태에서 벗어날 때 emerging-tech API가 INCR하며,
+     * 챗봇 답변 캐시는 저장 시점의 세대 값과 비교하여 무효화 여부를 판단합니다.
+     */
+    public static final String EMERGING_TECH_GENERATION_PREFIX = "emerging-tech:generation:";
+
+    /**
+     * provider 필터가 없는 질의용 전체 세대 키 suffix (모든 게시 시 함께 INCR)
+     */
+    public static final String EMERGING_TECH_GENERATION_ALL = "ALL";
+}
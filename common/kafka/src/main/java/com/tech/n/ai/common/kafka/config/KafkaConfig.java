@@ -11,9 +11,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
 import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 import tools.jackson.databind.cfg.DateTimeFeature;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -50,6 +53,18 @@ public class KafkaConfig {
     @Value("${spring.kafka.listener.concurrency:3}")
     private Integer concurrency;
 
+    @Value("${spring.kafka.consumer.fetch-min-size:1}")
+    private String fetchMinBytes;
+
+    @Value("${spring.kafka.consumer.fetch-max-wait:500}")
+    private String fetchMaxWaitMs;
+
+    @Value("${kafka.consumer.retry.interval-ms:5000}")
+    private long retryIntervalMs;
+
+    @Value("${kafka.consumer.retry.max-attempts:13}")
+    private long retryMaxAttempts;
+
     @Value("${spring.kafka.producer.acks:1}")
     private String acks;
 
@@ -117,6 +132,9 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, maxPollIntervalMs);
         configProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        // 브로커가 fetch-min-size만큼 모이거나 fetch-max-wait가 지날 때까지 응답을 모아 poll 배치(= Projection 버퍼 구간)를 구성
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
 
         JacksonJsonDeserializer<Object> jsonDeserializer = new JacksonJsonDeserializer<>(kafkaJsonMapper());
         jsonDeserializer.addTrustedPackages("com.tech.n.ai.common.kafka.event", "com.tech.n.ai.*.event");
@@ -127,15 +145,23 @@ public class KafkaConfig {
 
     /**
      * Kafka Listener Container Factory
+     * 배치 리스너: poll 단위로 레코드를 전달받아 멱등성 확인/저장/acknowledge를 배치 단위로 수행
+     * 파티션 회수 시 Projection 버퍼를 offset 커밋 전에 flush
+     * 재시도 간격 × 횟수는 멱등성 선점 lease보다 길게 설정 (다른 consumer가 처리 중인 이벤트는 lease 만료 후 재선점)
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+        ConsumerAwareRebalanceListener rebalanceListener
+    ) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         factory.getContainerProperties().setMissingTopicsFatal(false);
+        factory.getContainerProperties().setConsumerRebalanceListener(rebalanceListener);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(retryIntervalMs, retryMaxAttempts)));
 
         return factory;
     }
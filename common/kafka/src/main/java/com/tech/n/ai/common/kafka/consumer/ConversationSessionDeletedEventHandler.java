@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 public class ConversationSessionDeletedEventHandler implements EventHandler<ConversationSessionDeletedEvent> {
@@ -22,6 +24,15 @@ public class ConversationSessionDeletedEventHandler implements EventHandler<Conv
         }
     }
     
+    @Override
+    public void handleAll(List<ConversationSessionDeletedEvent> events) {
+        if (conversationSyncService != null) {
+            conversationSyncService.syncSessionsDeleted(events);
+        } else {
+            log.debug("ConversationSyncService not available, skipping sync: count={}", events.size());
+        }
+    }
+    
     @Override
     public String getEventType() {
         return "CONVERSATION_SESSION_DELETED";
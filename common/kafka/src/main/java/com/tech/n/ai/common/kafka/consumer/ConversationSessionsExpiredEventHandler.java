@@ -0,0 +1,40 @@
+package com.tech.n.ai.common.kafka.consumer;
+
+import com.tech.n.ai.common.kafka.event.ConversationSessionsExpiredEvent;
+import com.tech.n.ai.common.kafka.sync.ConversationSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class ConversationSessionsExpiredEventHandler implements EventHandler<ConversationSessionsExpiredEvent> {
+    
+    @Autowired(required = false)
+    private ConversationSyncService conversationSyncService;
+    
+    @Override
+    public void handle(ConversationSessionsExpiredEvent event) {
+        if (conversationSyncService != null) {
+            conversationSyncService.syncSessionsExpired(event);
+        } else {
+            log.debug("ConversationSyncService not available, skipping sync: eventId={}", event.eventId());
+        }
+    }
+    
+    @Override
+    public void handleAll(List<ConversationSessionsExpiredEvent> events) {
+        if (conversationSyncService != null) {
+            conversationSyncService.syncSessionsExpired(events);
+        } else {
+            log.debug("ConversationSyncService not available, skipping sync: count={}", events.size());
+        }
+    }
+    
+    @Override
+    public String getEventType() {
+        return "CONVERSATION_SESSIONS_EXPIRED";
+    }
+}
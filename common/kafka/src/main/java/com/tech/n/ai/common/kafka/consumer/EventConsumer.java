@@ -1,75 +1,197 @@
 package com.tech.n.ai.common.kafka.consumer;
 
 import com.tech.n.ai.common.kafka.event.*;
+import com.tech.n.ai.common.kafka.sync.ConversationProjectionWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 배치 Consumer
+ *
+ * poll 단위로 레코드를 받아 다음 순서로 처리합니다.
+ * 1. 배치 내 중복 제거 및 이벤트 선점 (Bloom Filter 확인 후 SET NX EX 파이프라인 1회, 선점 실패 = 중복)
+ * 2. 연속된 동일 타입 이벤트를 묶어 핸들러에 일괄 전달 (타입 간 수신 순서 유지)
+ * 3. 핸들러가 적재한 Projection 버퍼를 컬렉션별 bulkWrite로 반영
+ * 4. 처리 완료 이벤트 확정 (실패 시 선점 해제, 파이프라인 1회)
+ * 5. 배치 단위 acknowledge (bulkWrite 성공 후에만 offset 커밋)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventConsumer {
-    
+
+    private static final String METRIC_BATCH_DURATION = "kafka.consumer.batch.duration";
+    private static final String METRIC_BATCH_SIZE = "kafka.consumer.batch.size";
+    private static final String METRIC_BATCH_SKIPPED = "kafka.consumer.batch.skipped";
+    private static final String METRIC_LAG = "kafka.consumer.lag";
+
     private final IdempotencyService idempotencyService;
     private final EventHandlerRegistry eventHandlerRegistry;
-    
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ConversationProjectionWriter> projectionWriter;
+
+    private final Map<TopicPartition, AtomicLong> partitionLags = new ConcurrentHashMap<>();
+
     @KafkaListener(
         topics = "#{'${spring.kafka.consumer.topics:tech-n-ai.conversation.session.created,tech-n-ai.conversation.session.updated,tech-n-ai.conversation.session.deleted,tech-n-ai.conversation.message.created}'.split(',')}",
         groupId = "${spring.kafka.consumer.group-id:tech-n-ai-group}",
         containerFactory = "kafkaListenerContainerFactory"
     )
     public void consume(
-        @Payload BaseEvent event,
+        List<ConsumerRecord<String, Object>> records,
         Acknowledgment acknowledgment,
-        @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-        @Header(KafkaHeaders.OFFSET) long offset
+        Consumer<?, ?> consumer
     ) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            if (shouldSkipEvent(event, partition, offset)) {
-                acknowledgment.acknowledge();
-                return;
+            List<BaseEvent> events = extractEvents(records);
+            Set<String> claimedIds = idempotencyService.claimEvents(
+                events.stream().map(BaseEvent::eventId).toList());
+            List<BaseEvent> pending = events.stream()
+                .filter(event -> claimedIds.contains(event.eventId()))
+                .toList();
+
+            int skipped = events.size() - pending.size();
+            if (skipped > 0) {
+                log.warn("Events already processed, skipping: count={}", skipped);
+                meterRegistry.counter(METRIC_BATCH_SKIPPED).increment(skipped);
             }
-            
-            processEvent(event);
-            idempotencyService.markEventAsProcessed(event.eventId());
+
+            processEvents(pending);
             acknowledgment.acknowledge();
-            
-            log.debug("Successfully processed event: eventId={}, eventType={}, partition={}, offset={}", 
-                event.eventId(), event.eventType(), partition, offset);
+
+            DistributionSummary.builder(METRIC_BATCH_SIZE)
+                .description("poll 배치당 레코드 수")
+                .register(meterRegistry)
+                .record(records.size());
+            log.debug("Successfully processed event batch: records={}, processed={}, skipped={}",
+                records.size(), pending.size(), skipped);
         } catch (Exception e) {
-            log.error("Error processing event: eventId={}, eventType={}, partition={}, offset={}", 
-                event.eventId(), event.eventType(), partition, offset, e);
+            log.error("Error processing event batch: records={}, firstOffset={}",
+                records.size(), records.isEmpty() ? null : describe(records.getFirst()), e);
             throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_BATCH_DURATION)
+                .description("poll 배치 처리 시간")
+                .register(meterRegistry));
+            recordLag(records, consumer);
         }
     }
-    
-    private boolean shouldSkipEvent(BaseEvent event, int partition, long offset) {
-        if (idempotencyService.isEventProcessed(event.eventId())) {
-            log.warn("Event already processed, skipping: eventId={}, eventType={}, partition={}, offset={}", 
-                event.eventId(), event.eventType(), partition, offset);
-            return true;
+
+    /**
+     * 레코드에서 이벤트 추출 (배치 내 동일 eventId는 첫 번째만 유지)
+     */
+    private List<BaseEvent> extractEvents(List<ConsumerRecord<String, Object>> records) {
+        Map<String, BaseEvent> events = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            if (!(record.value() instanceof BaseEvent event)) {
+                log.warn("Skipping non-event record: {}", describe(record));
+                continue;
+            }
+            events.putIfAbsent(event.eventId(), event);
         }
-        return false;
+        return new ArrayList<>(events.values());
     }
-    
-    private void processEvent(BaseEvent event) {
+
+    /**
+     * 연속된 동일 타입 이벤트 단위로 일괄 처리
+     * 타입별 전체 그룹핑 대신 연속 구간으로 나누어, 동일 세션의 생성 → 수정 → 삭제 순서를 보장합니다.
+     * 핸들러는 Projection 버퍼에 작업을 적재하고, 배치 끝에서 bulkWrite로 반영한 뒤에만 처리 완료로 확정합니다.
+     * 실패 시 버퍼를 폐기하고 선점을 해제한 뒤 예외를 전파하여 배치를 재시도합니다.
+     */
+    private void processEvents(List<BaseEvent> events) {
+        List<String> eventIds = events.stream().map(BaseEvent::eventId).toList();
+        boolean flushed = false;
         try {
-            if (!eventHandlerRegistry.hasHandler(event.eventType())) {
-                log.warn("No handler registered for event type: eventType={}, eventId={}", 
-                    event.eventType(), event.eventId());
-                return;
+            int start = 0;
+            while (start < events.size()) {
+                String eventType = events.get(start).eventType();
+                int end = start;
+                while (end < events.size() && events.get(end).eventType().equals(eventType)) {
+                    end++;
+                }
+
+                applyRun(eventType, events.subList(start, end));
+                start = end;
+            }
+            projectionWriter.ifAvailable(ConversationProjectionWriter::flush);
+            flushed = true;
+        } finally {
+            if (flushed) {
+                idempotencyService.completeEvents(eventIds);
+            } else {
+                projectionWriter.ifAvailable(ConversationProjectionWriter::discard);
+                idempotencyService.releaseEvents(eventIds);
             }
-            
-            eventHandlerRegistry.handle(event);
+        }
+    }
+
+    private void applyRun(String eventType, List<BaseEvent> run) {
+        if (!eventHandlerRegistry.hasHandler(eventType)) {
+            log.warn("No handler registered for event type: eventType={}, count={}", eventType, run.size());
+            return;
+        }
+
+        try {
+            eventHandlerRegistry.handleAll(eventType, run);
         } catch (Exception e) {
-            log.error("Error processing event: eventType={}, eventId={}", 
-                event.eventType(), event.eventId(), e);
+            log.error("Error processing events: eventType={}, count={}, firstEventId={}",
+                eventType, run.size(), run.getFirst().eventId(), e);
             throw e;
         }
     }
+
+    /**
+     * 파티션별 consumer lag 기록 (로그 끝 오프셋 - 현재 위치)
+     */
+    private void recordLag(List<ConsumerRecord<String, Object>> records, Consumer<?, ?> consumer) {
+        try {
+            records.stream()
+                .map(record -> new TopicPartition(record.topic(), record.partition()))
+                .distinct()
+                .forEach(topicPartition -> {
+                    OptionalLong lag = consumer.currentLag(topicPartition);
+                    if (lag.isPresent()) {
+                        lagGauge(topicPartition).set(lag.getAsLong());
+                    }
+                });
+        } catch (Exception e) {
+            log.debug("Failed to record consumer lag", e);
+        }
+    }
+
+    private AtomicLong lagGauge(TopicPartition topicPartition) {
+        return partitionLags.computeIfAbsent(topicPartition, tp -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(METRIC_LAG, value, AtomicLong::get)
+                .tag("topic", tp.topic())
+                .tag("partition", String.valueOf(tp.partition()))
+                .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private String describe(ConsumerRecord<String, Object> record) {
+        return record.topic() + "-" + record.partition() + "@" + record.offset();
+    }
 }
@@ -2,7 +2,17 @@ package com.tech.n.ai.common.kafka.consumer;
 
 import com.tech.n.ai.common.kafka.event.BaseEvent;
 
+import java.util.List;
+
 public interface EventHandler<T extends BaseEvent> {
     void handle(T event);
     String getEventType();
+
+    /**
+     * 동일 타입 이벤트 일괄 처리 (배치 리스너에서 호출, 기본 구현은 순차 처리)
+     * 수신 순서대로 전달되므로 구현체는 동일 키(sessionId 등)에 대한 적용 순서를 유지해야 함
+     */
+    default void handleAll(List<T> events) {
+        events.forEach(this::handle);
+    }
 }
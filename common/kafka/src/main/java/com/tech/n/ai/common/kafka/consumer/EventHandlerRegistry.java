@@ -32,6 +32,18 @@ public class EventHandlerRegistry {
         handler.handle(event);
     }
     
+    @SuppressWarnings("unchecked")
+    public <T extends BaseEvent> void handleAll(String eventType, List<T> events) {
+        EventHandler<T> handler = (EventHandler<T>) handlers.get(eventType);
+        
+        if (handler == null) {
+            log.warn("No handler found for event type: {}", eventType);
+            return;
+        }
+        
+        handler.handleAll(events);
+    }
+    
     public boolean hasHandler(String eventType) {
         return handlers.containsKey(eventType);
     }
@@ -1,27 +1,280 @@
 package com.tech.n.ai.common.kafka.consumer;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * 이벤트 멱등성 서비스
+ *
+ * 확인과 기록을 분리하지 않고 SET NX EX 1회로 이벤트를 선점(claim)하여, 여러 consumer가
+ * 동시에 같은 이벤트를 처리하는 check-then-act 경합을 제거합니다.
+ *
+ * - claim: processing 값과 lease TTL로 선점 (파이프라인 1회)
+ * - complete: processed 값과 보존 TTL로 확정, 로컬 Bloom Filter에 기록
+ * - release: 처리 실패 시 선점 해제 (재전달 시 다시 처리)
+ *
+ * Redis 앞단의 시간 분할 Bloom Filter는 이 인스턴스가 최근 처리한 이벤트를 걸러냅니다.
+ * Bloom Filter 적중은 선점(SET NX) 대신 MGET 1회로 처리 완료 여부를 확인하므로, false positive도 유실 없이 다시 선점됩니다.
+ * 적중하지 않은 이벤트만 선점 파이프라인을 거치며, false positive 확률과 건수는 메트릭으로 노출합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class IdempotencyService {
-    
+
     private static final String PROCESSED_EVENT_PREFIX = "processed_event:";
-    private static final Duration PROCESSED_EVENT_TTL = Duration.ofDays(7);
-    
+    private static final String PROCESSING_VALUE = "processing";
+    private static final String PROCESSED_VALUE = "processed";
+    private static final long EVENTS_PER_MILLION = 1_000_000L;
+
+    private static final String METRIC_DUPLICATES = "kafka.idempotency.duplicates";
+    private static final String METRIC_CLAIMS = "kafka.idempotency.claims";
+    private static final String METRIC_BLOOM_MEMORY = "kafka.idempotency.bloom.memory";
+    private static final String METRIC_BLOOM_MEMORY_PER_MILLION = "kafka.idempotency.bloom.memory-per-million-events";
+    private static final String METRIC_BLOOM_FPR = "kafka.idempotency.bloom.false-positive-rate";
+    private static final String METRIC_BLOOM_FALSE_POSITIVES = "kafka.idempotency.bloom.false-positives";
+
     private final RedisTemplate<String, String> redisTemplate;
-    
-    public boolean isEventProcessed(String eventId) {
-        String key = PROCESSED_EVENT_PREFIX + eventId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.idempotency.claim-lease-seconds:60}")
+    private long claimLeaseSeconds;
+
+    @Value("${kafka.idempotency.processed-ttl-days:7}")
+    private long processedTtlDays;
+
+    @Value("${kafka.idempotency.bloom.enabled:true}")
+    private boolean bloomEnabled;
+
+    @Value("${kafka.idempotency.bloom.false-positive-rate:0.000001}")
+    private double bloomFalsePositiveRate;
+
+    @Value("${kafka.idempotency.bloom.memory-per-million-events-kb:0}")
+    private long bloomMemoryPerMillionKb;
+
+    @Value("${kafka.idempotency.bloom.expected-events-per-slice:1000000}")
+    private long bloomExpectedEventsPerSlice;
+
+    @Value("${kafka.idempotency.bloom.slices:6}")
+    private int bloomSlices;
+
+    @Value("${kafka.idempotency.bloom.slice-minutes:60}")
+    private long bloomSliceMinutes;
+
+    private TimePartitionedBloomFilter bloomFilter;
+    private Counter bloomDuplicateCounter;
+    private Counter bloomFalsePositiveCounter;
+    private Counter redisDuplicateCounter;
+    private Counter claimCounter;
+
+    @PostConstruct
+    public void init() {
+        this.bloomDuplicateCounter = Counter.builder(METRIC_DUPLICATES)
+            .description("중복으로 판정되어 건너뛴 이벤트 수")
+            .tag("source", "bloom")
+            .register(meterRegistry);
+        this.redisDuplicateCounter = Counter.builder(METRIC_DUPLICATES)
+            .description("중복으로 판정되어 건너뛴 이벤트 수")
+            .tag("source", "redis")
+            .register(meterRegistry);
+        this.bloomFalsePositiveCounter = Counter.builder(METRIC_BLOOM_FALSE_POSITIVES)
+            .description("Bloom Filter 적중이었으나 Redis에 처리 완료 기록이 없어 다시 선점한 이벤트 수")
+            .register(meterRegistry);
+        this.claimCounter = Counter.builder(METRIC_CLAIMS)
+            .description("선점에 성공한 이벤트 수")
+            .register(meterRegistry);
+
+        if (!bloomEnabled) {
+            log.info("Idempotency Bloom filter disabled");
+            return;
+        }
+
+        // 메모리 설정이 있으면 메모리 기준, 없으면 목표 false positive 확률 기준으로 크기 결정
+        double bitsPerEvent = bloomMemoryPerMillionKb > 0
+            ? bloomMemoryPerMillionKb * 1024.0 * Byte.SIZE / EVENTS_PER_MILLION
+            : TimePartitionedBloomFilter.bitsPerInsertion(bloomFalsePositiveRate);
+        double configuredFalsePositiveRate = TimePartitionedBloomFilter.falsePositiveRate(bitsPerEvent);
+        long bytesPerMillion = (long) Math.ceil(bitsPerEvent * EVENTS_PER_MILLION / Byte.SIZE);
+
+        this.bloomFilter = new TimePartitionedBloomFilter(
+            bloomExpectedEventsPerSlice, bitsPerEvent, bloomSlices, Duration.ofMinutes(bloomSliceMinutes).toMillis());
+
+        Gauge.builder(METRIC_BLOOM_MEMORY, bloomFilter, TimePartitionedBloomFilter::memoryBytes)
+            .description("Bloom Filter 전체 슬라이스 메모리")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_BLOOM_MEMORY_PER_MILLION, () -> bytesPerMillion)
+            .description("이벤트 100만 건당 Bloom Filter 메모리")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_BLOOM_FPR, () -> configuredFalsePositiveRate)
+            .description("설정 기준 false positive 확률")
+            .tag("type", "configured")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_BLOOM_FPR, bloomFilter, TimePartitionedBloomFilter::estimatedFalsePositiveRate)
+            .description("현재 슬라이스 채움 비율 기준 false positive 확률")
+            .tag("type", "estimated")
+            .register(meterRegistry);
+
+        log.info("Idempotency Bloom filter initialized: falsePositiveRate={}, bytesPerMillionEvents={}, hashCount={}, "
+                + "slices={}x{}min, expectedEventsPerSlice={}, totalBytes={}",
+            configuredFalsePositiveRate, bytesPerMillion, bloomFilter.hashCount(),
+            bloomSlices, bloomSliceMinutes, bloomExpectedEventsPerSlice, bloomFilter.memoryBytes());
+    }
+
+    /**
+     * 이벤트 선점 (Bloom Filter 적중은 MGET 1회로 확인, 나머지는 SET NX EX 파이프라인 1회)
+     *
+     * @return 선점에 성공한 이벤트 ID (이 호출자만 처리해야 함)
+     * @throws IllegalStateException 다른 consumer가 처리 중인 이벤트가 있는 경우 (lease 만료 후 재시도)
+     */
+    public Set<String> claimEvents(List<String> eventIds) {
+        List<String> candidates = new ArrayList<>(eventIds.size());
+        List<String> bloomHits = new ArrayList<>();
+        for (String eventId : eventIds) {
+            if (bloomFilter != null && bloomFilter.mightContain(eventId)) {
+                bloomHits.add(eventId);
+            } else {
+                candidates.add(eventId);
+            }
+        }
+        if (!bloomHits.isEmpty()) {
+            candidates.addAll(confirmBloomHits(bloomHits));
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        byte[] value = PROCESSING_VALUE.getBytes(StandardCharsets.UTF_8);
+        Expiration lease = Expiration.from(Duration.ofSeconds(claimLeaseSeconds));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : candidates) {
+                connection.stringCommands().set(key(eventId), value, lease, SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        Set<String> claimed = new HashSet<>();
+        List<String> rejected = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                claimed.add(candidates.get(i));
+            } else {
+                rejected.add(candidates.get(i));
+            }
+        }
+        claimCounter.increment(claimed.size());
+
+        if (!rejected.isEmpty()) {
+            checkRejectedClaims(rejected, claimed);
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리 완료 확정 (선점 값을 processed로 교체하고 보존 TTL 적용, 파이프라인 1회)
+     */
+    public void completeEvents(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        byte[] value = PROCESSED_VALUE.getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.from(Duration.ofDays(processedTtlDays));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : eventIds) {
+                connection.stringCommands().set(key(eventId), value, expiration, SetOption.upsert());
+            }
+            return null;
+        });
+
+        if (bloomFilter != null) {
+            eventIds.forEach(bloomFilter::put);
+        }
     }
-    
-    public void markEventAsProcessed(String eventId) {
-        String key = PROCESSED_EVENT_PREFIX + eventId;
-        redisTemplate.opsForValue().set(key, "processed", PROCESSED_EVENT_TTL);
+
+    /**
+     * 선점 해제 (처리 실패 시 재전달된 이벤트를 다시 선점할 수 있도록 삭제)
+     */
+    public void releaseEvents(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.delete(eventIds.stream()
+            .map(eventId -> PROCESSED_EVENT_PREFIX + eventId)
+            .toList());
+    }
+
+    /**
+     * Bloom Filter 적중 이벤트의 처리 완료 여부 확인 (MGET 1회)
+     *
+     * @return 처리 완료 기록이 없어 선점을 시도해야 하는 이벤트 (false positive 또는 처리 중)
+     */
+    private List<String> confirmBloomHits(List<String> bloomHits) {
+        List<String> values = redisTemplate.opsForValue().multiGet(bloomHits.stream()
+            .map(eventId -> PROCESSED_EVENT_PREFIX + eventId)
+            .toList());
+
+        List<String> unconfirmed = new ArrayList<>();
+        for (int i = 0; i < bloomHits.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (!PROCESSED_VALUE.equals(value)) {
+                unconfirmed.add(bloomHits.get(i));
+            }
+        }
+        bloomDuplicateCounter.increment(bloomHits.size() - unconfirmed.size());
+        if (!unconfirmed.isEmpty()) {
+            bloomFalsePositiveCounter.increment(unconfirmed.size());
+            log.debug("Bloom filter hits without processed record, claiming: eventIds={}", unconfirmed);
+        }
+        return unconfirmed;
+    }
+
+    /**
+     * 선점 실패 이벤트의 상태 확인 (MGET 1회)
+     * 처리 완료된 이벤트는 중복으로 건너뛰고, 처리 중인 이벤트가 있으면 이번 배치의 선점을 해제하고 재시도시킴
+     * (처리 중이던 consumer가 비정상 종료된 경우 lease 만료 후 선점 가능)
+     */
+    private void checkRejectedClaims(List<String> rejected, Set<String> claimed) {
+        List<String> values = redisTemplate.opsForValue().multiGet(rejected.stream()
+            .map(eventId -> PROCESSED_EVENT_PREFIX + eventId)
+            .toList());
+
+        List<String> inFlight = new ArrayList<>();
+        for (int i = 0; i < rejected.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            // 확인 사이 lease가 만료된 경우(null)도 처리 완료가 아니므로 재시도 대상
+            if (!PROCESSED_VALUE.equals(value)) {
+                inFlight.add(rejected.get(i));
+            }
+        }
+        redisDuplicateCounter.increment(rejected.size() - inFlight.size());
+
+        if (!inFlight.isEmpty()) {
+            releaseEvents(new ArrayList<>(claimed));
+            throw new IllegalStateException("Events are being processed by another consumer: eventIds=" + inFlight);
+        }
+    }
+
+    private byte[] key(String eventId) {
+        return (PROCESSED_EVENT_PREFIX + eventId).getBytes(StandardCharsets.UTF_8);
     }
 }
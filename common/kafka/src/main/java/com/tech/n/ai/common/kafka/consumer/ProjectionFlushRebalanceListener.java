@@ -0,0 +1,39 @@
+package com.tech.n.ai.common.kafka.consumer;
+
+import com.tech.n.ai.common.kafka.sync.ConversationProjectionWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 파티션 회수 시 Projection 버퍼 flush
+ *
+ * 파티션이 다른 consumer로 넘어가기 전(offset 커밋 전)에 현재 스레드의 버퍼를 반영하여,
+ * 새 소유자가 처리한 이후 작업을 이전 소유자의 늦은 쓰기가 덮어쓰지 않도록 합니다.
+ * flush에 실패하면 버퍼를 폐기합니다 (해당 레코드는 acknowledge되지 않았으므로 새 소유자에게 재전달됨).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectionFlushRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final ObjectProvider<ConversationProjectionWriter> projectionWriter;
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        projectionWriter.ifAvailable(writer -> {
+            try {
+                writer.flush();
+            } catch (Exception e) {
+                log.warn("Failed to flush projection buffer on rebalance, discarding: partitions={}", partitions, e);
+                writer.discard();
+            }
+        });
+    }
+}
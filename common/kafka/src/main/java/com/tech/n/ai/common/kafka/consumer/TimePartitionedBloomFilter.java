@@ -0,0 +1,184 @@
+package com.tech.n.ai.common.kafka.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 분할 Bloom Filter
+ *
+ * 전체 보존 구간을 sliceCount개의 시간 슬라이스로 나누어, 삽입은 현재 슬라이스에만 하고
+ * 조회는 모든 슬라이스를 확인합니다. 슬라이스가 재사용될 때 비워지므로 메모리는 고정되고
+ * 오래된 이벤트는 자연스럽게 만료됩니다.
+ *
+ * - 보존 구간 내 삽입된 값은 포함으로 판정 (false negative 없음)
+ * - false positive 확률은 슬라이스당 예상 삽입 수 이하일 때 설정값 이하로 유지
+ * - 스레드 안전 (비트 연산은 AtomicLongArray CAS, 슬라이스 교체와 겹친 삽입은 유실될 수 있으며 Redis 조회로 보완)
+ */
+class TimePartitionedBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final int sliceCount;
+    private final long sliceMillis;
+    private final long bitsPerSlice;
+    private final int hashCount;
+    private final AtomicLongArray[] slices;
+    private final AtomicLongArray sliceEpochs;
+
+    /**
+     * @param expectedInsertionsPerSlice 슬라이스당 예상 삽입 수
+     * @param bitsPerInsertion 삽입 1건당 비트 수 (false positive 확률 결정)
+     * @param sliceCount 슬라이스 수
+     * @param sliceMillis 슬라이스 1개가 담당하는 시간 (ms)
+     */
+    TimePartitionedBloomFilter(long expectedInsertionsPerSlice, double bitsPerInsertion, int sliceCount, long sliceMillis) {
+        long words = Math.max(1, (long) Math.ceil(expectedInsertionsPerSlice * bitsPerInsertion / Long.SIZE));
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter slice too large: words=" + words);
+        }
+
+        this.sliceCount = sliceCount;
+        this.sliceMillis = sliceMillis;
+        this.bitsPerSlice = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round(bitsPerInsertion * LN2));
+        this.slices = new AtomicLongArray[sliceCount];
+        this.sliceEpochs = new AtomicLongArray(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = new AtomicLongArray((int) words);
+            sliceEpochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * 목표 false positive 확률에 필요한 삽입 1건당 비트 수 (m/n = -ln(p) / ln(2)^2)
+     */
+    static double bitsPerInsertion(double falsePositiveRate) {
+        return -Math.log(falsePositiveRate) / (LN2 * LN2);
+    }
+
+    /**
+     * 삽입 1건당 비트 수로 달성되는 false positive 확률 (최적 해시 수 기준)
+     */
+    static double falsePositiveRate(double bitsPerInsertion) {
+        return Math.exp(-bitsPerInsertion * LN2 * LN2);
+    }
+
+    boolean mightContain(String value) {
+        long now = System.currentTimeMillis();
+        long currentEpoch = now / sliceMillis;
+        long h1 = hash(value);
+        long h2 = mix(h1);
+
+        for (int i = 0; i < sliceCount; i++) {
+            long epoch = sliceEpochs.get(i);
+            // 보존 구간을 벗어난 슬라이스는 재사용 전이라도 조회 대상에서 제외
+            if (epoch == Long.MIN_VALUE || currentEpoch - epoch >= sliceCount) {
+                continue;
+            }
+            if (containsIn(slices[i], h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(String value) {
+        AtomicLongArray slice = currentSlice(System.currentTimeMillis() / sliceMillis);
+        long h1 = hash(value);
+        long h2 = mix(h1);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerSlice);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = slice.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!slice.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 전체 슬라이스 메모리 (bytes)
+     */
+    long memoryBytes() {
+        return bitsPerSlice / Byte.SIZE * sliceCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 현재 슬라이스의 채움 비율로 추정한 false positive 확률
+     * 메트릭 조회가 슬라이스를 교체(비움)하지 않도록 현재 위치의 슬라이스를 읽기만 합니다.
+     */
+    double estimatedFalsePositiveRate() {
+        long epoch = System.currentTimeMillis() / sliceMillis;
+        int index = (int) Math.floorMod(epoch, (long) sliceCount);
+        if (sliceEpochs.get(index) != epoch) {
+            // 아직 이번 시간 구간에 삽입이 없음 (이전 구간의 비트는 재사용 시 비워짐)
+            return 0.0;
+        }
+        AtomicLongArray slice = slices[index];
+        long setBits = 0;
+        for (int i = 0; i < slice.length(); i++) {
+            setBits += Long.bitCount(slice.get(i));
+        }
+        return Math.pow((double) setBits / bitsPerSlice, hashCount);
+    }
+
+    private boolean containsIn(AtomicLongArray slice, long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerSlice);
+            if ((slice.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 시간의 슬라이스 반환 (새 시간 구간에 진입하면 재사용할 슬라이스를 비움)
+     */
+    private AtomicLongArray currentSlice(long epoch) {
+        int index = (int) Math.floorMod(epoch, (long) sliceCount);
+        if (sliceEpochs.get(index) != epoch) {
+            synchronized (this) {
+                if (sliceEpochs.get(index) != epoch) {
+                    AtomicLongArray slice = slices[index];
+                    for (int i = 0; i < slice.length(); i++) {
+                        slice.set(i, 0L);
+                    }
+                    sliceEpochs.set(index, epoch);
+                }
+            }
+        }
+        return slices[index];
+    }
+
+    /**
+     * FNV-1a 64bit
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer (두 번째 해시 및 비트 분산)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1L;
+    }
+}
@@ -0,0 +1,45 @@
+package com.tech.n.ai.common.kafka.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대화 세션 일괄 만료 이벤트 (세션 생명주기 배치의 chunk 단위)
+ */
+public record ConversationSessionsExpiredEvent(
+    @JsonProperty("eventId") String eventId,
+    @JsonProperty("eventType") String eventType,
+    @JsonProperty("timestamp") Instant timestamp,
+    @JsonProperty("payload") ConversationSessionsExpiredPayload payload
+) implements BaseEvent {
+    
+    public ConversationSessionsExpiredEvent(ConversationSessionsExpiredPayload payload) {
+        this(
+            UUID.randomUUID().toString(),
+            "CONVERSATION_SESSIONS_EXPIRED",
+            Instant.now(),
+            payload
+        );
+    }
+    
+    /**
+     * ConversationSessionsExpiredEvent 페이로드
+     */
+    public record ConversationSessionsExpiredPayload(
+        @JsonProperty("sessions") List<ExpiredSession> sessions,
+        @JsonProperty("expiredAt") Instant expiredAt
+    ) {
+    }
+    
+    /**
+     * 만료된 세션
+     */
+    public record ExpiredSession(
+        @JsonProperty("sessionId") String sessionId,
+        @JsonProperty("userId") String userId
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.tech.n.ai.common.kafka.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 테이블 레코드
+ *
+ * @param outboxId 발행 순서 (AUTO_INCREMENT)
+ * @param topic Kafka 토픽
+ * @param partitionKey Partition Key
+ * @param eventId 이벤트 ID
+ * @param payloadType 이벤트 클래스명 (역직렬화 및 Kafka 타입 헤더용)
+ * @param payload 이벤트 JSON
+ * @param createdAt 적재 시각
+ */
+public record OutboxEvent(
+    long outboxId,
+    String topic,
+    String partitionKey,
+    String eventId,
+    String payloadType,
+    String payload,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,140 @@
+package com.tech.n.ai.common.kafka.outbox;
+
+import com.tech.n.ai.common.kafka.event.BaseEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox 테이블 (event_outbox) Repository
+ *
+ * 업무 트랜잭션과 같은 Writer DataSource를 사용하므로, 진행 중인 JPA 트랜잭션 안에서 호출하면
+ * 이벤트 적재가 업무 데이터와 함께 커밋/롤백됩니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "kafka.outbox.enabled", havingValue = "true")
+public class OutboxEventRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO event_outbox (topic, partition_key, event_id, payload_type, payload)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private static final String LOCK_UNPUBLISHED_SQL = """
+        SELECT outbox_id, topic, partition_key, event_id, payload_type, payload, created_at
+        FROM event_outbox
+        WHERE published_at IS NULL
+        ORDER BY outbox_id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String OLDEST_UNPUBLISHED_SQL = """
+        SELECT created_at
+        FROM event_outbox
+        WHERE published_at IS NULL
+        ORDER BY outbox_id
+        LIMIT 1
+        """;
+
+    private static final String PURGE_SQL = """
+        DELETE FROM event_outbox
+        WHERE published_at IS NOT NULL AND published_at < ?
+        LIMIT ?
+        """;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+        rs.getLong("outbox_id"),
+        rs.getString("topic"),
+        rs.getString("partition_key"),
+        rs.getString("event_id"),
+        rs.getString("payload_type"),
+        rs.getString("payload"),
+        rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper = JsonMapper.builder()
+        .disable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    /**
+     * @param dataSource Primary(Writer) DataSource
+     */
+    public OutboxEventRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 이벤트 적재 (호출자의 트랜잭션에 참여)
+     */
+    public void append(String topic, BaseEvent event, String partitionKey) {
+        jdbcTemplate.update(INSERT_SQL,
+            topic,
+            partitionKey,
+            event.eventId(),
+            event.getClass().getName(),
+            jsonMapper.writeValueAsString(event));
+    }
+
+    /**
+     * 미발행 이벤트를 발행 순서대로 잠금 조회 (다른 relay가 잠근 행은 건너뜀, 트랜잭션 안에서 호출)
+     */
+    public List<OutboxEvent> lockUnpublished(int limit) {
+        return jdbcTemplate.query(LOCK_UNPUBLISHED_SQL, ROW_MAPPER, limit);
+    }
+
+    /**
+     * 발행 완료 기록
+     */
+    public void markPublished(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(outboxIds.size(), "?"));
+        Object[] args = new Object[outboxIds.size() + 1];
+        args[0] = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < outboxIds.size(); i++) {
+            args[i + 1] = outboxIds.get(i);
+        }
+        jdbcTemplate.update(
+            "UPDATE event_outbox SET published_at = ? WHERE outbox_id IN (" + placeholders + ")", args);
+    }
+
+    /**
+     * 가장 오래된 미발행 이벤트의 적재 시각 (relay 지연 측정용)
+     */
+    public Optional<LocalDateTime> findOldestUnpublishedCreatedAt() {
+        return jdbcTemplate.query(OLDEST_UNPUBLISHED_SQL,
+                (rs, rowNum) -> rs.getTimestamp("created_at").toLocalDateTime())
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * 보존 기간이 지난 발행 완료 이벤트 삭제 (1회 최대 limit건)
+     *
+     * @return 삭제 건수
+     */
+    public int purgePublishedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(threshold), limit);
+    }
+
+    /**
+     * 저장된 JSON을 원래 이벤트 타입으로 복원
+     */
+    public Object deserialize(OutboxEvent outboxEvent) throws ClassNotFoundException {
+        return jsonMapper.readValue(outboxEvent.payload(), Class.forName(outboxEvent.payloadType()));
+    }
+}
@@ -0,0 +1,168 @@
+package com.tech.n.ai.common.kafka.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox Relay
+ *
+ * 미발행 이벤트를 FOR UPDATE SKIP LOCKED로 잠금 조회하여 KafkaTemplate으로 일괄 전송하고,
+ * 모든 전송이 브로커에 확인된 뒤 같은 트랜잭션에서 발행 완료로 기록합니다.
+ *
+ * - 여러 인스턴스의 relay가 동시에 실행되어도 서로 다른 행을 처리 (잠긴 행은 건너뜀)
+ * - 전송 실패 시 트랜잭션 롤백 → 다음 주기에 재전송 (이미 전송된 이벤트는 consumer 멱등성 처리로 중복 제거)
+ * - 여러 relay가 백로그를 나눠 처리하는 동안에는 같은 partition key의 이벤트 순서가 배치 경계에서 바뀔 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final String METRIC_LAG = "kafka.outbox.relay.lag";
+    private static final String METRIC_PUBLISHED = "kafka.outbox.relay.published";
+    private static final String METRIC_FAILURES = "kafka.outbox.relay.failures";
+    private static final String METRIC_PURGED = "kafka.outbox.purged";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${kafka.outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${kafka.outbox.relay.send-timeout-seconds:30}")
+    private long sendTimeoutSeconds;
+
+    @Value("${kafka.outbox.retention-days:3}")
+    private long retentionDays;
+
+    @Value("${kafka.outbox.purge.batch-size:5000}")
+    private int purgeBatchSize;
+
+    private TransactionTemplate transactionTemplate;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private Counter publishedCounter;
+    private Counter failureCounter;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder(METRIC_PUBLISHED)
+            .description("Outbox에서 발행 완료된 이벤트 수")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_FAILURES)
+            .description("Outbox 배치 발행 실패 횟수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_LAG, lagMillis, AtomicLong::get)
+            .description("가장 오래된 미발행 이벤트의 대기 시간")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 미발행 이벤트 발행 (배치가 가득 찬 동안 최대 max-batches-per-run회 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${kafka.outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer published = transactionTemplate.execute(status -> relayBatch());
+                if (published == null || published < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("Failed to relay outbox events", e);
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Scheduled(cron = "${kafka.outbox.purge.cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = outboxEventRepository.purgePublishedBefore(threshold, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+
+            meterRegistry.counter(METRIC_PURGED).increment(total);
+            log.info("Outbox purged: deleted={}, threshold={}", total, threshold);
+        } catch (Exception e) {
+            log.error("Failed to purge outbox: deletedSoFar={}, threshold={}", total, threshold, e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 전체를 먼저 전송하여 producer가 linger/batch-size 단위로 묶어 보내도록 한 뒤 일괄 확인
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(kafkaTemplate.send(event.topic(), event.partitionKey(), deserialize(event)));
+        }
+        kafkaTemplate.flush();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .orTimeout(sendTimeoutSeconds, TimeUnit.SECONDS)
+            .join();
+
+        outboxEventRepository.markPublished(events.stream().map(OutboxEvent::outboxId).toList());
+        publishedCounter.increment(events.size());
+        log.debug("Outbox batch published: count={}, lastOutboxId={}", events.size(), events.getLast().outboxId());
+        return events.size();
+    }
+
+    private Object deserialize(OutboxEvent event) {
+        try {
+            return outboxEventRepository.deserialize(event);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize outbox event: outboxId=" + event.outboxId()
+                + ", payloadType=" + event.payloadType(), e);
+        }
+    }
+
+    private void updateLag() {
+        try {
+            lagMillis.set(outboxEventRepository.findOldestUnpublishedCreatedAt()
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis()))
+                .orElse(0L));
+        } catch (Exception e) {
+            log.debug("Failed to measure outbox relay lag", e);
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package com.tech.n.ai.common.kafka.publisher;
 
 import com.tech.n.ai.common.kafka.event.BaseEvent;
+import com.tech.n.ai.common.kafka.outbox.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.concurrent.CompletableFuture;
 
 /**
  * 이벤트 발행 서비스
  * 
+ * Outbox가 활성화된 경우(kafka.outbox.enabled=true) 트랜잭션 안에서의 발행은 Outbox 테이블에 적재되어
+ * 업무 데이터와 함께 커밋되고, OutboxRelay가 커밋된 이벤트만 Kafka로 전송합니다.
+ * 트랜잭션 밖의 발행은 기존과 같이 즉시 전송합니다.
+ * 
  * 참고:
  * - Spring Kafka 공식 문서: https://docs.spring.io/spring-kafka/reference/html/
  * - Apache Kafka Producer API 공식 문서: https://kafka.apache.org/documentation/#producerapi
@@ -22,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class EventPublisher {
     
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectProvider<OutboxEventRepository> outboxEventRepository;
     
     /**
      * 이벤트 발행
@@ -31,6 +39,16 @@ public class EventPublisher {
      * @param partitionKey Partition Key (이벤트 순서 보장용, userId, bookmarkId 등)
      */
     public void publish(String topic, BaseEvent event, String partitionKey) {
+        OutboxEventRepository outbox = outboxEventRepository.getIfAvailable();
+        if (outbox != null && TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 롤백 시 함께 취소되고, 커밋 후 relay가 전송 (요청 경로에서 Kafka 지연 제거)
+            outbox.append(topic, event, partitionKey);
+            log.debug("Event appended to outbox: topic={}, eventId={}, eventType={}",
+                topic, event.eventId(), event.eventType());
+            return;
+        }
+
         try {
             CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
                 topic,
@@ -0,0 +1,54 @@
+package com.tech.n.ai.common.kafka.sync;
+
+import java.util.Map;
+
+/**
+ * 대화 세션/메시지 Projection 쓰기 버퍼 인터페이스
+ *
+ * 동기화 작업을 consumer 스레드별 버퍼에 모아 동일 session_id / message_id 작업을 하나로 합친 뒤,
+ * flush 시 컬렉션별 unordered bulkWrite 1회로 반영합니다.
+ * 호출자는 flush 성공 후에만 offset을 커밋해야 합니다.
+ */
+public interface ConversationProjectionWriter {
+
+    /**
+     * 세션 생성 (upsert, created_at은 최초 생성 시에만 설정)
+     *
+     * @param sessionId 세션 ID
+     * @param fields 설정할 필드 (MongoDB 필드명 기준)
+     */
+    void upsertSession(String sessionId, Map<String, Object> fields);
+
+    /**
+     * 세션 수정 (대상 문서가 없으면 무시)
+     *
+     * @param sessionId 세션 ID
+     * @param fields 변경할 필드 (MongoDB 필드명 기준, 이전 버퍼 작업에 병합)
+     */
+    void updateSession(String sessionId, Map<String, Object> fields);
+
+    /**
+     * 세션 삭제 (이전 버퍼 작업 폐기)
+     *
+     * @param sessionId 세션 ID
+     */
+    void deleteSession(String sessionId);
+
+    /**
+     * 메시지 생성 (upsert)
+     *
+     * @param messageId 메시지 ID
+     * @param fields 설정할 필드 (MongoDB 필드명 기준)
+     */
+    void upsertMessage(String messageId, Map<String, Object> fields);
+
+    /**
+     * 현재 스레드의 버퍼를 MongoDB에 반영 (실패 시 버퍼를 비우고 예외 전파)
+     */
+    void flush();
+
+    /**
+     * 현재 스레드의 버퍼 폐기
+     */
+    void discard();
+}
@@ -0,0 +1,214 @@
+package com.tech.n.ai.common.kafka.sync;
+
+import com.tech.n.ai.domain.mongodb.document.ConversationMessageDocument;
+import com.tech.n.ai.domain.mongodb.document.ConversationSessionDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대화 세션/메시지 Projection 쓰기 버퍼 구현 클래스
+ *
+ * 버퍼는 consumer 스레드별로 유지되며 (동일 session_id는 partition key로 같은 스레드에 할당),
+ * 세션 작업은 다음 규칙으로 합쳐집니다.
+ * - 생성/수정: 필드 병합 (예: 연속된 lastMessageAt 갱신은 마지막 값 1건)
+ * - 삭제: 이전 작업을 폐기하고 삭제 1건
+ * - 삭제 후 생성: created_at을 포함한 전체 필드 upsert 1건
+ * 합쳐진 결과는 문서당 작업 1건이므로 unordered bulkWrite로 병렬 적용해도 순서가 보장됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnBean(MongoTemplate.class)
+public class ConversationProjectionWriterImpl implements ConversationProjectionWriter {
+
+    private static final String METRIC_FLUSH = "kafka.projection.flush";
+    private static final String METRIC_COALESCED = "kafka.projection.coalesced";
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.projection.max-buffered-ops:1000}")
+    private int maxBufferedOps;
+
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    @Override
+    public void upsertSession(String sessionId, Map<String, Object> fields) {
+        Buffer buffer = buffers.get();
+        SessionOp op = buffer.session(sessionId);
+        op.created = true;
+        op.fields.putAll(fields);
+        flushIfFull(buffer);
+    }
+
+    @Override
+    public void updateSession(String sessionId, Map<String, Object> fields) {
+        Buffer buffer = buffers.get();
+        SessionOp op = buffer.session(sessionId);
+        // 삭제 후 생성 없이 들어온 수정은 대상 문서가 없으므로 무시
+        if (!op.deleted || op.created) {
+            op.fields.putAll(fields);
+        }
+        flushIfFull(buffer);
+    }
+
+    @Override
+    public void deleteSession(String sessionId) {
+        Buffer buffer = buffers.get();
+        SessionOp op = buffer.session(sessionId);
+        op.deleted = true;
+        op.created = false;
+        op.fields.clear();
+        flushIfFull(buffer);
+    }
+
+    @Override
+    public void upsertMessage(String messageId, Map<String, Object> fields) {
+        Buffer buffer = buffers.get();
+        buffer.received++;
+        buffer.messages.computeIfAbsent(messageId, id -> new LinkedHashMap<>()).putAll(fields);
+        flushIfFull(buffer);
+    }
+
+    @Override
+    public void flush() {
+        Buffer buffer = buffers.get();
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int sessionOps = buffer.sessions.size();
+        int messageOps = buffer.messages.size();
+        int received = buffer.received;
+        try {
+            writeSessions(buffer.sessions);
+            writeMessages(buffer.messages);
+
+            meterRegistry.counter(METRIC_COALESCED).increment(received - sessionOps - messageOps);
+            log.debug("Projection buffer flushed: received={}, sessionOps={}, messageOps={}",
+                received, sessionOps, messageOps);
+        } catch (Exception e) {
+            log.error("Failed to flush projection buffer: received={}, sessionOps={}, messageOps={}",
+                received, sessionOps, messageOps, e);
+            throw new RuntimeException("Failed to flush conversation projection", e);
+        } finally {
+            buffers.remove();
+            sample.stop(Timer.builder(METRIC_FLUSH)
+                .description("Projection 버퍼 bulkWrite 시간")
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void discard() {
+        Buffer buffer = buffers.get();
+        if (!buffer.isEmpty()) {
+            log.warn("Discarding projection buffer: sessionOps={}, messageOps={}",
+                buffer.sessions.size(), buffer.messages.size());
+        }
+        buffers.remove();
+    }
+
+    private void flushIfFull(Buffer buffer) {
+        if (buffer.sessions.size() + buffer.messages.size() >= maxBufferedOps) {
+            flush();
+        }
+    }
+
+    private void writeSessions(Map<String, SessionOp> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkMode.UNORDERED, ConversationSessionDocument.class);
+        LocalDateTime now = LocalDateTime.now();
+        int queued = 0;
+        for (Map.Entry<String, SessionOp> entry : sessions.entrySet()) {
+            Query query = new Query(Criteria.where("session_id").is(entry.getKey()));
+            SessionOp op = entry.getValue();
+
+            if (op.created) {
+                Update update = toUpdate(op.fields).set("session_id", entry.getKey()).set("updated_at", now);
+                if (op.deleted) {
+                    // 삭제 후 재생성: 이전 문서의 생성 시각을 덮어씀
+                    update.set("created_at", now);
+                } else {
+                    update.setOnInsert("created_at", now);
+                }
+                bulkOps.upsert(query, update);
+            } else if (op.deleted) {
+                bulkOps.remove(query);
+            } else if (!op.fields.isEmpty()) {
+                bulkOps.updateOne(query, toUpdate(op.fields).set("updated_at", now));
+            } else {
+                continue;
+            }
+            queued++;
+        }
+
+        if (queued > 0) {
+            bulkOps.execute();
+        }
+    }
+
+    private void writeMessages(Map<String, Map<String, Object>> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkMode.UNORDERED, ConversationMessageDocument.class);
+        messages.forEach((messageId, fields) -> bulkOps.upsert(
+            new Query(Criteria.where("message_id").is(messageId)),
+            toUpdate(fields).set("message_id", messageId)));
+        bulkOps.execute();
+    }
+
+    private Update toUpdate(Map<String, Object> fields) {
+        Update update = new Update();
+        fields.forEach(update::set);
+        return update;
+    }
+
+    /**
+     * 스레드별 버퍼 (수신 순서 유지)
+     */
+    private static final class Buffer {
+        private final Map<String, SessionOp> sessions = new LinkedHashMap<>();
+        private final Map<String, Map<String, Object>> messages = new LinkedHashMap<>();
+        private int received;
+
+        private SessionOp session(String sessionId) {
+            received++;
+            return sessions.computeIfAbsent(sessionId, id -> new SessionOp());
+        }
+
+        private boolean isEmpty() {
+            return sessions.isEmpty() && messages.isEmpty();
+        }
+    }
+
+    /**
+     * 세션별로 합쳐진 작업
+     */
+    private static final class SessionOp {
+        private boolean created;
+        private boolean deleted;
+        private final Map<String, Object> fields = new LinkedHashMap<>();
+    }
+}
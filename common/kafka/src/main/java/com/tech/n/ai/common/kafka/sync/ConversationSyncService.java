@@ -4,6 +4,9 @@ import com.tech.n.ai.common.kafka.event.ConversationMessageCreatedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionCreatedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionDeletedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionUpdatedEvent;
+import com.tech.n.ai.common.kafka.event.ConversationSessionsExpiredEvent;
+
+import java.util.List;
 
 /**
  * 대화 세션 및 메시지 동기화 서비스 인터페이스
@@ -40,4 +43,46 @@ public interface ConversationSyncService {
      * @param event ConversationMessageCreatedEvent
      */
     void syncMessageCreated(ConversationMessageCreatedEvent event);
+    
+    /**
+     * 세션 일괄 만료 이벤트 동기화 (물리적 삭제, deleteMany 1회)
+     * 
+     * @param event ConversationSessionsExpiredEvent
+     */
+    void syncSessionsExpired(ConversationSessionsExpiredEvent event);
+    
+    /**
+     * 세션 생성 이벤트 일괄 동기화 (ConversationProjectionWriter 버퍼에 적재, flush 시 반영)
+     * 
+     * @param events ConversationSessionCreatedEvent 목록 (수신 순서)
+     */
+    void syncSessionsCreated(List<ConversationSessionCreatedEvent> events);
+    
+    /**
+     * 세션 수정 이벤트 일괄 동기화 (ConversationProjectionWriter 버퍼에 적재, flush 시 반영)
+     * 
+     * @param events ConversationSessionUpdatedEvent 목록 (수신 순서)
+     */
+    void syncSessionsUpdated(List<ConversationSessionUpdatedEvent> events);
+    
+    /**
+     * 세션 삭제 이벤트 일괄 동기화 (ConversationProjectionWriter 버퍼에 적재, flush 시 반영)
+     * 
+     * @param events ConversationSessionDeletedEvent 목록 (수신 순서)
+     */
+    void syncSessionsDeleted(List<ConversationSessionDeletedEvent> events);
+    
+    /**
+     * 메시지 생성 이벤트 일괄 동기화 (ConversationProjectionWriter 버퍼에 적재, flush 시 반영)
+     * 
+     * @param events ConversationMessageCreatedEvent 목록 (수신 순서)
+     */
+    void syncMessagesCreated(List<ConversationMessageCreatedEvent> events);
+    
+    /**
+     * 세션 일괄 만료 이벤트 일괄 동기화 (ConversationProjectionWriter 버퍼에 적재, flush 시 반영)
+     * 
+     * @param events ConversationSessionsExpiredEvent 목록 (수신 순서)
+     */
+    void syncSessionsExpired(List<ConversationSessionsExpiredEvent> events);
 }
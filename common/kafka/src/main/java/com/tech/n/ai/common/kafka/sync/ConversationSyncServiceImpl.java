@@ -4,6 +4,7 @@ import com.tech.n.ai.common.kafka.event.ConversationMessageCreatedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionCreatedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionDeletedEvent;
 import com.tech.n.ai.common.kafka.event.ConversationSessionUpdatedEvent;
+import com.tech.n.ai.common.kafka.event.ConversationSessionsExpiredEvent;
 import com.tech.n.ai.domain.mongodb.document.ConversationMessageDocument;
 import com.tech.n.ai.domain.mongodb.document.ConversationSessionDocument;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,8 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,6 +34,7 @@ import java.util.Map;
 public class ConversationSyncServiceImpl implements ConversationSyncService {
     
     private final MongoTemplate mongoTemplate;
+    private final ConversationProjectionWriter projectionWriter;
     
     @Override
     public void syncSessionCreated(ConversationSessionCreatedEvent event) {
@@ -38,17 +42,8 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
             var payload = event.payload();
 
             // MongoDB atomic upsert: 동일 sessionId에 대해 여러 consumer group이 동시 처리해도 중복 생성 방지
-            Query query = new Query(Criteria.where("session_id").is(payload.sessionId()));
-            Update update = new Update()
-                .set("session_id", payload.sessionId())
-                .set("user_id", payload.userId())
-                .set("title", payload.title())
-                .set("last_message_at", convertToLocalDateTime(payload.lastMessageAt()))
-                .set("is_active", payload.isActive())
-                .set("updated_at", LocalDateTime.now())
-                .setOnInsert("created_at", LocalDateTime.now());
-
-            mongoTemplate.upsert(query, update, ConversationSessionDocument.class);
+            mongoTemplate.upsert(sessionQuery(payload.sessionId()), buildSessionCreatedUpdate(event),
+                ConversationSessionDocument.class);
 
             log.debug("Successfully synced ConversationSessionCreatedEvent: sessionId={}, userId={}",
                 payload.sessionId(), payload.userId());
@@ -66,11 +61,8 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
             var updatedFields = payload.updatedFields();
 
             // MongoDB atomic update: sessionId로 직접 업데이트 (중복 문서 문제 회피)
-            Query query = new Query(Criteria.where("session_id").is(payload.sessionId()));
-            Update update = buildSessionUpdate(updatedFields);
-            update.set("updated_at", LocalDateTime.now());
-
-            var result = mongoTemplate.updateFirst(query, update, ConversationSessionDocument.class);
+            var result = mongoTemplate.updateFirst(sessionQuery(payload.sessionId()), buildSessionUpdatedUpdate(event),
+                ConversationSessionDocument.class);
 
             if (result.getMatchedCount() == 0) {
                 log.warn("ConversationSessionDocument not found for update: sessionId={}, skipping",
@@ -93,8 +85,7 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
             var payload = event.payload();
 
             // MongoDB는 Soft Delete를 지원하지 않으므로 물리적 삭제 (중복 문서도 모두 제거)
-            Query query = new Query(Criteria.where("session_id").is(payload.sessionId()));
-            mongoTemplate.remove(query, ConversationSessionDocument.class);
+            mongoTemplate.remove(sessionQuery(payload.sessionId()), ConversationSessionDocument.class);
 
             log.debug("Successfully synced ConversationSessionDeletedEvent: sessionId={}, userId={}",
                 payload.sessionId(), payload.userId());
@@ -105,23 +96,30 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
         }
     }
     
+    @Override
+    public void syncSessionsExpired(ConversationSessionsExpiredEvent event) {
+        try {
+            List<String> sessionIds = event.payload().sessions().stream()
+                .map(ConversationSessionsExpiredEvent.ExpiredSession::sessionId)
+                .toList();
+
+            mongoTemplate.remove(new Query(Criteria.where("session_id").in(sessionIds)), ConversationSessionDocument.class);
+
+            log.debug("Successfully synced ConversationSessionsExpiredEvent: sessions={}", sessionIds.size());
+        } catch (Exception e) {
+            log.error("Failed to sync ConversationSessionsExpiredEvent: eventId={}", event.eventId(), e);
+            throw new RuntimeException("Failed to sync ConversationSessionsExpiredEvent", e);
+        }
+    }
+    
     @Override
     public void syncMessageCreated(ConversationMessageCreatedEvent event) {
         try {
             var payload = event.payload();
 
             // MongoDB atomic upsert: 동일 messageId에 대해 여러 consumer group이 동시 처리해도 중복 생성 방지
-            Query query = new Query(Criteria.where("message_id").is(payload.messageId()));
-            Update update = new Update()
-                .set("message_id", payload.messageId())
-                .set("session_id", payload.sessionId())
-                .set("role", payload.role())
-                .set("content", payload.content())
-                .set("token_count", payload.tokenCount())
-                .set("sequence_number", payload.sequenceNumber())
-                .set("created_at", convertToLocalDateTime(payload.createdAt()));
-
-            mongoTemplate.upsert(query, update, ConversationMessageDocument.class);
+            mongoTemplate.upsert(messageQuery(payload.messageId()), buildMessageCreatedUpdate(event),
+                ConversationMessageDocument.class);
 
             log.debug("Successfully synced ConversationMessageCreatedEvent: messageId={}, sessionId={}",
                 payload.messageId(), payload.sessionId());
@@ -132,11 +130,96 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
         }
     }
     
+    @Override
+    public void syncSessionsCreated(List<ConversationSessionCreatedEvent> events) {
+        events.forEach(event ->
+            projectionWriter.upsertSession(event.payload().sessionId(), sessionCreatedFields(event)));
+    }
+    
+    @Override
+    public void syncSessionsUpdated(List<ConversationSessionUpdatedEvent> events) {
+        events.forEach(event -> projectionWriter.updateSession(
+            event.payload().sessionId(), toSessionFields(event.payload().updatedFields())));
+    }
+    
+    @Override
+    public void syncSessionsDeleted(List<ConversationSessionDeletedEvent> events) {
+        events.forEach(event -> projectionWriter.deleteSession(event.payload().sessionId()));
+    }
+    
+    @Override
+    public void syncSessionsExpired(List<ConversationSessionsExpiredEvent> events) {
+        events.forEach(event -> event.payload().sessions()
+            .forEach(session -> projectionWriter.deleteSession(session.sessionId())));
+    }
+    
+    @Override
+    public void syncMessagesCreated(List<ConversationMessageCreatedEvent> events) {
+        events.forEach(event ->
+            projectionWriter.upsertMessage(event.payload().messageId(), messageCreatedFields(event)));
+    }
+    
+    private Query sessionQuery(String sessionId) {
+        return new Query(Criteria.where("session_id").is(sessionId));
+    }
+    
+    private Query messageQuery(String messageId) {
+        return new Query(Criteria.where("message_id").is(messageId));
+    }
+    
+    private Update buildSessionCreatedUpdate(ConversationSessionCreatedEvent event) {
+        Update update = toUpdate(sessionCreatedFields(event));
+        update.set("session_id", event.payload().sessionId())
+            .set("updated_at", LocalDateTime.now())
+            .setOnInsert("created_at", LocalDateTime.now());
+        return update;
+    }
+    
+    private Update buildSessionUpdatedUpdate(ConversationSessionUpdatedEvent event) {
+        Update update = toUpdate(toSessionFields(event.payload().updatedFields()));
+        update.set("updated_at", LocalDateTime.now());
+        return update;
+    }
+    
+    private Update buildMessageCreatedUpdate(ConversationMessageCreatedEvent event) {
+        Update update = toUpdate(messageCreatedFields(event));
+        update.set("message_id", event.payload().messageId());
+        return update;
+    }
+    
+    private Map<String, Object> sessionCreatedFields(ConversationSessionCreatedEvent event) {
+        var payload = event.payload();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("user_id", payload.userId());
+        fields.put("title", payload.title());
+        fields.put("last_message_at", convertToLocalDateTime(payload.lastMessageAt()));
+        fields.put("is_active", payload.isActive());
+        return fields;
+    }
+    
+    private Map<String, Object> messageCreatedFields(ConversationMessageCreatedEvent event) {
+        var payload = event.payload();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("session_id", payload.sessionId());
+        fields.put("role", payload.role());
+        fields.put("content", payload.content());
+        fields.put("token_count", payload.tokenCount());
+        fields.put("sequence_number", payload.sequenceNumber());
+        fields.put("created_at", convertToLocalDateTime(payload.createdAt()));
+        return fields;
+    }
+    
+    private Update toUpdate(Map<String, Object> fields) {
+        Update update = new Update();
+        fields.forEach(update::set);
+        return update;
+    }
+    
     /**
-     * updatedFields를 MongoDB Update 객체로 변환
+     * updatedFields를 MongoDB 필드 맵으로 변환
      */
-    private Update buildSessionUpdate(Map<String, Object> updatedFields) {
-        Update update = new Update();
+    private Map<String, Object> toSessionFields(Map<String, Object> updatedFields) {
+        Map<String, Object> fields = new LinkedHashMap<>();
         for (Map.Entry<String, Object> entry : updatedFields.entrySet()) {
             String fieldName = entry.getKey();
             Object value = entry.getValue();
@@ -144,15 +227,15 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
             try {
                 switch (fieldName) {
                     case "title":
-                        update.set("title", (String) value);
+                        fields.put("title", (String) value);
                         break;
                     case "lastMessageAt":
                         if (value instanceof Instant instant) {
-                            update.set("last_message_at", convertToLocalDateTime(instant));
+                            fields.put("last_message_at", convertToLocalDateTime(instant));
                         }
                         break;
                     case "isActive":
-                        update.set("is_active", (Boolean) value);
+                        fields.put("is_active", (Boolean) value);
                         break;
                     default:
                         log.warn("Unknown field in updatedFields: {}", fieldName);
@@ -161,7 +244,7 @@ public class ConversationSyncServiceImpl implements ConversationSyncService {
                 log.warn("Type mismatch for field {}: {}", fieldName, value.getClass().getName());
             }
         }
-        return update;
+        return fields;
     }
     
     /**
@@ -3,6 +3,7 @@ package com.tech.n.ai.common.security.config;
 import com.tech.n.ai.common.security.filter.JwtAuthenticationFilter;
 import com.tech.n.ai.common.security.handler.SecurityAccessDeniedHandler;
 import com.tech.n.ai.common.security.handler.SecurityAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +34,8 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(SSE 등) 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/v1/auth/me").authenticated()
                 .requestMatchers("/api/v1/auth/admin/login").permitAll()
                 .requestMatchers("/api/v1/auth/admin/refresh").permitAll()
@@ -1,6 +1,7 @@
 package com.tech.n.ai.common.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +13,14 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final Duration accessTokenValidity;
     private final Duration refreshTokenValidity;
     private final Duration adminAccessTokenValidity;
@@ -31,6 +34,9 @@ public class JwtTokenProvider {
         @Value("${jwt.admin.refresh-token-validity-days:1}") long adminRefreshTokenValidityInDays
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+            .verifyWith(this.secretKey)
+            .build();
         this.accessTokenValidity = Duration.ofMinutes(accessTokenValidityInMinutes);
         this.refreshTokenValidity = Duration.ofDays(refreshTokenValidityInDays);
         this.adminAccessTokenValidity = Duration.ofMinutes(adminAccessTokenValidityInMinutes);
@@ -54,12 +60,26 @@ public class JwtTokenProvider {
     }
 
     public JwtTokenPayload getPayloadFromToken(String token) {
-        Claims claims = parseToken(token);
-        return new JwtTokenPayload(
-            claims.getSubject(),
-            claims.get("email", String.class),
-            claims.get("role", String.class)
-        );
+        return toPayload(parseToken(token));
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료 검증과 페이로드 추출을 함께 수행
+     *
+     * @return 검증된 토큰 정보 (유효하지 않으면 empty)
+     */
+    public Optional<VerifiedJwtToken> verifyToken(String token) {
+        try {
+            Claims claims = parseToken(token);
+            Date expiration = claims.getExpiration();
+            return Optional.of(new VerifiedJwtToken(
+                toPayload(claims),
+                expiration != null ? expiration.toInstant() : null
+            ));
+        } catch (Exception e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     public boolean validateToken(String token) {
@@ -94,11 +114,15 @@ public class JwtTokenProvider {
             .compact();
     }
 
+    private JwtTokenPayload toPayload(Claims claims) {
+        return new JwtTokenPayload(
+            claims.getSubject(),
+            claims.get("email", String.class),
+            claims.get("role", String.class)
+        );
+    }
+
     private Claims parseToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
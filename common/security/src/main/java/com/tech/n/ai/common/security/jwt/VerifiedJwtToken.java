@@ -0,0 +1,15 @@
+package com.tech.n.ai.common.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 통과한 JWT 토큰 정보
+ *
+ * @param payload 토큰 페이로드
+ * @param expiresAt 만료 시각 (exp 클레임, 없으면 null)
+ */
+public record VerifiedJwtToken(
+    JwtTokenPayload payload,
+    Instant expiresAt
+) {
+}
@@ -29,5 +29,10 @@ public class ConversationSessionEntity extends BaseEntity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;  // 활성 세션 여부
 
+    // 마지막으로 할당된 메시지 sequence_number (ConversationSessionWriterRepository.allocateMessageSequence로만 증가)
+    // 엔티티 저장 시 덮어쓰지 않도록 insert/update 대상에서 제외
+    @Column(name = "message_seq", nullable = false, insertable = false, updatable = false)
+    private Integer messageSeq;
+
     // BaseEntity에서 상속: id (TSID), isDeleted, deletedAt, deletedBy, createdAt, createdBy, updatedAt, updatedBy
 }
@@ -35,37 +35,29 @@ public abstract class BaseWriterRepository<E extends BaseEntity> {
      */
     public E save(E entity) {
         boolean isNew = entity.getId() == null;
-        Map<String, Object> beforeSnapshot = isNew ? null : getBeforeDataSnapshot(entity.getId());
+        Map<String, Object> fallbackSnapshot = isNew ? null : fallbackBeforeSnapshot(entity);
 
         E saved = getJpaRepository().save(entity);
 
-        if (isNew) {
-            getHistoryService().saveHistory(saved, OperationType.INSERT, null, saved);
-        } else {
-            getHistoryService().saveHistory(saved, OperationType.UPDATE, beforeSnapshot, saved);
-        }
-
+        recordHistory(saved, isNew ? OperationType.INSERT : OperationType.UPDATE, fallbackSnapshot);
         return saved;
     }
 
     /**
      * 엔티티를 저장하고 즉시 flush하며 History를 기록합니다.
+     * 변경 전 데이터는 flush로 로드 시점 상태가 갱신되기 전에 계산합니다.
      *
      * @param entity 저장할 엔티티
      * @return 저장된 엔티티
      */
     public E saveAndFlush(E entity) {
         boolean isNew = entity.getId() == null;
-        Map<String, Object> beforeSnapshot = isNew ? null : getBeforeDataSnapshot(entity.getId());
-
-        E saved = getJpaRepository().saveAndFlush(entity);
+        Map<String, Object> fallbackSnapshot = isNew ? null : fallbackBeforeSnapshot(entity);
 
-        if (isNew) {
-            getHistoryService().saveHistory(saved, OperationType.INSERT, null, saved);
-        } else {
-            getHistoryService().saveHistory(saved, OperationType.UPDATE, beforeSnapshot, saved);
-        }
+        E saved = getJpaRepository().save(entity);
+        recordHistory(saved, isNew ? OperationType.INSERT : OperationType.UPDATE, fallbackSnapshot);
 
+        getJpaRepository().flush();
         return saved;
     }
 
@@ -76,9 +68,7 @@ public abstract class BaseWriterRepository<E extends BaseEntity> {
      */
     public void delete(E entity) {
         boolean wasDeleted = Boolean.TRUE.equals(entity.getIsDeleted());
-
-        // 변경 전 데이터를 DB에서 직접 조회 (1차 캐시 우회)
-        Map<String, Object> beforeSnapshot = wasDeleted ? null : getBeforeDataSnapshot(entity.getId());
+        Map<String, Object> fallbackSnapshot = wasDeleted ? null : fallbackBeforeSnapshot(entity);
 
         entity.setIsDeleted(true);
         entity.setDeletedAt(LocalDateTime.now());
@@ -86,7 +76,7 @@ public abstract class BaseWriterRepository<E extends BaseEntity> {
         E saved = getJpaRepository().save(entity);
 
         if (!wasDeleted) {
-            getHistoryService().saveHistory(saved, OperationType.DELETE, beforeSnapshot, saved);
+            recordHistory(saved, OperationType.DELETE, fallbackSnapshot);
         }
     }
 
@@ -100,19 +90,30 @@ public abstract class BaseWriterRepository<E extends BaseEntity> {
                 .orElseThrow(() -> new IllegalArgumentException(
                         getEntityName() + " with id " + id + " does not exist"));
 
-        boolean wasDeleted = Boolean.TRUE.equals(entity.getIsDeleted());
-
-        // 변경 전 데이터를 DB에서 직접 조회 (1차 캐시 우회)
-        Map<String, Object> beforeSnapshot = wasDeleted ? null : getBeforeDataSnapshot(id);
-
-        entity.setIsDeleted(true);
-        entity.setDeletedAt(LocalDateTime.now());
+        delete(entity);
+    }
 
-        E saved = getJpaRepository().save(entity);
+    /**
+     * 로드 시점 상태로 History를 기록합니다 (INSERT는 변경 전 데이터 없음).
+     * 로드 시점 상태가 없으면 저장 전에 조회한 DB 스냅샷을 변경 전 데이터로 사용합니다.
+     */
+    private void recordHistory(E saved, OperationType operationType, Map<String, Object> fallbackSnapshot) {
+        EntityChangeSet changeSet = EntityChangeSet.capture(getEntityManager(), getEntityClass(), saved);
+        Object beforeData = null;
+        if (operationType != OperationType.INSERT) {
+            beforeData = changeSet.before() != null ? changeSet.before() : fallbackSnapshot;
+        }
+        getHistoryService().saveHistory(saved, operationType, beforeData, changeSet.after());
+    }
 
-        if (!wasDeleted) {
-            getHistoryService().saveHistory(saved, OperationType.DELETE, beforeSnapshot, saved);
+    /**
+     * 로드 시점 상태를 쓸 수 없는 경우(트랜잭션 밖, 준영속 엔티티)에만 DB에서 변경 전 데이터를 조회합니다.
+     */
+    private Map<String, Object> fallbackBeforeSnapshot(E entity) {
+        if (EntityChangeSet.hasLoadedState(getEntityManager(), entity)) {
+            return null;
         }
+        return getBeforeDataSnapshot(entity.getId());
     }
 
     /**
@@ -139,7 +140,6 @@ public abstract class BaseWriterRepository<E extends BaseEntity> {
             // Auto-flush 방지: 쿼리 실행 전에 dirty 엔티티가 DB에 반영되지 않도록 함
             query.setFlushMode(FlushModeType.COMMIT);
 
-            @SuppressWarnings("unchecked")
             Tuple result = (Tuple) query.getSingleResult();
 
             return tupleToMap(result);
@@ -0,0 +1,97 @@
+package com.tech.n.ai.domain.aurora.repository.writer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 영속성 컨텍스트가 보유한 엔티티 상태로 계산한 변경 전/후 데이터
+ *
+ * Hibernate가 dirty checking을 위해 보관하는 로드 시점 상태(loaded state)로 변경 전 데이터를 만들므로
+ * 엔티티가 관리 상태이면 변경 전 데이터를 얻기 위해 DB를 다시 조회하지 않습니다.
+ * 변경 전 데이터는 기존 History 형식(SELECT * 결과와 같은 컬럼명 키의 전체 행)을 유지하고,
+ * 변경 후 데이터는 엔티티 프로퍼티명 키로 기록합니다. 연관 엔티티는 ID로, 컬렉션은 제외합니다.
+ *
+ * @param before 변경 전 전체 행 (컬럼명 -> 값, 로드 시점 상태가 없으면 null)
+ * @param after 현재 전체 상태 (프로퍼티명 -> 값, id 포함)
+ */
+record EntityChangeSet(Map<String, Object> before, Map<String, Object> after) {
+
+    private static final String ID_PROPERTY = "id";
+
+    /**
+     * 엔티티 변경 전/후 데이터 계산
+     *
+     * 트랜잭션 밖에서 호출되었거나 엔티티가 관리 상태가 아니면 변경 전 데이터는 null이며,
+     * 호출자가 {@link #hasLoadedState(EntityManager, Object)}로 미리 확인하여 DB 스냅샷으로 대체합니다.
+     * flush 이후에는 로드 시점 상태가 flush된 값으로 갱신되므로 flush 전에 호출해야 합니다.
+     *
+     * @param entityManager 엔티티를 관리하는 EntityManager
+     * @param entityClass 엔티티 클래스
+     * @param entity save/merge가 반환한 엔티티
+     */
+    static EntityChangeSet capture(EntityManager entityManager, Class<?> entityClass, Object entity) {
+        SessionFactoryImplementor sessionFactory =
+            entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        PersistenceUnitUtil unitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        AbstractEntityPersister persister = (AbstractEntityPersister)
+            sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Object[] current = persister.getValues(entity);
+        Object[] loaded = loadedState(entityManager, entity);
+        Object id = unitUtil.getIdentifier(entity);
+
+        Map<String, Object> before = null;
+        if (loaded != null) {
+            before = new LinkedHashMap<>();
+            before.put(persister.getIdentifierColumnNames()[0], id);
+        }
+        Map<String, Object> after = new LinkedHashMap<>();
+        after.put(ID_PROPERTY, id);
+        for (int i = 0; i < names.length; i++) {
+            if (types[i].isCollectionType()) {
+                continue;
+            }
+            after.put(names[i], normalize(types[i], current[i], unitUtil));
+            if (loaded != null) {
+                String[] columns = persister.getPropertyColumnNames(i);
+                before.put(columns.length == 1 ? columns[0] : names[i], normalize(types[i], loaded[i], unitUtil));
+            }
+        }
+        return new EntityChangeSet(before, after);
+    }
+
+    /**
+     * 엔티티의 로드 시점 상태를 사용할 수 있는지 (트랜잭션 안에서 관리 중인 엔티티)
+     */
+    static boolean hasLoadedState(EntityManager entityManager, Object entity) {
+        return loadedState(entityManager, entity) != null;
+    }
+
+    private static Object[] loadedState(EntityManager entityManager, Object entity) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        EntityEntry entry = entityManager.unwrap(SessionImplementor.class)
+            .getPersistenceContextInternal()
+            .getEntry(entity);
+        return entry != null ? entry.getLoadedState() : null;
+    }
+
+    private static Object normalize(Type type, Object value, PersistenceUnitUtil unitUtil) {
+        if (value != null && type.isEntityType()) {
+            return unitUtil.getIdentifier(value);
+        }
+        return value;
+    }
+}
@@ -4,6 +4,8 @@ import com.tech.n.ai.domain.aurora.entity.conversation.ConversationMessageEntity
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * ConversationMessageWriterRepository
  */
@@ -17,6 +19,10 @@ public class ConversationMessageWriterRepository {
         return conversationMessageWriterJpaRepository.save(entity);
     }
 
+    public List<ConversationMessageEntity> saveAll(List<ConversationMessageEntity> entities) {
+        return conversationMessageWriterJpaRepository.saveAll(entities);
+    }
+
     public ConversationMessageEntity saveAndFlush(ConversationMessageEntity entity) {
         return conversationMessageWriterJpaRepository.saveAndFlush(entity);
     }
@@ -0,0 +1,12 @@
+package com.tech.n.ai.domain.aurora.repository.writer.conversation;
+
+/**
+ * 세션 일괄 처리용 키 조회 결과 (엔티티 전체를 로딩하지 않음)
+ *
+ * @param sessionId 세션 ID
+ * @param userId 세션 소유자 ID
+ */
+public record ConversationSessionOwner(
+    Long sessionId,
+    String userId
+) {}
@@ -1,7 +1,11 @@
 package com.tech.n.ai.domain.aurora.repository.writer.conversation;
 
 import com.tech.n.ai.domain.aurora.entity.conversation.ConversationSessionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -19,14 +23,64 @@ public interface ConversationSessionWriterJpaRepository extends JpaRepository<Co
     Optional<ConversationSessionEntity> findByUserIdAndIsActiveTrueAndIsDeletedFalse(String userId);
 
     /**
-     * 비활성화 대상 세션 조회 (배치 작업용)
-     * 활성 상태이지만 마지막 메시지 시간이 임계값 이전인 세션
+     * 메시지 sequence 범위 예약 (원자적 증가)
+     * 증가된 마지막 값을 LAST_INSERT_ID에 저장하여 같은 커넥션에서 별도 잠금 없이 조회
+     *
+     * @return 갱신된 행 수 (0이면 세션 없음)
      */
-    List<ConversationSessionEntity> findByIsActiveTrueAndIsDeletedFalseAndLastMessageAtBefore(LocalDateTime thresholdTime);
+    @Modifying
+    @Query(value = "UPDATE chatbot.conversation_sessions "
+        + "SET message_seq = LAST_INSERT_ID(message_seq + :count) "
+        + "WHERE session_id = :sessionId", nativeQuery = true)
+    int incrementMessageSeq(@Param("sessionId") Long sessionId, @Param("count") int count);
 
     /**
-     * 만료 대상 세션 조회 (배치 작업용)
-     * 비활성 상태이고 마지막 메시지 시간이 만료 기간 이전인 세션
+     * 현재 커넥션에서 마지막으로 LAST_INSERT_ID(expr)에 저장된 값
      */
-    List<ConversationSessionEntity> findByIsActiveFalseAndIsDeletedFalseAndLastMessageAtBefore(LocalDateTime expirationTime);
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    long lastInsertId();
+
+    /**
+     * 비활성화 대상 세션 키셋 조회 (session_id 오름차순, afterId 이후)
+     */
+    @Query("SELECT new com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionOwner(s.id, s.userId) "
+        + "FROM ConversationSessionEntity s "
+        + "WHERE s.isActive = true AND s.isDeleted = false AND s.lastMessageAt < :threshold AND s.id > :afterId "
+        + "ORDER BY s.id")
+    List<ConversationSessionOwner> findInactiveSessionChunk(@Param("threshold") LocalDateTime threshold,
+                                                            @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 만료 대상 세션 키셋 조회 (session_id 오름차순, afterId 이후)
+     */
+    @Query("SELECT new com.tech.n.ai.domain.aurora.repository.writer.conversation.ConversationSessionOwner(s.id, s.userId) "
+        + "FROM ConversationSessionEntity s "
+        + "WHERE s.isActive = false AND s.isDeleted = false AND s.lastMessageAt < :expirationTime AND s.id > :afterId "
+        + "ORDER BY s.id")
+    List<ConversationSessionOwner> findExpiredSessionChunk(@Param("expirationTime") LocalDateTime expirationTime,
+                                                           @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 세션 일괄 비활성화 (조회 이후 메시지가 교환된 세션은 조건에서 제외)
+     */
+    @Modifying
+    @Query("UPDATE ConversationSessionEntity s SET s.isActive = false, s.updatedAt = :now "
+        + "WHERE s.id IN :ids AND s.isActive = true AND s.isDeleted = false AND s.lastMessageAt < :threshold")
+    int deactivateAll(@Param("ids") List<Long> ids, @Param("threshold") LocalDateTime threshold,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 일괄 만료 (Soft Delete, 조회 이후 재활성화된 세션은 조건에서 제외)
+     */
+    @Modifying
+    @Query("UPDATE ConversationSessionEntity s SET s.isDeleted = true, s.deletedAt = :now, s.updatedAt = :now "
+        + "WHERE s.id IN :ids AND s.isActive = false AND s.isDeleted = false AND s.lastMessageAt < :expirationTime")
+    int expireAll(@Param("ids") List<Long> ids, @Param("expirationTime") LocalDateTime expirationTime,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 지정 시각에 삭제 처리된 세션 ID 조회 (일괄 만료 결과 확인용)
+     */
+    @Query("SELECT s.id FROM ConversationSessionEntity s WHERE s.id IN :ids AND s.isDeleted = true AND s.deletedAt = :deletedAt")
+    List<Long> findIdsDeletedAt(@Param("ids") List<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -1,10 +1,16 @@
 package com.tech.n.ai.domain.aurora.repository.writer.conversation;
 
 import com.tech.n.ai.domain.aurora.entity.conversation.ConversationSessionEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
 
 /**
  * ConversationSessionWriterRepository
@@ -14,6 +20,7 @@ import java.time.LocalDateTime;
 public class ConversationSessionWriterRepository {
 
     private final ConversationSessionWriterJpaRepository conversationSessionWriterJpaRepository;
+    private final EntityManager entityManager;
 
     public ConversationSessionEntity save(ConversationSessionEntity entity) {
         return conversationSessionWriterJpaRepository.save(entity);
@@ -28,4 +35,77 @@ public class ConversationSessionWriterRepository {
         entity.setDeletedAt(LocalDateTime.now());
         conversationSessionWriterJpaRepository.save(entity);
     }
+
+    /**
+     * 메시지 sequence_number 범위 예약
+     * 세션 행의 message_seq를 UPDATE 1회로 count만큼 증가시키므로, 동시에 저장되는 메시지도 서로 다른 번호를 받음
+     * (호출자의 트랜잭션 안에서 호출해야 함)
+     *
+     * @param sessionId 세션 ID
+     * @param count 예약할 개수
+     * @return 예약된 범위의 첫 번호 (세션이 없으면 empty)
+     */
+    public OptionalInt allocateMessageSequence(Long sessionId, int count) {
+        if (conversationSessionWriterJpaRepository.incrementMessageSeq(sessionId, count) == 0) {
+            return OptionalInt.empty();
+        }
+        long last = conversationSessionWriterJpaRepository.lastInsertId();
+        return OptionalInt.of((int) (last - count + 1));
+    }
+
+    /**
+     * 세션 활동 시각 일괄 반영 (UPDATE 1회)
+     * 세션별 last_message_at을 CASE로 지정하고, 이미 더 최근 값이 있으면 유지 (여러 인스턴스의 flush 순서 무관)
+     * 메시지 교환이 있었던 세션이므로 is_active도 함께 TRUE로 설정
+     *
+     * @param lastMessageAts 세션 ID -> 마지막 메시지 시각
+     * @return 갱신된 행 수
+     */
+    public int touchSessions(Map<Long, LocalDateTime> lastMessageAts) {
+        if (lastMessageAts.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder caseSql = new StringBuilder("CASE session_id");
+        StringBuilder inSql = new StringBuilder();
+        for (int i = 0; i < lastMessageAts.size(); i++) {
+            caseSql.append(" WHEN ?").append(2 * i + 1).append(" THEN ?").append(2 * i + 2);
+            inSql.append(i == 0 ? "" : ", ").append('?').append(2 * i + 1);
+        }
+        caseSql.append(" END");
+
+        String sql = "UPDATE chatbot.conversation_sessions "
+            + "SET last_message_at = GREATEST(last_message_at, " + caseSql + "), "
+            + "updated_at = GREATEST(COALESCE(updated_at, last_message_at), " + caseSql + "), "
+            + "is_active = TRUE "
+            + "WHERE session_id IN (" + inSql + ") AND is_deleted = FALSE";
+
+        Query query = entityManager.createNativeQuery(sql);
+        int position = 1;
+        for (Map.Entry<Long, LocalDateTime> entry : lastMessageAts.entrySet()) {
+            query.setParameter(position++, entry.getKey());
+            query.setParameter(position++, entry.getValue());
+        }
+        return query.executeUpdate();
+    }
+
+    public List<ConversationSessionOwner> findInactiveSessionChunk(LocalDateTime threshold, Long afterId, int limit) {
+        return conversationSessionWriterJpaRepository.findInactiveSessionChunk(threshold, afterId, Limit.of(limit));
+    }
+
+    public List<ConversationSessionOwner> findExpiredSessionChunk(LocalDateTime expirationTime, Long afterId, int limit) {
+        return conversationSessionWriterJpaRepository.findExpiredSessionChunk(expirationTime, afterId, Limit.of(limit));
+    }
+
+    public int deactivateAll(List<Long> sessionIds, LocalDateTime threshold, LocalDateTime now) {
+        return conversationSessionWriterJpaRepository.deactivateAll(sessionIds, threshold, now);
+    }
+
+    public int expireAll(List<Long> sessionIds, LocalDateTime expirationTime, LocalDateTime now) {
+        return conversationSessionWriterJpaRepository.expireAll(sessionIds, expirationTime, now);
+    }
+
+    public List<Long> findIdsDeletedAt(List<Long> sessionIds, LocalDateTime deletedAt) {
+        return conversationSessionWriterJpaRepository.findIdsDeletedAt(sessionIds, deletedAt);
+    }
 }
@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AdminHistoryEntityFactory implements HistoryEntityFactory {
 
+    private static final HistoryTable HISTORY_TABLE = new HistoryTable("admin_history", "admin_id");
+
     private final AdminHistoryWriterRepository adminHistoryWriterRepository;
 
     @Override
@@ -34,6 +36,11 @@ public class AdminHistoryEntityFactory implements HistoryEntityFactory {
         adminHistoryWriterRepository.save(history);
     }
 
+    @Override
+    public HistoryTable historyTable() {
+        return HISTORY_TABLE;
+    }
+
     @Override
     public boolean supports(BaseEntity entity) {
         return entity instanceof AdminEntity;
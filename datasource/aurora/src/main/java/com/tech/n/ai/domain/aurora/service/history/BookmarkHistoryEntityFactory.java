@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class BookmarkHistoryEntityFactory implements HistoryEntityFactory {
 
+    private static final HistoryTable HISTORY_TABLE = new HistoryTable("bookmark_history", "bookmark_id");
+
     private final BookmarkHistoryWriterRepository bookmarkHistoryWriterRepository;
 
     @Override
@@ -34,6 +36,11 @@ public class BookmarkHistoryEntityFactory implements HistoryEntityFactory {
         bookmarkHistoryWriterRepository.save(history);
     }
 
+    @Override
+    public HistoryTable historyTable() {
+        return HISTORY_TABLE;
+    }
+
     @Override
     public boolean supports(BaseEntity entity) {
         return entity instanceof BookmarkEntity;
@@ -0,0 +1,164 @@
+package com.tech.n.ai.domain.aurora.service.history;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * History 비동기 배치 저장 (history.recording.durability=async)
+ *
+ * 호출 트랜잭션이 커밋된 뒤 History 행을 제한된 크기의 인메모리 버퍼에 적재하고,
+ * 별도 스레드가 flush-interval-ms 주기 또는 batch-size 도달 시 테이블별 JDBC 배치 INSERT로 저장합니다.
+ * 롤백된 트랜잭션의 History는 적재되지 않습니다.
+ *
+ * <p>내구성: 적재 후 저장 전에 프로세스가 종료되거나 배치 INSERT가 실패하면 해당 History는 유실됩니다
+ * (실패 건수는 에러 로그로 남김). 정상 종료 시에는 남은 버퍼를 모두 저장합니다.
+ * 버퍼가 가득 차면 유실 대신 호출 스레드에서 직접 저장합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "history.recording.durability", havingValue = "async")
+public class HistoryBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<HistoryRecord> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+
+    public HistoryBatchWriter(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${history.recording.buffer-capacity:10000}") int bufferCapacity,
+                              @Value("${history.recording.batch-size:200}") int batchSize,
+                              @Value("${history.recording.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    void start() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "history-batch-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("History batch writer started: bufferCapacity={}, batchSize={}, flushIntervalMs={}",
+            buffer.remainingCapacity(), batchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+
+    /**
+     * History 행 적재 (트랜잭션 중이면 커밋 후 적재)
+     */
+    public void enqueue(HistoryRecord record) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(record);
+                }
+            });
+        } else {
+            offer(record);
+        }
+    }
+
+    private void offer(HistoryRecord record) {
+        if (!buffer.offer(record)) {
+            log.warn("History buffer full, writing on caller thread: table={}", record.table().tableName());
+            insert(List.of(record));
+            return;
+        }
+        if (buffer.size() >= batchSize && !scheduler.isShutdown() && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<HistoryRecord> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                insert(batch);
+                batch.clear();
+            }
+        } catch (Exception e) {
+            log.error("History batch flush failed: error={}", e.getMessage(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 테이블별 JDBC 배치 INSERT (별도 트랜잭션)
+     */
+    private void insert(List<HistoryRecord> records) {
+        Map<HistoryTable, List<HistoryRecord>> byTable = new LinkedHashMap<>();
+        for (HistoryRecord record : records) {
+            byTable.computeIfAbsent(record.table(), table -> new ArrayList<>()).add(record);
+        }
+
+        byTable.forEach((table, rows) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(table.insertSql(), rows, rows.size(), (ps, row) -> {
+                        ps.setLong(1, row.historyId());
+                        ps.setObject(2, row.entityId(), Types.BIGINT);
+                        ps.setString(3, row.operationType().name());
+                        ps.setString(4, row.beforeData());
+                        ps.setString(5, row.afterData());
+                        ps.setObject(6, row.changedBy(), Types.BIGINT);
+                        ps.setObject(7, row.changedAt());
+                    }));
+            } catch (Exception e) {
+                log.error("History batch insert failed, records dropped: table={}, count={}, error={}",
+                    table.tableName(), rows.size(), e.getMessage(), e);
+            }
+        });
+    }
+}
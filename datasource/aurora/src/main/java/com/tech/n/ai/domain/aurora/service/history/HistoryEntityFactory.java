@@ -20,6 +20,13 @@ public interface HistoryEntityFactory {
                       String beforeJson, String afterJson, 
                       Long changedBy, java.time.LocalDateTime changedAt);
     
+    /**
+     * History 테이블 정보를 반환합니다. (비동기 배치 저장 시 사용)
+     *
+     * @return History 테이블 정보
+     */
+    HistoryTable historyTable();
+
     /**
      * 이 Factory가 처리할 수 있는 엔티티 타입인지 확인합니다.
      * 
@@ -0,0 +1,27 @@
+package com.tech.n.ai.domain.aurora.service.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 저장 대기 중인 History 행
+ *
+ * @param table 저장할 History 테이블
+ * @param historyId History ID (TSID)
+ * @param entityId 원본 엔티티 ID
+ * @param operationType 작업 타입
+ * @param beforeData 변경 전 JSON 데이터
+ * @param afterData 변경 후 JSON 데이터
+ * @param changedBy 변경한 사용자 ID
+ * @param changedAt 변경 일시
+ */
+public record HistoryRecord(
+    HistoryTable table,
+    long historyId,
+    Long entityId,
+    OperationType operationType,
+    String beforeData,
+    String afterData,
+    Long changedBy,
+    LocalDateTime changedAt
+) {
+}
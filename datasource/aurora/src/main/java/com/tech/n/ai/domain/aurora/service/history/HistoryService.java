@@ -11,8 +11,8 @@ public interface HistoryService {
      * 
      * @param entity 변경된 엔티티 (BaseEntity를 상속한 엔티티)
      * @param operationType 작업 타입
-     * @param beforeData 변경 전 데이터 (JSON 직렬화 대상)
-     * @param afterData 변경 후 데이터 (JSON 직렬화 대상)
+     * @param beforeData 변경 전 데이터 (JSON 직렬화 대상, 컬럼명 키의 전체 행)
+     * @param afterData 변경 후 데이터 (JSON 직렬화 대상, 전체 필드)
      * @throws IllegalArgumentException entity가 null이거나 지원하지 않는 타입인 경우
      * @throws RuntimeException JSON 직렬화 실패 또는 History 저장 실패 시
      */
@@ -1,12 +1,15 @@
 package com.tech.n.ai.domain.aurora.service.history;
 
+import com.github.f4b6a3.tsid.Tsid;
 import com.tech.n.ai.domain.aurora.entity.BaseEntity;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.annotation.PostConstruct;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.datatype.hibernate7.Hibernate7Module;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,6 +17,12 @@ import java.util.List;
 
 /**
  * HistoryServiceImpl
+ *
+ * history.recording.durability 설정에 따라 저장 방식을 선택합니다.
+ * <ul>
+ *   <li>sync (기본): 호출 트랜잭션 안에서 즉시 저장 (데이터 변경과 원자적)</li>
+ *   <li>async: 커밋 후 {@link HistoryBatchWriter} 버퍼에 적재하여 JDBC 배치로 저장</li>
+ * </ul>
  */
 @Service
 @RequiredArgsConstructor
@@ -22,6 +31,14 @@ public class HistoryServiceImpl implements HistoryService {
     private static final ObjectMapper objectMapper = createObjectMapper();
 
     private final List<HistoryEntityFactory> historyEntityFactories;
+    private final ObjectProvider<HistoryBatchWriter> historyBatchWriterProvider;
+
+    private HistoryBatchWriter historyBatchWriter;
+
+    @PostConstruct
+    void init() {
+        this.historyBatchWriter = historyBatchWriterProvider.getIfAvailable();
+    }
 
     private static ObjectMapper createObjectMapper() {
         // Jackson 3: ObjectMapper is immutable, use JsonMapper.builder()
@@ -45,7 +62,21 @@ public class HistoryServiceImpl implements HistoryService {
         LocalDateTime changedAt = LocalDateTime.now();
 
         HistoryEntityFactory factory = findFactory(entity);
-        factory.createAndSave(entity, operationType, beforeJson, afterJson, changedBy, changedAt);
+        if (historyBatchWriter == null) {
+            factory.createAndSave(entity, operationType, beforeJson, afterJson, changedBy, changedAt);
+            return;
+        }
+
+        historyBatchWriter.enqueue(new HistoryRecord(
+                factory.historyTable(),
+                Tsid.fast().toLong(),
+                entity.getId(),
+                operationType,
+                beforeJson,
+                afterJson,
+                changedBy,
+                changedAt
+        ));
     }
 
     private HistoryEntityFactory findFactory(BaseEntity entity) {
@@ -0,0 +1,19 @@
+package com.tech.n.ai.domain.aurora.service.history;
+
+/**
+ * History 테이블 정보 (JDBC 배치 저장용)
+ *
+ * @param tableName History 테이블명
+ * @param entityIdColumn 원본 엔티티 ID 컬럼명
+ */
+public record HistoryTable(String tableName, String entityIdColumn) {
+
+    /**
+     * INSERT 문 (history_id, 엔티티 ID, operation_type, before_data, after_data, changed_by, changed_at 순)
+     */
+    String insertSql() {
+        return "INSERT INTO " + tableName
+            + " (history_id, " + entityIdColumn + ", operation_type, before_data, after_data, changed_by, changed_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    }
+}
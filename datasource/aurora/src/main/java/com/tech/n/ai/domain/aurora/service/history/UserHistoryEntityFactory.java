@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class UserHistoryEntityFactory implements HistoryEntityFactory {
 
+    private static final HistoryTable HISTORY_TABLE = new HistoryTable("user_history", "user_id");
+
     private final UserHistoryWriterRepository userHistoryWriterRepository;
 
     @Override
@@ -34,6 +36,11 @@ public class UserHistoryEntityFactory implements HistoryEntityFactory {
         userHistoryWriterRepository.save(history);
     }
 
+    @Override
+    public HistoryTable historyTable() {
+        return HISTORY_TABLE;
+    }
+
     @Override
     public boolean supports(BaseEntity entity) {
         return entity instanceof UserEntity;
@@ -4,12 +4,14 @@ import com.tech.n.ai.domain.mongodb.document.ConversationMessageDocument;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ConversationMessageRepository
@@ -27,4 +29,14 @@ public interface ConversationMessageRepository extends MongoRepository<Conversat
 
     @Query(value = "{ 'session_id': ?0 }")
     Page<ConversationMessageDocument> findBySessionId(String sessionId, Pageable pageable);
+
+    /**
+     * ChatMemory 로딩용 최신순 커서 조회
+     * role/content/token_count만 projection하며, 호출자가 토큰 예산에 도달하면 스트림을 닫아 조회를 중단합니다.
+     */
+    @Meta(cursorBatchSize = 20)
+    @Query(value = "{ 'session_id': ?0 }",
+        fields = "{ '_id': 0, 'role': 1, 'content': 1, 'token_count': 1 }",
+        sort = "{ 'sequence_number': -1 }")
+    Stream<ConversationMessageDocument> streamRecentForMemory(String sessionId);
 }
@@ -329,6 +329,56 @@ public final class VectorSearchUtil {
         return pipeline;
     }
 
+    // === 최신 문서 그룹별 조회 메서드 ===
+
+    /**
+     * 그룹별 최신 문서 조회 파이프라인 생성 (단일 round-trip)
+     *
+     * provider × update_type 조합마다 개별 find를 실행하는 대신,
+     * $group + $topN으로 그룹별 최신 K개 문서를 한 번의 aggregation으로 조회합니다.
+     *
+     * 파이프라인 구조:
+     * $match → $unset(embedding_vector) → $group($topN) → $unwind → $replaceRoot
+     *
+     * 사용 연산자:
+     * - $topN (MongoDB 5.2+): https://www.mongodb.com/docs/manual/reference/operator/aggregation/topN/
+     *
+     * @param matchFilter $match 조건 (status, provider, update_type 등)
+     * @param groupFields 그룹 키 필드 목록 (예: ["provider", "update_type"])
+     * @param perGroupLimit 그룹별 최대 문서 수 (K)
+     * @return aggregation pipeline
+     */
+    public static List<Document> createRecentDocumentsPerGroupPipeline(
+            Document matchFilter,
+            List<String> groupFields,
+            int perGroupLimit) {
+
+        List<Document> pipeline = new ArrayList<>();
+
+        // 1. $match stage
+        pipeline.add(new Document("$match", matchFilter));
+
+        // 2. 벡터 필드 제외 ($group 메모리 및 전송량 절감)
+        pipeline.add(new Document("$unset", "embedding_vector"));
+
+        // 3. $group stage (그룹별 published_at DESC 상위 K개)
+        Document groupId = new Document();
+        for (String field : groupFields) {
+            groupId.append(field, "$" + field);
+        }
+        Document topN = new Document("$topN", new Document()
+            .append("n", perGroupLimit)
+            .append("sortBy", new Document("published_at", -1))
+            .append("output", "$$ROOT"));
+        pipeline.add(new Document("$group", new Document("_id", groupId).append("docs", topN)));
+
+        // 4. 그룹 결과를 개별 문서로 펼침
+        pipeline.add(new Document("$unwind", "$docs"));
+        pipeline.add(new Document("$replaceRoot", new Document("newRoot", "$docs")));
+
+        return pipeline;
+    }
+
     /**
      * Bookmark 컬렉션 Vector Search 파이프라인 생성 (userId 필터 포함)
      *
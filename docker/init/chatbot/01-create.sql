@@ -10,6 +10,7 @@ CREATE TABLE conversation_sessions (
     title           VARCHAR(200)        NULL                        COMMENT '세션 제목',
     last_message_at TIMESTAMP(6)        NOT NULL                    COMMENT '마지막 메시지 시간',
     is_active       BOOLEAN             NOT NULL    DEFAULT TRUE    COMMENT '활성 세션 여부',
+    message_seq     INT                 NOT NULL    DEFAULT 0       COMMENT '마지막으로 할당된 메시지 sequence_number',
     is_deleted      BOOLEAN             NOT NULL    DEFAULT FALSE   COMMENT '삭제 여부',
     deleted_at      TIMESTAMP(6)        NULL                        COMMENT '삭제 일시',
     deleted_by      BIGINT UNSIGNED     NULL                        COMMENT '삭제자 ID',
@@ -37,3 +38,19 @@ CREATE TABLE conversation_messages (
   DEFAULT CHARSET=utf8mb4
   COLLATE=utf8mb4_unicode_ci
   COMMENT='대화 메시지 테이블';
+
+-- V202610180001 마이그레이션 반영: Transactional Outbox
+CREATE TABLE event_outbox (
+    outbox_id       BIGINT UNSIGNED     NOT NULL    AUTO_INCREMENT  PRIMARY KEY COMMENT '발행 순서',
+    topic           VARCHAR(200)        NOT NULL                    COMMENT 'Kafka 토픽',
+    partition_key   VARCHAR(200)        NULL                        COMMENT 'Partition Key',
+    event_id        VARCHAR(64)         NOT NULL                    COMMENT '이벤트 ID',
+    payload_type    VARCHAR(255)        NOT NULL                    COMMENT '이벤트 클래스명',
+    payload         MEDIUMTEXT          NOT NULL                    COMMENT '이벤트 JSON',
+    created_at      TIMESTAMP(6)        NOT NULL    DEFAULT CURRENT_TIMESTAMP(6) COMMENT '적재 일시',
+    published_at    TIMESTAMP(6)        NULL                        COMMENT '발행 일시 (NULL: 미발행)',
+    INDEX       idx_outbox_published_id (published_at, outbox_id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='이벤트 Outbox 테이블';
@@ -0,0 +1,21 @@
+-- =============================================================================
+-- Migration: Transactional Outbox 테이블 생성
+-- 목적: 업무 트랜잭션과 같은 커밋으로 이벤트를 적재하고, OutboxRelay가 Kafka로 전송
+-- 날짜: 2026-10-18
+-- =============================================================================
+
+CREATE TABLE chatbot.event_outbox (
+    outbox_id       BIGINT UNSIGNED     NOT NULL    AUTO_INCREMENT  PRIMARY KEY COMMENT '발행 순서',
+    topic           VARCHAR(200)        NOT NULL                    COMMENT 'Kafka 토픽',
+    partition_key   VARCHAR(200)        NULL                        COMMENT 'Partition Key',
+    event_id        VARCHAR(64)         NOT NULL                    COMMENT '이벤트 ID',
+    payload_type    VARCHAR(255)        NOT NULL                    COMMENT '이벤트 클래스명',
+    payload         MEDIUMTEXT          NOT NULL                    COMMENT '이벤트 JSON',
+    created_at      TIMESTAMP(6)        NOT NULL    DEFAULT CURRENT_TIMESTAMP(6) COMMENT '적재 일시',
+    published_at    TIMESTAMP(6)        NULL                        COMMENT '발행 일시 (NULL: 미발행)',
+    -- relay: WHERE published_at IS NULL ORDER BY outbox_id / purge: WHERE published_at < ?
+    INDEX       idx_outbox_published_id (published_at, outbox_id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='이벤트 Outbox 테이블';
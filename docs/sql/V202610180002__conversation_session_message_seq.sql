@@ -0,0 +1,17 @@
+-- =============================================================================
+-- Migration: conversation_sessions.message_seq 추가
+-- 목적: 메시지 sequence_number를 MAX 조회 없이 세션 행의 원자적 증가로 할당
+--       (동시 저장 시 중복 sequence_number 방지)
+-- 날짜: 2026-10-18
+-- =============================================================================
+
+ALTER TABLE chatbot.conversation_sessions
+    ADD COLUMN message_seq INT NOT NULL DEFAULT 0 COMMENT '마지막으로 할당된 메시지 sequence_number' AFTER is_active;
+
+-- 기존 세션은 현재 최대 sequence_number부터 이어서 할당
+UPDATE chatbot.conversation_sessions s
+SET s.message_seq = (
+    SELECT COALESCE(MAX(m.sequence_number), 0)
+    FROM chatbot.conversation_messages m
+    WHERE m.session_id = s.session_id
+);